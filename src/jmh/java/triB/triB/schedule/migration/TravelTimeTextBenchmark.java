@@ -0,0 +1,42 @@
+package triB.triB.schedule.migration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import triB.triB.schedule.service.RoutesApiService;
+
+/**
+ * 이동시간 문자열 변환 벤치마크
+ *
+ * <p>parseTravelTimeToMinutes는 travel_minutes 컬럼 도입 때 제거되어
+ * 같은 파싱 로직인 레거시 마이그레이션 파서와 표시용 포맷터를 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class TravelTimeTextBenchmark {
+
+    private static final String[] TEXTS = {"30분", "1시간 30분", "2시간", "45", "3시간 5분", "", "알 수 없음"};
+    private static final int[] MINUTES = {0, 5, 30, 60, 90, 125, 600};
+
+    private RoutesApiService routesApiService;
+
+    @Setup
+    public void setUp() {
+        routesApiService = new RoutesApiService(null, null, null, null, 1, 10);
+    }
+
+    @Benchmark
+    public void parseLegacyTravelTime(Blackhole blackhole) {
+        for (String text : TEXTS) {
+            blackhole.consume(TravelMinutesMigration.parseLegacyTravelTime(text));
+        }
+    }
+
+    @Benchmark
+    public void formatMinutesToReadable(Blackhole blackhole) {
+        for (int minutes : MINUTES) {
+            blackhole.consume(routesApiService.formatMinutesToReadable(minutes));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package triB.triB.schedule.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * 하루 방문 순서 최적화 벤치마크 (마지막 위치 숙소 고정, 비대칭 이동시간 행렬)
+ */
+@State(Scope.Benchmark)
+public class DayRouteOptimizerBenchmark {
+
+    @Param({"5", "20", "40"})
+    public int stopsPerDay;
+
+    private int[][] durations;
+    private boolean[] fixed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        durations = new int[stopsPerDay][stopsPerDay];
+        for (int i = 0; i < stopsPerDay; i++) {
+            for (int j = 0; j < stopsPerDay; j++) {
+                durations[i][j] = i == j ? 0 : 5 + random.nextInt(55);
+            }
+        }
+        fixed = new boolean[stopsPerDay];
+        fixed[stopsPerDay - 1] = true;
+    }
+
+    @Benchmark
+    public int[] optimize() {
+        return DayRouteOptimizer.optimize(durations, fixed);
+    }
+}
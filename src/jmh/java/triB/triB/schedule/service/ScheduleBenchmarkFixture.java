@@ -0,0 +1,201 @@
+package triB.triB.schedule.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import triB.triB.chat.entity.PlaceTag;
+import triB.triB.global.infra.RedisClient;
+import triB.triB.room.entity.Room;
+import triB.triB.room.repository.RoomRepository;
+import triB.triB.room.repository.UserRoomRepository;
+import triB.triB.schedule.entity.Schedule;
+import triB.triB.schedule.entity.TravelMode;
+import triB.triB.schedule.entity.Trip;
+import triB.triB.schedule.repository.ScheduleRepository;
+import triB.triB.schedule.repository.TripRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * 벤치마크용 합성 여행 + 메모리 저장소
+ *
+ * <p>DB, Redis, Google Routes API 없이 ScheduleService를 구성합니다.
+ * 저장소는 벤치마크 대상 경로에서 호출하는 메서드만 지원하는 동적 프록시이며,
+ * 하루 일정은 DB처럼 순서가 보장되지 않도록 섞어서 돌려줍니다.
+ */
+final class ScheduleBenchmarkFixture {
+
+    static final Long TRIP_ID = 1L;
+    static final Long ROOM_ID = 10L;
+    static final Long USER_ID = 100L;
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 10, 1);
+    private static final double BASE_LATITUDE = 37.5665;
+    private static final double BASE_LONGITUDE = 126.9780;
+
+    private final Trip trip;
+    private final Room room;
+    private final Map<Integer, List<Schedule>> schedulesByDay = new TreeMap<>();
+    private final List<Schedule> allSchedules = new ArrayList<>();
+
+    /**
+     * @param days        여행 일수
+     * @param stopsPerDay 하루 일정 수 (마지막은 숙소)
+     */
+    ScheduleBenchmarkFixture(int days, int stopsPerDay) {
+        Random random = new Random(42);
+        this.room = Room.builder()
+                .roomId(ROOM_ID)
+                .roomName("benchmark")
+                .destination("서울")
+                .startDate(START_DATE)
+                .endDate(START_DATE.plusDays(days - 1))
+                .build();
+        this.trip = Trip.builder()
+                .tripId(TRIP_ID)
+                .roomId(ROOM_ID)
+                .room(room)
+                .destination("서울")
+                .travelMode(TravelMode.DRIVE)
+                .budget(1_000_000)
+                .build();
+
+        long scheduleId = 1;
+        PlaceTag[] tags = {PlaceTag.TOURIST_SPOT, PlaceTag.RESTAURANT, PlaceTag.CAFE, PlaceTag.OTHER};
+        for (int day = 1; day <= days; day++) {
+            LocalDate date = START_DATE.plusDays(day - 1);
+            LocalDateTime arrival = date.atTime(9, 0);
+            List<Schedule> daySchedules = new ArrayList<>(stopsPerDay);
+
+            for (int order = 1; order <= stopsPerDay; order++) {
+                boolean last = order == stopsPerDay;
+                int stayMinutes = last ? 600 : 30 + random.nextInt(90);
+                Integer travelMinutes = last ? null : 5 + random.nextInt(55);
+
+                Schedule schedule = Schedule.builder()
+                        .scheduleId(scheduleId++)
+                        .tripId(TRIP_ID)
+                        .dayNumber(day)
+                        .date(date)
+                        .visitOrder(order)
+                        .placeName("장소 " + day + "-" + order)
+                        .placeTag(last ? PlaceTag.HOME : tags[random.nextInt(tags.length)])
+                        .latitude(BASE_LATITUDE + random.nextDouble() * 0.1)
+                        .longitude(BASE_LONGITUDE + random.nextDouble() * 0.1)
+                        .isVisit(false)
+                        .arrival(arrival)
+                        .departure(arrival.plusMinutes(stayMinutes))
+                        .travelMinutes(travelMinutes)
+                        .travelTimeEstimated(travelMinutes != null && random.nextBoolean())
+                        .build();
+                daySchedules.add(schedule);
+                arrival = schedule.getDeparture().plusMinutes(travelMinutes != null ? travelMinutes : 0);
+            }
+
+            allSchedules.addAll(daySchedules);
+            Collections.shuffle(daySchedules, random);
+            schedulesByDay.put(day, daySchedules);
+        }
+    }
+
+    List<Schedule> daySchedules(int dayNumber) {
+        return schedulesByDay.get(dayNumber);
+    }
+
+    /**
+     * 메모리 저장소로 구성한 ScheduleService (수정 잠금은 no-op)
+     */
+    ScheduleService scheduleService() {
+        TripRepository tripRepository = tripRepository();
+        UserRoomRepository userRoomRepository = userRoomRepository();
+        RedisClient redisClient = new RedisClient(null) {
+            @Override
+            public String getData(String prefix, String key) {
+                return null;
+            }
+
+            @Override
+            public void setData(String prefix, String key, String value, long duration) {
+            }
+        };
+        TripAccessService tripAccessService = new TripAccessService(
+                tripRepository, userRoomRepository, redisClient, new SimpleMeterRegistry(), 1000, 3600, 30);
+        ScheduleEditGuard scheduleEditGuard = new ScheduleEditGuard(tripRepository, redisClient, 0) {
+            @Override
+            public void begin(Long tripId, Long expectedVersion) {
+            }
+        };
+        RoutesApiService routesApiService = new RoutesApiService(null, null, null, null, 1, 10);
+
+        return new ScheduleService(tripRepository, scheduleRepository(), roomRepository(), routesApiService,
+                null, routesApiService, null, event -> { }, tripAccessService, scheduleEditGuard,
+                new AccommodationCascadeStore(redisClient, 60, 168), null);
+    }
+
+    private TripRepository tripRepository() {
+        return repository(TripRepository.class, (method, args) -> switch (method) {
+            case "findById", "findWithRoomByTripId" -> TRIP_ID.equals(args[0]) ? Optional.of(trip) : Optional.empty();
+            case "findScheduleVersionByTripId" -> Optional.of(trip.getScheduleVersion());
+            default -> unsupported(method);
+        });
+    }
+
+    private RoomRepository roomRepository() {
+        return repository(RoomRepository.class, (method, args) -> switch (method) {
+            case "findById" -> ROOM_ID.equals(args[0]) ? Optional.of(room) : Optional.empty();
+            default -> unsupported(method);
+        });
+    }
+
+    private UserRoomRepository userRoomRepository() {
+        return repository(UserRoomRepository.class, (method, args) -> switch (method) {
+            case "existsById" -> true;
+            default -> unsupported(method);
+        });
+    }
+
+    private ScheduleRepository scheduleRepository() {
+        return repository(ScheduleRepository.class, (method, args) -> switch (method) {
+            case "findByTripIdAndDayNumber" -> new ArrayList<>(schedulesByDay.getOrDefault((Integer) args[1], List.of()));
+            case "findByTripIdOrderByDayNumberAscVisitOrderAsc" -> new ArrayList<>(allSchedules);
+            case "findByScheduleIdAndTripId" -> allSchedules.stream()
+                    .filter(schedule -> schedule.getScheduleId().equals(args[0]))
+                    .findFirst();
+            case "sumTravelMinutesByTripIdAndDayNumber" -> schedulesByDay.getOrDefault((Integer) args[1], List.of())
+                    .stream()
+                    .map(Schedule::getTravelMinutes)
+                    .filter(Objects::nonNull)
+                    .mapToLong(Integer::longValue)
+                    .sum();
+            default -> unsupported(method);
+        });
+    }
+
+    private static Object unsupported(String method) {
+        throw new UnsupportedOperationException("벤치마크 저장소에서 지원하지 않는 메서드입니다: " + method);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T repository(Class<T> type, RepositoryHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + "(in-memory)";
+                    default -> handler.handle(method.getName(), args);
+                });
+    }
+
+    @FunctionalInterface
+    private interface RepositoryHandler {
+        Object handle(String method, Object[] args);
+    }
+}
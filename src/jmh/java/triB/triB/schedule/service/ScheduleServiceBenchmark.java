@@ -0,0 +1,69 @@
+package triB.triB.schedule.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import triB.triB.schedule.dto.ScheduleItemResponse;
+import triB.triB.schedule.dto.TripItineraryResponse;
+import triB.triB.schedule.dto.TripScheduleResponse;
+import triB.triB.schedule.dto.UpdateStayDurationRequest;
+import triB.triB.schedule.entity.Schedule;
+
+import java.util.Comparator;
+
+/**
+ * 일정 조회/수정 경로 벤치마크 (합성 여행, 메모리 저장소)
+ *
+ * <ul>
+ *     <li>getTripSchedules: 하루 일정 정렬 + ScheduleItemResponse 매핑</li>
+ *     <li>getTripItinerary: 전체 일정 일차별 그룹핑 + 매핑</li>
+ *     <li>updateStayDuration: 하루 첫 일정 체류시간 수정 후 도착/출발 시간 연쇄 계산</li>
+ * </ul>
+ * 실행: {@code ./gradlew jmh} (결과는 build/results/jmh/results.json)
+ */
+@State(Scope.Benchmark)
+public class ScheduleServiceBenchmark {
+
+    @Param({"1", "7", "30"})
+    public int days;
+
+    @Param({"5", "20", "40"})
+    public int stopsPerDay;
+
+    private ScheduleService scheduleService;
+    private Long firstScheduleId;
+    private int middleDay;
+    private int stayMinutes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ScheduleBenchmarkFixture fixture = new ScheduleBenchmarkFixture(days, stopsPerDay);
+        scheduleService = fixture.scheduleService();
+        middleDay = (days + 1) / 2;
+        firstScheduleId = fixture.daySchedules(middleDay).stream()
+                .min(Comparator.comparing(Schedule::getVisitOrder))
+                .map(Schedule::getScheduleId)
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public TripScheduleResponse getTripSchedules() {
+        return scheduleService.getTripSchedules(ScheduleBenchmarkFixture.TRIP_ID, middleDay, ScheduleBenchmarkFixture.USER_ID);
+    }
+
+    @Benchmark
+    public TripItineraryResponse getTripItinerary() {
+        return scheduleService.getTripItinerary(ScheduleBenchmarkFixture.TRIP_ID, ScheduleBenchmarkFixture.USER_ID);
+    }
+
+    @Benchmark
+    public ScheduleItemResponse updateStayDuration() {
+        // 매 호출마다 값을 바꿔 모든 이후 일정의 시간이 실제로 바뀌도록 함
+        stayMinutes = stayMinutes == 60 ? 90 : 60;
+        return scheduleService.updateStayDuration(ScheduleBenchmarkFixture.TRIP_ID, firstScheduleId,
+                new UpdateStayDurationRequest(stayMinutes), ScheduleBenchmarkFixture.USER_ID, null);
+    }
+}
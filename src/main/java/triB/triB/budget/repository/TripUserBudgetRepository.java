@@ -4,6 +4,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import triB.triB.budget.entity.TripUserBudget;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,6 +14,9 @@ public interface TripUserBudgetRepository extends JpaRepository<TripUserBudget,
     // 인덱스 활용: uq_tub_trip_user (trip_id, user_id)
     Optional<TripUserBudget> findByTripIdAndUserId(Long tripId, Long userId);
 
+    // 여러 여행의 사용자 예산 배치 조회 (여행 목록용)
+    List<TripUserBudget> findByUserIdAndTripIdIn(Long userId, Collection<Long> tripIds);
+
     // 예산 존재 여부 확인
     boolean existsByTripIdAndUserId(Long tripId, Long userId);
 }
@@ -9,10 +9,7 @@ import triB.triB.budget.dto.BudgetResponse;
 import triB.triB.budget.dto.BudgetUpdateRequest;
 import triB.triB.budget.entity.TripUserBudget;
 import triB.triB.budget.repository.TripUserBudgetRepository;
-import triB.triB.room.entity.UserRoomId;
-import triB.triB.room.repository.UserRoomRepository;
-import triB.triB.schedule.entity.Trip;
-import triB.triB.schedule.repository.TripRepository;
+import triB.triB.schedule.service.TripAccessService;
 
 @Service
 @RequiredArgsConstructor
@@ -20,9 +17,8 @@ import triB.triB.schedule.repository.TripRepository;
 public class BudgetService {
 
     private final TripUserBudgetRepository budgetRepository;
-    private final TripRepository tripRepository;
     private final UserRepository userRepository;
-    private final UserRoomRepository userRoomRepository;
+    private final TripAccessService tripAccessService;
 
     @Transactional
     public BudgetResponse createBudget(Long tripId, Long userId, BudgetCreateRequest request) {
@@ -90,18 +86,10 @@ public class BudgetService {
     }
 
     /**
-     * 사용자가 해당 여행의 참여자인지 검증
-     * Trip -> Room -> UserRoom 순으로 확인
+     * 사용자가 해당 여행의 참여자인지 검증 (TripAccessService 캐시 사용)
      */
     private void validateUserInTrip(Long tripId, Long userId) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
-
-        Long roomId = trip.getRoomId();
-        UserRoomId userRoomId = new UserRoomId(userId, roomId);
-
-        boolean isParticipant = userRoomRepository.existsById(userRoomId);
-        if (!isParticipant) {
+        if (!tripAccessService.isParticipant(tripId, userId)) {
             throw new IllegalArgumentException("해당 여행의 참여자만 접근할 수 있습니다.");
         }
     }
@@ -7,11 +7,11 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
 import triB.triB.chat.dto.RoomChatResponse;
-import triB.triB.chat.dto.TripCreateStatus;
 import triB.triB.chat.dto.TripCreateStatusResponse;
 import triB.triB.chat.dto.TripResponse;
 import triB.triB.chat.service.ChatService;
 import triB.triB.chat.service.SocketService;
+import triB.triB.chat.service.TripGenerationJobQueue;
 import triB.triB.global.response.ApiResponse;
 import triB.triB.global.security.UserPrincipal;
 
@@ -24,15 +24,30 @@ public class ChatController {
 
     private final ChatService chatService;
     private final SocketService socketService;
+    private final TripGenerationJobQueue tripGenerationJobQueue;
 
-    // 채팅방 조회시 모든 채팅 내용 가져오기
+    // 채팅 내역 페이지 조회 (before/after: messageId 커서, 없으면 최신 메세지부터)
     @GetMapping("/{roomId}")
     public ResponseEntity<ApiResponse<RoomChatResponse>> getMessages(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PathVariable(name = "roomId") Long roomId) {
+            @PathVariable(name = "roomId") Long roomId,
+            @RequestParam(name = "before", required = false) Long before,
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "size", defaultValue = "50") int size) {
         Long userId = userPrincipal.getUserId();
-        RoomChatResponse result = chatService.getRoomMessages(userId, roomId);
-        return ApiResponse.ok("이전까지의 모든 채팅 내역을 조회했습니다.", result);
+        RoomChatResponse result = chatService.getRoomMessages(userId, roomId, before, after, size);
+        return ApiResponse.ok("채팅 내역을 조회했습니다.", result);
+    }
+
+    // 마지막으로 읽은 메세지 주변 채팅 내역 조회
+    @GetMapping("/{roomId}/last-read")
+    public ResponseEntity<ApiResponse<RoomChatResponse>> getMessagesAroundLastRead(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable(name = "roomId") Long roomId,
+            @RequestParam(name = "size", defaultValue = "50") int size) {
+        Long userId = userPrincipal.getUserId();
+        RoomChatResponse result = chatService.getRoomMessagesAroundLastRead(userId, roomId, size);
+        return ApiResponse.ok("마지막으로 읽은 위치의 채팅 내역을 조회했습니다.", result);
     }
 
     // 일정 생성하기
@@ -42,11 +57,19 @@ public class ChatController {
             @RequestParam(name = "roomId") Long roomId
     ) {
         Long userId = userPrincipal.getUserId();
-        return Mono.fromCallable(() -> {
-                chatService.startTripAsync(userId, roomId);
-                return ApiResponse.ok(
-                        "요청을 접수했습니다.", new TripCreateStatusResponse(TripCreateStatus.WAITING, null));
-        });
+        return Mono.fromCallable(() -> ApiResponse.ok(
+                "요청을 접수했습니다.", tripGenerationJobQueue.submit(userId, roomId)));
+    }
+
+    // 일정 생성 취소
+    @DeleteMapping("/trip")
+    public ResponseEntity<ApiResponse<TripCreateStatusResponse>> cancelTrip(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(name = "roomId") Long roomId
+    ) {
+        Long userId = userPrincipal.getUserId();
+        TripCreateStatusResponse response = tripGenerationJobQueue.cancel(userId, roomId);
+        return ApiResponse.ok("일정 생성 취소를 요청했습니다.", response);
     }
 
     // 일정 생성 상태 조회
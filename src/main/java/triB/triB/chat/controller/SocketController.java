@@ -5,7 +5,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.handler.annotation.*;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -13,6 +12,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.ErrorResponse;
 import triB.triB.chat.dto.*;
 import triB.triB.chat.service.SocketService;
+import triB.triB.chat.stomp.ChatRoomBroadcaster;
 import triB.triB.global.response.ApiResponse;
 import triB.triB.global.security.JwtProvider;
 import triB.triB.global.security.UserPrincipal;
@@ -26,7 +26,7 @@ public class SocketController {
 
     private final SocketService socketService;
     private final JwtProvider jwtProvider;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
 
     // client가 메세지 전송
     @MessageMapping("/chat/{roomId}/send")
@@ -38,8 +38,8 @@ public class SocketController {
         UserPrincipal userPrincipal = (UserPrincipal) auth.getPrincipal();
         Long userId = userPrincipal.getUserId();
         MessageResponse result = socketService.sendMessageToRoom(userId, roomId, messageContentRequest.getContent());
-        messagingTemplate.convertAndSend(
-                "/sub/chat/" + roomId,
+        chatRoomBroadcaster.broadcast(
+                roomId,
                 ApiResponse.success("메세지를 전송했습니다.", result)
         );
     }
@@ -55,8 +55,8 @@ public class SocketController {
         UserPrincipal userPrincipal = (UserPrincipal) auth.getPrincipal();
         Long userId = userPrincipal.getUserId();
         MessageResponse result = socketService.replyMessageToRoom(userId, roomId, messageReplyRequest.getContent(), messageReplyRequest.getMessageId());
-        messagingTemplate.convertAndSend(
-                "/sub/chat/"+roomId,
+        chatRoomBroadcaster.broadcast(
+                roomId,
                 ApiResponse.success("메세지를 답장했습니다.", result)
         );
     }
@@ -72,8 +72,8 @@ public class SocketController {
         UserPrincipal userPrincipal = (UserPrincipal) auth.getPrincipal();
         Long userId = userPrincipal.getUserId();
         MessageResponse result = socketService.sendMapMessageToRoom(userId, roomId, placeRequest.getPlaceId(), placeRequest.getDisplayName(), placeRequest.getLatitude(), placeRequest.getLongitude(), placeRequest.getPhotoUrl());
-        messagingTemplate.convertAndSend(
-                "/sub/chat/" + roomId,
+        chatRoomBroadcaster.broadcast(
+                roomId,
                 ApiResponse.success("장소를 공유했습니다.", result)
         );
     }
@@ -89,8 +89,8 @@ public class SocketController {
         UserPrincipal userPrincipal = (UserPrincipal) auth.getPrincipal();
         Long userId = userPrincipal.getUserId();
         MessageResponse result = socketService.shareCommunityTripPost(userId, roomId, messageCommunityRequest.getPostId());
-        messagingTemplate.convertAndSend(
-                "/sub/chat/" + roomId,
+        chatRoomBroadcaster.broadcast(
+                roomId,
                 ApiResponse.success("게시글을 공유했습니다.", result)
         );
     }
@@ -102,8 +102,8 @@ public class SocketController {
             @Payload MessageIdRequest messageIdRequest)
     {
         MessageResponse result = socketService.setBookmark(messageIdRequest.getMessageId());
-        messagingTemplate.convertAndSend(
-                "/sub/chat/" + roomId,
+        chatRoomBroadcaster.broadcast(
+                roomId,
                 ApiResponse.success("북마크를 업데이트했습니다.", result)
         );
     }
@@ -115,8 +115,8 @@ public class SocketController {
             @Payload MessagePlaceRequest messagePlaceRequest)
     {
         MessageResponse result = socketService.setPlaceTag(messagePlaceRequest.getMessageId(), messagePlaceRequest.getPlaceTag());
-        messagingTemplate.convertAndSend(
-                "/sub/chat/" + roomId,
+        chatRoomBroadcaster.broadcast(
+                roomId,
                 ApiResponse.success("장소 태그를 업데이트했습니다", result)
         );
     }
@@ -128,8 +128,8 @@ public class SocketController {
             @Payload MessageEditRequest messageEditRequest)
     {
         MessageResponse result = socketService.editMessage(messageEditRequest.getMessageId(), messageEditRequest.getContent());
-        messagingTemplate.convertAndSend(
-                "/sub/chat/" + roomId,
+        chatRoomBroadcaster.broadcast(
+                roomId,
                 ApiResponse.success("메세지를 수정했습니다.", result)
         );
     }
@@ -141,8 +141,8 @@ public class SocketController {
             @Payload MessageIdRequest messageIdRequest)
     {
         MessageResponse result = socketService.deleteMessage(messageIdRequest.getMessageId());
-        messagingTemplate.convertAndSend(
-                "/sub/chat/" + roomId,
+        chatRoomBroadcaster.broadcast(
+                roomId,
                 ApiResponse.success("메세지를 삭제했습니다.", result)
         );
     }
@@ -1,7 +1,9 @@
 package triB.triB.chat.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import triB.triB.chat.entity.MessageStatus;
 import triB.triB.chat.entity.MessageType;
@@ -10,6 +12,8 @@ import triB.triB.chat.entity.PlaceTag;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MessageDto {
     private Long messageId;
     private String content;
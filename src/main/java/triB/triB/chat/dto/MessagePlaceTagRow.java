@@ -0,0 +1,13 @@
+package triB.triB.chat.dto;
+
+import triB.triB.chat.entity.PlaceTag;
+
+/**
+ * 메세지별 장소 태그 (JPA 인터페이스 프로젝션)
+ */
+public interface MessagePlaceTagRow {
+
+    Long getMessageId();
+
+    PlaceTag getPlaceTag();
+}
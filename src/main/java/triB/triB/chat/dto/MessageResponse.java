@@ -1,7 +1,9 @@
 package triB.triB.chat.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import triB.triB.friendship.dto.UserResponse;
 
@@ -10,6 +12,8 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MessageResponse {
     private ActionType actionType;
     private UserResponse user;
@@ -0,0 +1,15 @@
+package triB.triB.chat.dto;
+
+import triB.triB.chat.entity.MessageType;
+
+/**
+ * AI 요청 생성용 메세지 (JPA 인터페이스 프로젝션)
+ */
+public interface ModelMessageRow {
+
+    Long getMessageId();
+
+    MessageType getMessageType();
+
+    String getContent();
+}
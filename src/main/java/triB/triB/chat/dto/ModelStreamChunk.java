@@ -0,0 +1,72 @@
+package triB.triB.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import triB.triB.schedule.entity.TravelMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 모델 서버 일정 생성 스트리밍 응답 (application/x-ndjson) 한 줄
+ *
+ * <p>첫 줄은 여행 정보(type=meta), 이후 하루 일정마다 한 줄(type=day)이 옵니다.
+ * 스트리밍을 지원하지 않는 서버는 기존 ModelResponse 전체를 한 번에 보내며(type 없음),
+ * {@link #expand()}로 같은 순서의 meta/day 조각으로 나눠 처리합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ModelStreamChunk {
+
+    public enum Type {
+        @JsonProperty("meta") META,
+        @JsonProperty("day") DAY
+    }
+
+    private Type type;
+
+    // meta
+    private Integer budget;
+    private TravelMode travelMode;
+    private String accommodationCostInfo;
+    private Integer totalDays;
+
+    // day
+    private Integer day;
+    private List<ModelResponse.Visit> visits;
+
+    // 스트리밍 미지원 서버의 전체 응답
+    private List<ModelResponse.Itinerary> itinerary;
+
+    public List<ModelStreamChunk> expand() {
+        if (type != null) {
+            return List.of(this);
+        }
+
+        List<ModelResponse.Itinerary> days = itinerary != null ? itinerary : List.of();
+        List<ModelStreamChunk> chunks = new ArrayList<>(days.size() + 1);
+        chunks.add(ModelStreamChunk.builder()
+                .type(Type.META)
+                .budget(budget)
+                .travelMode(travelMode)
+                .accommodationCostInfo(accommodationCostInfo)
+                .totalDays(days.size())
+                .build());
+        days.forEach(d -> chunks.add(ModelStreamChunk.builder()
+                .type(Type.DAY)
+                .day(d.getDay())
+                .visits(d.getVisits())
+                .build()));
+        return chunks;
+    }
+}
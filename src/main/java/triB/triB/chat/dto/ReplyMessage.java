@@ -2,8 +2,10 @@ package triB.triB.chat.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class ReplyMessage {
     private Long messageId;
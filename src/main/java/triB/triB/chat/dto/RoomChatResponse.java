@@ -12,4 +12,9 @@ import java.util.List;
 public class RoomChatResponse {
     private String roomName;
     private List<MessageResponse> messages;
+    // 이전(더 오래된) 메세지가 더 있는지
+    private Boolean hasPrevious;
+    // 다음(더 최신) 메세지가 더 있는지
+    private Boolean hasNext;
+    private Long lastReadMessageId;
 }
@@ -0,0 +1,18 @@
+package triB.triB.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 일정 생성 진행 상황 (STOMP /sub/chat/{roomId})
+@Getter
+@Builder
+@AllArgsConstructor
+public class TripCreateProgressResponse {
+    private TripCreateStatus tripCreateStatus;
+    private Long tripId;            // SUCCESS일 때만
+    private Integer dayNumber;      // 방금 저장된 일차
+    private Integer completedDays;
+    private Integer totalDays;
+    private Integer progress;       // 0~100
+}
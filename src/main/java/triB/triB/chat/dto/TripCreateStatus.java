@@ -4,5 +4,7 @@ public enum TripCreateStatus {
     NOT_STARTED,
     WAITING,
     RUNNING,
-    SUCCESS
+    SUCCESS,
+    CANCELLED,
+    FAILED
 }
@@ -9,4 +9,5 @@ import lombok.Setter;
 public class TripCreateStatusResponse {
     private TripCreateStatus tripCreateStatus;
     private Long tripId;
-}
\ No newline at end of file
+    private Integer progress;   // 0~100, 생성 중이 아니면 null
+}
@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
 @Table(
         name = "messages",
         indexes = {
-                @Index(name = "idx_room_id", columnList = "room_id"),
+                @Index(name = "idx_room_message", columnList = "room_id, message_id"),
                 @Index(name = "idx_created_at", columnList = "created_at"),
                 @Index(name = "idx_msg_type", columnList = "message_type")
         }
@@ -3,8 +3,6 @@ package triB.triB.chat.event;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.user.SimpUserRegistry;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -13,17 +11,17 @@ import triB.triB.auth.entity.Token;
 import triB.triB.auth.entity.User;
 import triB.triB.auth.entity.UserStatus;
 import triB.triB.auth.repository.TokenRepository;
+import triB.triB.chat.stomp.RoomPresenceRegistry;
 import triB.triB.global.fcm.FcmSendRequest;
 import triB.triB.global.fcm.FcmSender;
 import triB.triB.global.fcm.RequestType;
-import triB.triB.global.security.UserPrincipal;
 import triB.triB.room.entity.Room;
 import triB.triB.room.repository.RoomRepository;
 import triB.triB.room.repository.UserRoomRepository;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -33,7 +31,7 @@ public class ChatPushNotifier {
     private final UserRoomRepository userRoomRepository;
     private final TokenRepository tokenRepository;
     private final RoomRepository roomRepository;
-    private final SimpUserRegistry simpUserRegistry;
+    private final RoomPresenceRegistry roomPresenceRegistry;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onMessageCreated(ChatMessageCreatedEvent e){
@@ -42,11 +40,13 @@ public class ChatPushNotifier {
             Room room = roomRepository.findById(e.roomId())
                     .orElseThrow(() -> new EntityNotFoundException("해당 채팅방이 존재하지 않습니다"));
             List<User> users = userRoomRepository.findUsersByRoomIdAndIsAlarm(e.roomId(), IsAlarm.ON);
+            // 채팅방을 보고 있는 사용자는 푸시 제외
+            Set<Long> onlineUserIds = roomPresenceRegistry.getOnlineUserIds(e.roomId());
             List<Long> targetUserIds = users.stream()
                     .filter(user -> user.getUserStatus() == UserStatus.ACTIVE)
                     .map(User::getUserId)
                     .filter(id -> !Objects.equals(id, e.userId()))
-                    .filter(id -> !isOnlineUsersInRoom(e. roomId(), id))
+                    .filter(id -> !onlineUserIds.contains(id))
                     .toList();
 
             if (targetUserIds.isEmpty()) return;
@@ -80,26 +80,4 @@ public class ChatPushNotifier {
             log.error("FCM push after-commit failed. roomId={}", e.roomId(), ex);
         }
     }
-
-    private boolean isOnlineUsersInRoom(Long roomId, Long userId) {
-        List<Long> onlineUserIds = new ArrayList<>();
-        String destination = "/sub/chat/" + roomId;
-
-        simpUserRegistry.getUsers().forEach(user -> {
-            user.getSessions().forEach(session -> {
-                session.getSubscriptions().forEach(subscription -> {
-                    if (destination.equals(subscription.getDestination())) {
-                        if (user.getPrincipal() instanceof UsernamePasswordAuthenticationToken) {
-                            UsernamePasswordAuthenticationToken auth = (UsernamePasswordAuthenticationToken) user.getPrincipal();
-                            if (auth.getPrincipal() instanceof UserPrincipal) {
-                                UserPrincipal userPrincipal = (UserPrincipal) auth.getPrincipal();
-                                onlineUserIds.add(userPrincipal.getUserId());
-                            }
-                        }
-                    }
-                });
-            });
-        });
-        return onlineUserIds.contains(userId);
-    }
 }
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import triB.triB.auth.entity.IsAlarm;
 import triB.triB.auth.entity.Token;
 import triB.triB.auth.entity.User;
@@ -29,7 +31,8 @@ public class TripPushNotifier {
     private final TokenRepository tokenRepository;
     private final UserRoomRepository userRoomRepository;
 
-    @EventListener(TripCreatedEvent.class)
+    // 일정 저장 트랜잭션 커밋 후 알림 (알림을 받은 사용자가 바로 일정을 조회할 수 있도록)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void onTripCreated(TripCreatedEvent e) {
         try {
             log.info("trip created notification send");
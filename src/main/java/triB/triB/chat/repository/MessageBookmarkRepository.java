@@ -22,4 +22,8 @@ public interface MessageBookmarkRepository extends JpaRepository<MessageBookmark
     // 메세지 리스트로 배치조회
     @Query("select mb from MessageBookmark mb where mb.message.messageId in :messageIds")
     List<MessageBookmark> findByMessageIds(@Param("messageIds") List<Long> messageIds);
+
+    // 채팅방에서 북마크된 메세지 id (AI 요청 생성용)
+    @Query("select mb.message.messageId from MessageBookmark mb where mb.room.roomId = :roomId and mb.message is not null")
+    List<Long> findBookmarkedMessageIdsByRoomId(@Param("roomId") Long roomId);
 }
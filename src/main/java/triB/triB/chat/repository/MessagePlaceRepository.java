@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import triB.triB.chat.dto.MessagePlaceTagRow;
 import triB.triB.chat.entity.MessagePlace;
 import triB.triB.chat.entity.PlaceTag;
 
@@ -23,4 +24,8 @@ public interface MessagePlaceRepository extends JpaRepository<MessagePlace, Long
     // 배치조회로 메세지 리스트에서 빠르게 조회
     @Query("select mp from MessagePlace mp where mp.message.messageId in :messageIds")
     List<MessagePlace> findByMessageIds(@Param("messageIds") List<Long> messageIds);
+
+    // 채팅방 전체 메세지의 장소 태그 (AI 요청 생성용)
+    @Query("select mp.message.messageId as messageId, mp.placeTag as placeTag from MessagePlace mp where mp.room.roomId = :roomId")
+    List<MessagePlaceTagRow> findPlaceTagsByRoomId(@Param("roomId") Long roomId);
 }
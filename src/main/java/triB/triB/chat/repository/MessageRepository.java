@@ -1,14 +1,20 @@
 package triB.triB.chat.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import triB.triB.auth.entity.User;
+import triB.triB.chat.dto.ModelMessageRow;
 import triB.triB.chat.entity.Message;
-import triB.triB.chat.entity.MessageType;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
@@ -21,7 +27,25 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     @Query("select m.messageId from Message m where m.room.roomId = :roomId order by m.createdAt desc limit 1")
     Long findLastReadMessageIdByRoom_RoomId(Long roomId);
 
-    List<Message> findAllByRoom_RoomIdOrderByCreatedAtAsc(Long roomId);
+    // 커서(before) 이전 메세지, 최신순 (idx_room_message)
+    @Query("select m from Message m join fetch m.user left join fetch m.replyMessage " +
+            "where m.room.roomId = :roomId and m.messageId < :before order by m.messageId desc")
+    List<Message> findPageBefore(@Param("roomId") Long roomId, @Param("before") Long before, Limit limit);
+
+    // 커서(after) 이후 메세지, 오래된순 (idx_room_message)
+    @Query("select m from Message m join fetch m.user left join fetch m.replyMessage " +
+            "where m.room.roomId = :roomId and m.messageId > :after order by m.messageId asc")
+    List<Message> findPageAfter(@Param("roomId") Long roomId, @Param("after") Long after, Limit limit);
+
+    // AI 요청 생성용 (삭제 제외, 필요한 컬럼만 MySQL 스트리밍으로 한 행씩 읽음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select m.messageId as messageId, m.messageType as messageType, m.content as content from Message m " +
+            "where m.room.roomId = :roomId and m.messageStatus <> triB.triB.chat.entity.MessageStatus.DELETE " +
+            "order by m.createdAt asc, m.messageId asc")
+    Stream<ModelMessageRow> streamModelMessagesByRoomId(@Param("roomId") Long roomId);
 
     // 배치로 안읽은 메시지 수 조회
     @Query("select m.room.roomId, count(m) from Message m " +
@@ -30,5 +54,19 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
             "group by m.room.roomId")
     List<Object[]> countUnreadMessagesBatch(@Param("roomIds") List<Long> roomIds, @Param("userId") Long userId);
 
-    List<Message> findByMessageTypeAndContent(MessageType messageType, String content);
+    // 게시글이 공유된 채팅방
+    @Query("select distinct m.room.roomId from Message m " +
+            "where m.messageType = triB.triB.chat.entity.MessageType.COMMUNITY_SHARE and m.content = :postId")
+    List<Long> findRoomIdsBySharedPost(@Param("postId") String postId);
+
+    // 사용자가 메세지를 보낸 채팅방
+    @Query("select distinct m.room.roomId from Message m where m.user.userId = :userId")
+    List<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+
+    // 삭제된 게시글 공유 메세지를 삭제 표시로 일괄 변경
+    @Modifying
+    @Query("update Message m set m.messageType = triB.triB.chat.entity.MessageType.TEXT, " +
+            "m.messageStatus = triB.triB.chat.entity.MessageStatus.DELETE, m.content = :tombstone " +
+            "where m.messageType = triB.triB.chat.entity.MessageType.COMMUNITY_SHARE and m.content = :postId")
+    int tombstoneSharedPost(@Param("postId") String postId, @Param("tombstone") String tombstone);
 }
\ No newline at end of file
@@ -4,50 +4,40 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import triB.triB.auth.entity.User;
-import triB.triB.auth.entity.UserStatus;
 import triB.triB.auth.repository.UserRepository;
 import triB.triB.chat.dto.*;
 import triB.triB.chat.entity.*;
-import triB.triB.chat.event.TripCreatedEvent;
-import triB.triB.chat.event.TripErrorEvent;
 import triB.triB.chat.repository.MessageBookmarkRepository;
 import triB.triB.chat.repository.MessagePlaceDetailRepository;
 import triB.triB.chat.repository.MessagePlaceRepository;
 import triB.triB.chat.repository.MessageRepository;
-import triB.triB.community.entity.Post;
-import triB.triB.community.repository.PostImageRepository;
-import triB.triB.community.repository.PostRepository;
+import triB.triB.chat.stomp.ChatRoomBroadcaster;
 import triB.triB.friendship.dto.UserResponse;
 import triB.triB.global.exception.CustomException;
 import triB.triB.global.exception.ErrorCode;
-import triB.triB.global.infra.RedisClient;
+import triB.triB.global.response.ApiResponse;
 import triB.triB.room.entity.Room;
+import triB.triB.room.repository.RoomReadStateRepository;
 import triB.triB.room.repository.RoomRepository;
 import triB.triB.room.repository.UserRoomRepository;
-import triB.triB.schedule.entity.Schedule;
 import triB.triB.schedule.entity.Trip;
 import triB.triB.schedule.entity.TripStatus;
-import triB.triB.schedule.entity.VersionStatus;
-import triB.triB.schedule.repository.ScheduleRepository;
 import triB.triB.schedule.repository.TripRepository;
 
 import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -66,24 +56,131 @@ public class ChatService {
     private final MessagePlaceRepository messagePlaceRepository;
     private final MessagePlaceDetailRepository messagePlaceDetailRepository;
     private final @Qualifier("aiModelWebClient") WebClient aiModelWebClient;
-    private final ScheduleRepository scheduleRepository;
     private final TripRepository tripRepository;
-    private final RedisClient redisClient;
     private final UserRepository userRepository;
-    private final ApplicationEventPublisher publisher;
-    private final PostRepository postRepository;
-    private final PostImageRepository postImageRepository;
+    private final TripItineraryWriter tripItineraryWriter;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final TripGenerationJobStore tripGenerationJobStore;
+    private final ModelRequestBuilder modelRequestBuilder;
+    private final RoomReadStateRepository roomReadStateRepository;
+    private final SharedPostLoader sharedPostLoader;
+    private final HotMessageCache hotMessageCache;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String DELETED_POST_CONTENT = "삭제된 게시글입니다.";
+
+    /**
+     * 채팅 내역 페이지 조회 (messageId 커서)
+     * before/after가 모두 없으면 최신 메세지부터 조회하며(최근 메세지 창 우선), 응답 메세지는 항상 오래된순입니다.
+     */
+    public RoomChatResponse getRoomMessages(Long userId, Long roomId, Long before, Long after, int size){
+        Room room = getMemberRoom(userId, roomId);
+        validatePageRequest(before, after, size);
+
+        if (after != null) {
+            List<Message> newer = messageRepository.findPageAfter(roomId, after, Limit.of(size + 1));
+            // 커서 메세지 자체가 이전 메세지
+            return toRoomChatResponse(room, trimPage(newer, size), true, newer.size() > size, null);
+        }
+        if (before == null && size <= hotMessageCache.getCapacity()) {
+            return getLatestPage(room, size);
+        }
+
+        List<Message> older = messageRepository.findPageBefore(roomId, before != null ? before : Long.MAX_VALUE, Limit.of(size + 1));
+        List<Message> page = new ArrayList<>(trimPage(older, size));
+        Collections.reverse(page);
+        return toRoomChatResponse(room, page, older.size() > size, before != null, null);
+    }
+
+    /**
+     * 최신 페이지 조회 (Redis 최근 메세지 창 → 없으면 DB에서 창 크기만큼 조회해 채운 뒤 응답)
+     */
+    private RoomChatResponse getLatestPage(Room room, int size) {
+        Long roomId = room.getRoomId();
+        HotMessageCache.Window window = hotMessageCache.read(roomId);
+        if (window.covers(size)) {
+            return RoomChatResponse.builder()
+                    .roomName(room.getRoomName())
+                    .messages(window.latest(size))
+                    .hasPrevious(window.hasPrevious(size))
+                    .hasNext(false)
+                    .lastReadMessageId(null)
+                    .build();
+        }
+
+        int capacity = hotMessageCache.getCapacity();
+        List<Message> older = messageRepository.findPageBefore(roomId, Long.MAX_VALUE, Limit.of(capacity + 1));
+        List<Message> latest = new ArrayList<>(trimPage(older, capacity));
+        Collections.reverse(latest);
+        boolean complete = older.size() <= capacity;
+
+        RoomChatResponse response = toRoomChatResponse(room, latest, !complete, false, null);
+        hotMessageCache.fill(roomId, window.generation(), response.getMessages(), complete);
+
+        List<MessageResponse> messages = response.getMessages();
+        int from = Math.max(0, messages.size() - size);
+        response.setMessages(messages.subList(from, messages.size()));
+        response.setHasPrevious(!complete || from > 0);
+        return response;
+    }
+
+    /**
+     * 마지막으로 읽은 메세지 주변 페이지 조회 (읽은 메세지 포함 이전 절반 + 이후 절반)
+     * 읽은 기록이 없으면 최신 페이지를 조회합니다.
+     */
+    public RoomChatResponse getRoomMessagesAroundLastRead(Long userId, Long roomId, int size){
+        Room room = getMemberRoom(userId, roomId);
+        validatePageRequest(null, null, size);
+
+        Long lastReadMessageId = roomReadStateRepository.findLastReadMessageId(roomId, userId);
+        if (lastReadMessageId == null) {
+            return getRoomMessages(userId, roomId, null, null, size);
+        }
 
-    public RoomChatResponse getRoomMessages(Long userId, Long roomId){
+        int olderSize = (size + 1) / 2;
+        int newerSize = size - olderSize;
+        List<Message> older = messageRepository.findPageBefore(roomId, lastReadMessageId + 1, Limit.of(olderSize + 1));
+        List<Message> newer = messageRepository.findPageAfter(roomId, lastReadMessageId, Limit.of(newerSize + 1));
+
+        List<Message> page = new ArrayList<>(trimPage(older, olderSize));
+        Collections.reverse(page);
+        page.addAll(trimPage(newer, newerSize));
+        return toRoomChatResponse(room, page, older.size() > olderSize, newer.size() > newerSize, lastReadMessageId);
+    }
+
+    private Room getMemberRoom(Long userId, Long roomId) {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 채팅방이 존재하지 않습니다."));
 
         if (!userRoomRepository.existsByUser_UserIdAndRoom_RoomId(userId, roomId))
             throw new BadCredentialsException("해당 채팅방에 대한 권한이 없습니다.");
+        return room;
+    }
 
-        log.info("채팅 내용 조회 시작");
+    private void validatePageRequest(Long before, Long after, int size) {
+        if (before != null && after != null)
+            throw new IllegalArgumentException("before와 after는 함께 사용할 수 없습니다.");
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("조회 개수는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+    }
+
+    // size + 1개 조회 결과에서 확인용 1개를 제외
+    private static List<Message> trimPage(List<Message> messages, int size) {
+        return messages.size() > size ? messages.subList(0, size) : messages;
+    }
+
+    private RoomChatResponse toRoomChatResponse(Room room, List<Message> messages, boolean hasPrevious, boolean hasNext, Long lastReadMessageId){
+        log.info("채팅 내용 조회: roomId={}, count={}", room.getRoomId(), messages.size());
+        if (messages.isEmpty()) {
+            return RoomChatResponse.builder()
+                    .roomName(room.getRoomName())
+                    .messages(List.of())
+                    .hasPrevious(hasPrevious)
+                    .hasNext(hasNext)
+                    .lastReadMessageId(lastReadMessageId)
+                    .build();
+        }
 
-        List<Message> messages = messageRepository.findAllByRoom_RoomIdOrderByCreatedAtAsc(roomId);
         List<Long> messageIds = messages.stream()
                 .map(Message::getMessageId)
                 .toList();
@@ -97,6 +194,8 @@ public class ChatService {
         Map<Long, MessagePlaceDetail> placeDetailMap = messagePlaceDetailRepository.findByMessageIds(messageIds).stream()
                 .collect(Collectors.toMap(mpd -> mpd.getMessage().getMessageId(), mpd -> mpd));
 
+        Map<Long, CommunityDetail> sharedPosts = sharedPostLoader.load(messages);
+
         List<MessageResponse> response = messages.stream()
                 .filter(Objects::nonNull)
                 .map(message -> {
@@ -105,17 +204,18 @@ public class ChatService {
                     Boolean isBookmarked = bookmarkMap.getOrDefault(message.getMessageId(), false);
                     PlaceDetail placeDetail = makePlaceDetail(placeDetailMap.getOrDefault(message.getMessageId(), null));
 
+                    // 삭제된 게시글 공유는 삭제 시 TEXT로 바뀌며, 이전 데이터는 조회 시에만 같은 형태로 표시
+                    MessageType messageType = message.getMessageType();
+                    MessageStatus messageStatus = message.getMessageStatus();
+                    String content = message.getContent();
                     CommunityDetail communityDetail = null;
-                    if (message.getMessageType() == MessageType.COMMUNITY_SHARE) {
-                        Post p = postRepository.findById(Long.parseLong(message.getContent())).orElse(null);
-                        if (p != null) {
-                            String imageUrl = postImageRepository.findImageUrlByPostId(p.getPostId());
-                            communityDetail = new CommunityDetail(p.getPostId(), p.getTitle(), imageUrl);
-                        } else {
-                            message.setMessageType(MessageType.TEXT);
-                            message.setMessageStatus(MessageStatus.DELETE);
-                            message.setContent("삭제된 게시글입니다.");
-                            messageRepository.save(message);
+                    if (messageType == MessageType.COMMUNITY_SHARE) {
+                        Long postId = SharedPostLoader.sharedPostId(message);
+                        communityDetail = postId != null ? sharedPosts.get(postId) : null;
+                        if (communityDetail == null) {
+                            messageType = MessageType.TEXT;
+                            messageStatus = MessageStatus.DELETE;
+                            content = DELETED_POST_CONTENT;
                         }
                     }
 
@@ -123,15 +223,12 @@ public class ChatService {
                     ReplyMessage replyMessage = null;
                     if (reply != null) {
                         String replyContent;
-                        if (reply.getMessageStatus() == MessageStatus.DELETE) {
-                            // 삭제된 커뮤니티 게시글인 경우 내용을 그대로 사용
-                            replyContent = reply.getContent();
-                        } else if (reply.getMessageType() == MessageType.COMMUNITY_SHARE) {
-                            replyContent = postRepository.findTitleByPostId(Long.parseLong(reply.getContent()));
-                            if (replyContent == null) {
-                                replyContent = "삭제된 게시글입니다.";
-                            }
+                        if (reply.getMessageType() == MessageType.COMMUNITY_SHARE) {
+                            Long postId = SharedPostLoader.sharedPostId(reply);
+                            CommunityDetail replyPost = postId != null ? sharedPosts.get(postId) : null;
+                            replyContent = replyPost != null ? replyPost.getTitle() : DELETED_POST_CONTENT;
                         } else {
+                            // 삭제된 커뮤니티 게시글인 경우 내용을 그대로 사용
                             replyContent = reply.getContent();
                         }
                         replyMessage = new ReplyMessage(reply.getMessageId(), replyContent);
@@ -143,9 +240,9 @@ public class ChatService {
                             .message(
                                     MessageDto.builder()
                                             .messageId(message.getMessageId())
-                                            .content(message.getContent())
-                                            .messageType(message.getMessageType())
-                                            .messageStatus(message.getMessageStatus())
+                                            .content(content)
+                                            .messageType(messageType)
+                                            .messageStatus(messageStatus)
                                             .tag(tag)
                                             .isBookmarked(isBookmarked)
                                             .placeDetail(placeDetail)
@@ -161,227 +258,206 @@ public class ChatService {
         return RoomChatResponse.builder()
                 .roomName(room.getRoomName())
                 .messages(response)
+                .hasPrevious(hasPrevious)
+                .hasNext(hasNext)
+                .lastReadMessageId(lastReadMessageId)
                 .build();
     }
 
-    public void startTripAsync(Long userId, Long roomId) {
-        // 동기적으로 권한 체크
-        if (!userRoomRepository.existsByUser_UserIdAndRoom_RoomId(userId, roomId))
-            throw new BadCredentialsException("해당 권한이 없습니다.");
+    /**
+     * AI 일정 생성 1건 (작업 상태/락은 {@link TripGenerationJobQueue}가 관리)
+     * 구독이 취소되면 저장하던 여행을 정리합니다.
+     */
+    protected Mono<Long> makeTrip(Long roomId){
+        // 구독마다 새 진행 상태 사용
+        return Mono.defer(() -> {
+            TripIngestion ingestion = new TripIngestion(roomId);
+
+            return Mono.fromCallable(() -> {
+                        discardLeftoverTrip(roomId);
+                        return roomRepository.findById(roomId)
+                                .orElseThrow(()-> new EntityNotFoundException("해당 룸이 존재하지 않습니다."));
+                    })
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(room ->
+                            Mono.fromCallable(() -> modelRequestBuilder.build(room))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .map(req -> Map.entry(room, req)))
+                    .flatMapMany(entry -> {
+                        Room room = entry.getKey();
+                        ModelRequest modelRequest = entry.getValue();
+                        ingestion.room = room;
+
+                        log.info("모델 통신 시작: roomId={}", roomId);
+
+                        // NDJSON이면 한 줄(하루)씩 Jackson 비동기 파서로 디코딩, 일반 JSON이면 전체 응답 1건
+                        return aiModelWebClient.post()
+                                .uri("/api/v2/itinerary/generate")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                                .bodyValue(modelRequest)
+                                .retrieve()
+                                .onStatus(
+                                        HttpStatusCode::is4xxClientError,
+                                        res -> res.createException().flatMap(e -> {
+                                            log.error("AI 모델 요청 오류: {}", e.getMessage());
+                                            return Mono.error(new CustomException(ErrorCode.MODEL_REQUEST_ERROR));
+                                        })
+                                )
+                                .onStatus(
+                                        HttpStatusCode::is5xxServerError,
+                                        res -> res.createException().flatMap(e -> {
+                                            log.error("AI 모델 서버 오류: {}", e.getMessage());
+                                            return Mono.error(new CustomException(ErrorCode.MODEL_ERROR));
+                                        })
+                                )
+                                .bodyToFlux(ModelStreamChunk.class)
+                                .concatMapIterable(ModelStreamChunk::expand);
+                    })
+                    // 도착 순서대로 하루씩 저장
+                    .concatMap(chunk ->
+                            Mono.fromRunnable(() -> ingestChunk(ingestion, chunk))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                    )
+                    .then(Mono.fromCallable(() -> completeTrip(ingestion))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .doOnSuccess(tripId -> log.info("일정 생성 완료: roomId={}, tripId={}", roomId, tripId))
+                    // 작업 취소(takeUntil 등)로 구독이 끊긴 경우에도 저장하던 여행 정리
+                    .doOnCancel(() -> Schedulers.boundedElastic().schedule(() -> discardPartialTrip(ingestion)))
+                    .onErrorResume(e -> {
+                        // 저장하던 여행 정리
+                        discardPartialTrip(ingestion);
+
+                        if (e instanceof CustomException) {
+                            return Mono.error(e);
+                        }
+                        if (e instanceof WebClientRequestException) {
+                            return Mono.error(new CustomException(ErrorCode.MODEL_CONNECTION_FAIL));
+                        }
+                        return Mono.error(new CustomException(ErrorCode.TRIP_SAVE_FAIL));
+                    });
+        });
+    }
 
-        // 동기적으로 락 획득 시도
-        Boolean locked = redisClient.setIfAbsent("trip:create:lock",
-                                                 String.valueOf(roomId),
-                                                 String.valueOf(TripCreateStatus.WAITING),
-                                                 600);
+    // 저장하던 여행 정리 (이미 전환된 여행은 유지, 이후 도착하는 일정은 저장하지 않음)
+    private void discardPartialTrip(TripIngestion ingestion) {
+        synchronized (ingestion) {
+            ingestion.discarded = true;
+            if (ingestion.tripId == null || ingestion.activated) {
+                return;
+            }
+            try {
+                tripItineraryWriter.discard(ingestion.tripId);
+                tripGenerationJobStore.clearPendingTrip(ingestion.roomId, ingestion.tripId);
+            } catch (Exception ex) {
+                log.error("생성 실패 여행 정리 실패: roomId={}, tripId={}", ingestion.roomId, ingestion.tripId, ex);
+            }
+        }
+    }
 
-        if (!Boolean.TRUE.equals(locked)) {
-            throw new CustomException(ErrorCode.TRIP_CREATING_IN_PROGRESS);
+    // 이전 실행이 워커 중단 등으로 정리하지 못한 생성 중 여행 삭제 (재시도/복구된 작업이 새로 저장하기 전에)
+    private void discardLeftoverTrip(Long roomId) {
+        Long leftoverTripId = tripGenerationJobStore.getPendingTrip(roomId);
+        if (leftoverTripId == null) {
+            return;
         }
+        log.warn("이전 실행이 남긴 생성 중 여행 정리: roomId={}, tripId={}", roomId, leftoverTripId);
+        tripItineraryWriter.discard(leftoverTripId);
+        tripGenerationJobStore.clearPendingTrip(roomId, leftoverTripId);
+    }
 
-        // 락 획득 성공 후 비동기 작업 시작
-        try {
-            makeTrip(roomId)
-                    .subscribe(
-                            tripId -> log.info("Trip 생성 완료: roomId={}, tripId={}", roomId, tripId),
-                            err    -> log.error("Trip 생성 실패: roomId={}, err={}", roomId, err.toString())
-                    );
-        } catch (Exception e) {
-            // subscribe 시작 실패 시 락 해제
-            redisClient.deleteData("trip:create:lock", String.valueOf(roomId));
-            log.error("Trip 생성 시작 실패: roomId={}, err={}", roomId, e.getMessage());
-            throw e;
+    // 스트리밍 응답 한 조각 저장: meta → 생성 중 여행 저장, day → 하루 일정 저장 후 진행률 전송
+    private void ingestChunk(TripIngestion ingestion, ModelStreamChunk chunk) {
+        synchronized (ingestion) {
+            // 취소로 정리된 뒤 도착한 조각은 저장하지 않음
+            if (ingestion.discarded) {
+                return;
+            }
+            if (chunk.getType() == ModelStreamChunk.Type.META) {
+                ingestion.tripId = tripItineraryWriter.createPendingTrip(ingestion.room, chunk);
+                tripGenerationJobStore.setPendingTrip(ingestion.roomId, ingestion.tripId);
+                ingestion.totalDays = chunk.getTotalDays() != null
+                        ? chunk.getTotalDays()
+                        : (int) ChronoUnit.DAYS.between(ingestion.room.getStartDate(), ingestion.room.getEndDate()) + 1;
+                return;
+            }
+
+            if (ingestion.tripId == null) {
+                throw new IllegalStateException("여행 정보보다 일정이 먼저 도착했습니다.");
+            }
+            tripItineraryWriter.saveDay(ingestion.tripId, ingestion.room, chunk.getDay(),
+                    chunk.getVisits() != null ? chunk.getVisits() : List.of());
+            ingestion.completedDays++;
         }
+
+        // 완료 전환 전까지는 최대 99%
+        int progress = Math.min(99, ingestion.completedDays * 100 / Math.max(ingestion.totalDays, 1));
+        tripGenerationJobStore.setProgress(ingestion.roomId, progress);
+        sendProgress(ingestion.roomId, "일정을 생성하고 있습니다.", TripCreateProgressResponse.builder()
+                .tripCreateStatus(TripCreateStatus.RUNNING)
+                .dayNumber(chunk.getDay())
+                .completedDays(ingestion.completedDays)
+                .totalDays(ingestion.totalDays)
+                .progress(progress)
+                .build());
     }
 
-    protected Mono<Long> makeTrip(Long roomId){
+    // 모든 일차 저장 후 새 여행으로 전환. 취소 요청이 먼저 들어왔으면 전환하지 않고 정리 (null → 취소 처리)
+    private Long completeTrip(TripIngestion ingestion) {
+        synchronized (ingestion) {
+            if (ingestion.tripId == null || ingestion.discarded) {
+                throw new CustomException(ErrorCode.TRIP_SAVE_FAIL);
+            }
+            if (!tripGenerationJobStore.claimActivation(ingestion.roomId)) {
+                log.info("일정 생성 전환 전 취소: roomId={}, tripId={}", ingestion.roomId, ingestion.tripId);
+                discardPartialTrip(ingestion);
+                return null;
+            }
+            tripItineraryWriter.activate(ingestion.tripId, ingestion.roomId);
+            ingestion.activated = true;
+        }
+        try {
+            tripGenerationJobStore.clearPendingTrip(ingestion.roomId, ingestion.tripId);
+        } catch (Exception ex) {
+            // 남아 있어도 현재 여행은 정리 대상에서 제외되므로 로그만 남김
+            log.warn("생성 중 여행 기록 삭제 실패: roomId={}, tripId={}, error={}", ingestion.roomId, ingestion.tripId, ex.getMessage());
+        }
 
-        return Mono.fromCallable(() ->
-                    roomRepository.findById(roomId)
-                            .orElseThrow(()-> new EntityNotFoundException("해당 룸이 존재하지 않습니다."))
-                )
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(room ->
-                        Mono.fromCallable(() -> buildModelRequest(roomId,room))
-                                .subscribeOn(Schedulers.boundedElastic())
-                                .map(req -> Map.entry(room, req)))
-                .flatMap(entry -> {
-                    Room room = entry.getKey();
-                    ModelRequest modelRequest = entry.getValue();
-
-                    redisClient.setData("trip:create:lock", String.valueOf(roomId), String.valueOf(TripCreateStatus.RUNNING), 900);
-                    log.info("모델 통신 시작: roomId={}", roomId);
-
-                    return aiModelWebClient.post()
-                            .uri("/api/v2/itinerary/generate")
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .bodyValue(modelRequest)
-                            .retrieve()
-                            .onStatus(
-                                    HttpStatusCode::is4xxClientError,
-                                    res -> res.createException().flatMap(e -> {
-                                        log.error("AI 모델 요청 오류: {}", e.getMessage());
-                                        publisher.publishEvent(new TripErrorEvent(roomId));
-                                        return Mono.error(new CustomException(ErrorCode.MODEL_REQUEST_ERROR));
-                                    })
-                            )
-                            .onStatus(
-                                    HttpStatusCode::is5xxServerError,
-                                    res -> res.createException().flatMap(e -> {
-                                        log.error("AI 모델 서버 오류: {}", e.getMessage());
-                                        publisher.publishEvent(new TripErrorEvent(roomId));
-                                        return Mono.error(new CustomException(ErrorCode.MODEL_ERROR));
-                                    })
-                            )
-                            .bodyToMono(ModelResponse.class)
-                            .map(body -> Map.entry(room, body));
-                })
-                .flatMap(entry ->
-                        Mono.fromCallable(() -> saveTripAndSchedule(entry.getKey(), entry.getValue()))
-                                .subscribeOn(Schedulers.boundedElastic())
-                )
-                .doOnSuccess(tripId -> {
-                    redisClient.deleteData("trip:create:lock", String.valueOf(roomId));
-                    log.info("락 해제 완료(SUCCESS): roomId={}, tripId={}", roomId, tripId);
-                })
-                .onErrorResume(e -> {
-                    try {
-                        publisher.publishEvent(new TripErrorEvent(roomId));
-                    } catch (Exception ignore) { /* 이벤트 발행 실패 무시 */ }
-                    // 항상 락 해제
-                    redisClient.deleteData("trip:create:lock", String.valueOf(roomId));
-                    log.info("락 해제 완료(FAIL): roomId={}", roomId);
-
-                    if (e instanceof CustomException) {
-                        return Mono.error(e);
-                    }
-                    if (e instanceof WebClientRequestException) {
-                        return Mono.error(new CustomException(ErrorCode.MODEL_CONNECTION_FAIL));
-                    }
-                    return Mono.error(new CustomException(ErrorCode.TRIP_SAVE_FAIL));
-                });
+        sendProgress(ingestion.roomId, "일정 생성이 완료되었습니다.", TripCreateProgressResponse.builder()
+                .tripCreateStatus(TripCreateStatus.SUCCESS)
+                .tripId(ingestion.tripId)
+                .completedDays(ingestion.completedDays)
+                .totalDays(ingestion.totalDays)
+                .progress(100)
+                .build());
+        return ingestion.tripId;
     }
 
-    @Transactional
-    protected Long saveTripAndSchedule(Room room, ModelResponse body) {
-        Trip existingTrip = tripRepository.findByRoomId(room.getRoomId());
-        if (existingTrip != null){
-            existingTrip.setVersionStatus(VersionStatus.OLD);
-            tripRepository.save(existingTrip);
+    private void sendProgress(Long roomId, String message, TripCreateProgressResponse progress) {
+        try {
+            chatRoomBroadcaster.broadcast(roomId, ApiResponse.success(message, progress));
+        } catch (Exception e) {
+            // 진행률 전송 실패가 일정 저장을 막지 않도록 로그만 남김
+            log.warn("일정 생성 진행률 전송 실패: roomId={}, err={}", roomId, e.getMessage());
         }
-        Trip t = Trip.builder()
-                .roomId(room.getRoomId())
-                .destination(room.getDestination())
-                .versionStatus(VersionStatus.NEW)
-                .travelMode(body.getTravelMode())
-                .accommodationCostInfo(body.getAccommodationCostInfo())
-                .budget(body.getBudget())
-                .build();
-        tripRepository.save(t);
-
-        // DB에 성공적으로 저장
-        body.getItinerary().stream()
-                .forEach(itinerary -> {
-                    itinerary.getVisits()
-                            .forEach((visit) -> {
-                                LocalDate date = room.getStartDate()
-                                        .plusDays(itinerary.getDay() - 1); // + dayNumber - 1
-                                LocalDateTime arrival = date.atTime(LocalTime.parse(visit.getArrival()));
-                                LocalDateTime departure = date.atTime(LocalTime.parse(visit.getDeparture()));
-
-                                Schedule schedule = Schedule.builder()
-                                        .tripId(t.getTripId())
-                                        .dayNumber(itinerary.getDay())
-                                        .date(date)
-                                        .visitOrder(visit.getOrder())
-                                        .placeName(visit.getDisplayName())
-                                        .placeTag(visit.getPlaceTag())
-                                        .latitude(visit.getLatitude())
-                                        .longitude(visit.getLongitude())
-                                        .isVisit(false)
-                                        .arrival(arrival)
-                                        .departure(departure)
-                                        .travelTime(String.valueOf(visit.getTravelTime()))
-                                        .estimatedCost(visit.getEstimatedCost())
-                                        .costExplanation(visit.getCostExplanation())
-                                        .build();
-                                scheduleRepository.save(schedule);
-                            });
-                });
-        publisher.publishEvent(new TripCreatedEvent(
-                t.getTripId(), room.getRoomId()
-        ));
-        return t.getTripId();
     }
 
     public TripCreateStatusResponse getTripStatus(Long userId, Long roomId) {
         if (!userRoomRepository.existsByUser_UserIdAndRoom_RoomId(userId, roomId))
             throw new BadCredentialsException("해당 권한이 없습니다.");
         Trip t;
-        if (redisClient.getData("trip:create:lock", String.valueOf(roomId)) != null)
-            return new TripCreateStatusResponse(TripCreateStatus.WAITING, null);
+        TripCreateStatus status = tripGenerationJobStore.getStatus(roomId);
+        if (status == TripCreateStatus.WAITING || status == TripCreateStatus.RUNNING) {
+            Integer progress = tripGenerationJobStore.getProgress(roomId);
+            return new TripCreateStatusResponse(status, null, progress != null ? progress : 0);
+        }
+        // 최근 작업이 실패/취소된 경우 (결과 보관 기간 동안)
+        else if (status != null)
+            return new TripCreateStatusResponse(status, null, null);
         else if ((t = tripRepository.findByRoomId(roomId)) != null)
-            return new TripCreateStatusResponse(TripCreateStatus.SUCCESS, t.getTripId());
+            return new TripCreateStatusResponse(TripCreateStatus.SUCCESS, t.getTripId(), null);
         else
-            return new TripCreateStatusResponse(TripCreateStatus.NOT_STARTED, null);
-    }
-
-    private ModelRequest buildModelRequest(Long roomId, Room room){
-        List<Message> messages = messageRepository.findAllByRoom_RoomIdOrderByCreatedAtAsc(roomId).stream()
-                .filter(m -> m.getMessageStatus() != MessageStatus.DELETE)
-                .toList();
-
-        List<ModelRequest.ModelPlaceRequest> places = new ArrayList<>();
-        List<String> mustVisit = new ArrayList<>();
-        List<String> rule = new ArrayList<>();
-        List<String> chat = new ArrayList<>();
-
-        MessagePlace place = null;
-        MessageBookmark bookmark = null;
-
-        for (Message message : messages) {
-            place = messagePlaceRepository.findByMessage_MessageId(message.getMessageId());
-            bookmark = messageBookmarkRepository.findByMessage_MessageId(message.getMessageId());
-
-            String content = message.getContent();
-
-            if (message.getMessageType().equals(MessageType.COMMUNITY_SHARE)){
-                Post p = postRepository.findById(Long.parseLong(content))
-                        .orElseThrow(() -> new EntityNotFoundException("해당 게시글이 존재하지 않습니다."));
-                Long tripId = p.getTripId();
-
-                List<Schedule> schedules = scheduleRepository.findByTripIdOrderByDayNumberAscVisitOrderAsc(tripId).stream()
-                        .filter(s -> s.getPlaceTag() != PlaceTag.HOME)
-                        .toList();
-
-                schedules.forEach(s ->
-                        places.add(new ModelRequest.ModelPlaceRequest(s.getPlaceName(), s.getPlaceTag())));
-
-            } // 장소 태그가 저장 되어있고 북마크 되어있음
-            else if (place != null && bookmark != null){
-                places.add(new ModelRequest.ModelPlaceRequest(content, place.getPlaceTag()));
-                mustVisit.add(content);
-            } // 장소태그만 저장되어있음
-            else if (place != null) {
-                places.add(new ModelRequest.ModelPlaceRequest(content, place.getPlaceTag()));
-            } // 북마크만 되어있음
-            else if (bookmark != null) {
-                rule.add(content);
-            }
-            // 커뮤니티가 아닌 메세지의 경우 싹다 chat에 넣음
-            if (!message.getMessageType().equals(MessageType.COMMUNITY_SHARE))
-                chat.add(content);
-        }
-        return ModelRequest.builder()
-                .days((int) ChronoUnit.DAYS.between(room.getStartDate(), room.getEndDate()) + 1)
-                .startDate(room.getStartDate().toString())
-                .country(room.getDestination())
-                .members(userRoomRepository.countByRoom_RoomIdAndUserStatus(roomId, UserStatus.ACTIVE))
-                .places(places)
-                .mustVisit(mustVisit)
-                .rule(rule)
-                .chat(chat)
-                .build();
+            return new TripCreateStatusResponse(TripCreateStatus.NOT_STARTED, null, null);
     }
 
     private PlaceDetail makePlaceDetail(MessagePlaceDetail mpd){
@@ -396,4 +472,19 @@ public class ChatService {
                 .photoUrl(mpd.getPhotoUrl())
                 .build();
     }
+
+    // 일정 생성 1건의 진행 상태 (makeTrip 구독 단위, 저장/정리는 이 객체로 동기화)
+    private static final class TripIngestion {
+        private final Long roomId;
+        private Room room;
+        private Long tripId;
+        private int totalDays;
+        private int completedDays;
+        private boolean activated;
+        private boolean discarded;
+
+        private TripIngestion(Long roomId) {
+            this.roomId = roomId;
+        }
+    }
 }
@@ -0,0 +1,332 @@
+package triB.triB.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import triB.triB.chat.dto.MessageDto;
+import triB.triB.chat.dto.MessageResponse;
+import triB.triB.chat.dto.ReplyMessage;
+import triB.triB.chat.entity.MessageStatus;
+import triB.triB.chat.entity.PlaceTag;
+import triB.triB.chat.repository.MessageRepository;
+import triB.triB.global.infra.RedisClient;
+import triB.triB.user.event.UserDeletedEvent;
+import triB.triB.user.event.UserProfileUpdatedEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 채팅방별 최근 메세지 창 (Redis 해시)
+ *
+ * <p>채팅방마다 최근 N개 메세지를 채팅 내역 조회와 같은 형태(MessageResponse, actionType 없음)의 JSON으로 보관해
+ * 커서 없는 첫 페이지를 DB 대신 Redis 한 번으로 응답합니다.
+ * <ul>
+ *     <li>필드: messageId → 메세지 JSON, state(full: 전체 내역 / tail: 이전 메세지 있음), gen(무효화 세대)</li>
+ *     <li>state는 DB에서 최근 N개를 채운 뒤에만 생기며, 그 전까지는 조회 시 캐시 미스로 취급합니다.</li>
+ *     <li>전송은 추가(초과분은 오래된 것부터 삭제), 수정/삭제/북마크/태그는 해당 항목만 바꿉니다.</li>
+ *     <li>수정 시마다 gen을 올려, 수정 전에 DB에서 읽은 내용으로 창을 채우지 못하게 합니다.</li>
+ * </ul>
+ * 쓰기는 모두 커밋 후 실행하며, Redis 오류는 로그만 남깁니다.
+ */
+@Slf4j
+@Component
+public class HotMessageCache {
+
+    private static final String PREFIX = "chat:hot:";
+    private static final String STATE_FIELD = "state";
+    private static final String GENERATION_FIELD = "gen";
+    private static final String STATE_FULL = "full";
+    private static final String STATE_TAIL = "tail";
+
+    // 추가 후 messageId 필드가 capacity를 넘으면 오래된 것부터 삭제
+    private static final DefaultRedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) " +
+            "local ids = {} " +
+            "for _, field in ipairs(redis.call('hkeys', KEYS[1])) do " +
+            "  local id = tonumber(field) " +
+            "  if id then ids[#ids + 1] = id end " +
+            "end " +
+            "local excess = #ids - tonumber(ARGV[3]) " +
+            "if excess > 0 then " +
+            "  table.sort(ids) " +
+            "  for i = 1, excess do redis.call('hdel', KEYS[1], string.format('%d', ids[i])) end " +
+            "  if redis.call('hexists', KEYS[1], 'state') == 1 then redis.call('hset', KEYS[1], 'state', 'tail') end " +
+            "end " +
+            "redis.call('expire', KEYS[1], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    // DB 조회 전에 읽은 gen이 그대로일 때만 채움
+    private static final DefaultRedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('hget', KEYS[1], 'gen') or '') ~= ARGV[1] then return 0 end " +
+            "for i = 4, #ARGV, 2 do redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('hset', KEYS[1], 'state', ARGV[2]) " +
+            "redis.call('expire', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // (필드, 기존 값, 새 값) 묶음이 모두 그대로면 교체, 그 사이 다른 수정이 있었으면 창을 비움. 어느 쪽이든 gen 증가
+    private static final DefaultRedisScript<Long> PATCH_SCRIPT = new DefaultRedisScript<>(
+            "local ok = true " +
+            "for i = 2, #ARGV, 3 do " +
+            "  if redis.call('hget', KEYS[1], ARGV[i]) ~= ARGV[i + 1] then ok = false break end " +
+            "end " +
+            "if ok then " +
+            "  for i = 2, #ARGV, 3 do redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 2]) end " +
+            "else " +
+            "  local gen = redis.call('hget', KEYS[1], 'gen') " +
+            "  redis.call('del', KEYS[1]) " +
+            "  if gen then redis.call('hset', KEYS[1], 'gen', gen) end " +
+            "end " +
+            "redis.call('hincrby', KEYS[1], 'gen', 1) " +
+            "redis.call('expire', KEYS[1], ARGV[1]) " +
+            "if ok then return 1 else return 0 end",
+            Long.class);
+
+    // 창을 비우고 gen 증가
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "local gen = redis.call('hget', KEYS[1], 'gen') " +
+            "redis.call('del', KEYS[1]) " +
+            "redis.call('hset', KEYS[1], 'gen', (tonumber(gen) or 0) + 1) " +
+            "redis.call('expire', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisClient redisClient;
+    private final ObjectMapper objectMapper;
+    private final MessageRepository messageRepository;
+    private final int capacity;
+    private final long ttlSeconds;
+
+    public HotMessageCache(
+            RedisClient redisClient,
+            ObjectMapper objectMapper,
+            MessageRepository messageRepository,
+            @Value("${chat.hot-messages.size:100}") int capacity,
+            @Value("${chat.hot-messages.ttl-seconds:3600}") long ttlSeconds) {
+        this.redisClient = redisClient;
+        this.objectMapper = objectMapper;
+        this.messageRepository = messageRepository;
+        this.capacity = capacity;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 채팅방 최근 메세지 창 조회 (오래된순)
+     * 오류나 손상된 항목이 있으면 빈 창으로 취급합니다.
+     */
+    public Window read(Long roomId) {
+        try {
+            Map<String, String> hash = redisClient.getHash(key(roomId));
+            String state = hash.get(STATE_FIELD);
+            String generation = hash.getOrDefault(GENERATION_FIELD, "");
+            if (state == null) {
+                return new Window(generation, null, List.of());
+            }
+
+            TreeMap<Long, String> ordered = new TreeMap<>();
+            hash.forEach((field, value) -> {
+                if (!field.equals(STATE_FIELD) && !field.equals(GENERATION_FIELD)) {
+                    ordered.put(Long.valueOf(field), value);
+                }
+            });
+            List<MessageResponse> messages = new ArrayList<>(ordered.size());
+            for (String json : ordered.values()) {
+                messages.add(objectMapper.readValue(json, MessageResponse.class));
+            }
+            return new Window(generation, STATE_FULL.equals(state), messages);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 메세지 창 조회 실패: roomId={}, error={}", roomId, e.getMessage());
+            return new Window(null, null, List.of());
+        }
+    }
+
+    /**
+     * DB에서 조회한 최근 메세지로 창 채우기 (read 시점 이후 수정이 있었으면 건너뜀)
+     * @param generation read로 읽은 gen
+     * @param complete   채팅방 전체 메세지인지 (이전 메세지가 없는지)
+     */
+    public void fill(Long roomId, String generation, List<MessageResponse> messages, boolean complete) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            List<String> args = new ArrayList<>(3 + messages.size() * 2);
+            args.add(generation);
+            args.add(complete ? STATE_FULL : STATE_TAIL);
+            args.add(String.valueOf(ttlSeconds));
+            for (MessageResponse message : messages) {
+                args.add(String.valueOf(message.getMessage().getMessageId()));
+                args.add(write(message));
+            }
+            redisClient.execute(FILL_SCRIPT, List.of(key(roomId)), args.toArray(String[]::new));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 메세지 창 저장 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 새 메세지 추가 (전송/답장/장소 공유/게시글 공유)
+     */
+    public void append(Long roomId, MessageResponse response) {
+        afterCommit(roomId, () -> {
+            MessageResponse history = MessageResponse.builder()
+                    .actionType(null)
+                    .user(response.getUser())
+                    .message(response.getMessage())
+                    .createdAt(response.getCreatedAt())
+                    .build();
+            redisClient.execute(APPEND_SCRIPT, List.of(key(roomId)),
+                    String.valueOf(response.getMessage().getMessageId()), write(history),
+                    String.valueOf(capacity), String.valueOf(ttlSeconds));
+        });
+    }
+
+    public void updateBookmark(Long roomId, Long messageId, boolean bookmarked) {
+        patch(roomId, messageId(messageId), message -> message.getMessage().setIsBookmarked(bookmarked));
+    }
+
+    public void updateTag(Long roomId, Long messageId, PlaceTag tag) {
+        patch(roomId, messageId(messageId), message -> message.getMessage().setTag(tag));
+    }
+
+    /**
+     * 메세지 수정/삭제 반영 (이 메세지에 대한 답장의 원문 내용도 함께 변경)
+     */
+    public void updateContent(Long roomId, Long messageId, MessageStatus status, String content) {
+        Predicate<MessageResponse> target = messageId(messageId);
+        Predicate<MessageResponse> reply = message -> message.getMessage().getReplyMessage() != null
+                && messageId.equals(message.getMessage().getReplyMessage().getMessageId());
+
+        patch(roomId, target.or(reply), message -> {
+            MessageDto dto = message.getMessage();
+            if (messageId.equals(dto.getMessageId())) {
+                dto.setMessageStatus(status);
+                dto.setContent(content);
+            } else {
+                dto.setReplyMessage(new ReplyMessage(messageId, content));
+            }
+        });
+    }
+
+    /**
+     * 창 전체 무효화 (다음 조회 시 DB에서 다시 채움)
+     */
+    public void evict(Collection<Long> roomIds) {
+        for (Long roomId : roomIds) {
+            afterCommit(roomId, () -> redisClient.execute(EVICT_SCRIPT, List.of(key(roomId)), String.valueOf(ttlSeconds)));
+        }
+    }
+
+    // 닉네임/프로필 사진은 메세지마다 들어 있으므로 작성자가 메세지를 보낸 채팅방 창을 비움
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserProfileUpdated(UserProfileUpdatedEvent e) {
+        evict(messageRepository.findRoomIdsByUserId(e.userId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent e) {
+        evict(messageRepository.findRoomIdsByUserId(e.userId()));
+    }
+
+    private void patch(Long roomId, Predicate<MessageResponse> affected, Consumer<MessageResponse> update) {
+        afterCommit(roomId, () -> {
+            String key = key(roomId);
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(ttlSeconds));
+            for (Map.Entry<String, String> entry : redisClient.getHash(key).entrySet()) {
+                if (entry.getKey().equals(STATE_FIELD) || entry.getKey().equals(GENERATION_FIELD)) {
+                    continue;
+                }
+                MessageResponse message = objectMapper.readValue(entry.getValue(), MessageResponse.class);
+                if (affected.test(message)) {
+                    update.accept(message);
+                    args.add(entry.getKey());
+                    args.add(entry.getValue());
+                    args.add(write(message));
+                }
+            }
+            // 창에 없는 메세지여도 gen은 올려 진행 중인 채우기를 막음
+            redisClient.execute(PATCH_SCRIPT, List.of(key), args.toArray(String[]::new));
+        });
+    }
+
+    private void afterCommit(Long roomId, RedisTask task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(roomId, task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                run(roomId, task);
+            }
+        });
+    }
+
+    private void run(Long roomId, RedisTask task) {
+        try {
+            task.run();
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 메세지 창 갱신 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+
+    private String write(MessageResponse message) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(message);
+    }
+
+    private static Predicate<MessageResponse> messageId(Long messageId) {
+        return message -> Objects.equals(messageId, message.getMessage().getMessageId());
+    }
+
+    private static String key(Long roomId) {
+        return PREFIX + roomId;
+    }
+
+    @FunctionalInterface
+    private interface RedisTask {
+        void run() throws JsonProcessingException;
+    }
+
+    /**
+     * @param generation 조회 시점의 gen (fill에 전달, 조회 실패 시 null)
+     * @param complete   채팅방 전체 메세지인지, 창이 채워지지 않았으면 null
+     * @param messages   오래된순 메세지
+     */
+    public record Window(String generation, Boolean complete, List<MessageResponse> messages) {
+
+        /**
+         * 최신 size개를 창에서 응답할 수 있는지
+         */
+        public boolean covers(int size) {
+            return complete != null && (complete || messages.size() >= size);
+        }
+
+        public List<MessageResponse> latest(int size) {
+            return messages.subList(Math.max(0, messages.size() - size), messages.size());
+        }
+
+        public boolean hasPrevious(int size) {
+            return !Boolean.TRUE.equals(complete) || messages.size() > size;
+        }
+    }
+}
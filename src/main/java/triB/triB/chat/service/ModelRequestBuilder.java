@@ -0,0 +1,161 @@
+package triB.triB.chat.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import triB.triB.auth.entity.UserStatus;
+import triB.triB.chat.dto.MessagePlaceTagRow;
+import triB.triB.chat.dto.ModelMessageRow;
+import triB.triB.chat.dto.ModelRequest;
+import triB.triB.chat.entity.MessageType;
+import triB.triB.chat.entity.PlaceTag;
+import triB.triB.chat.repository.MessageBookmarkRepository;
+import triB.triB.chat.repository.MessagePlaceRepository;
+import triB.triB.chat.repository.MessageRepository;
+import triB.triB.community.repository.PostRepository;
+import triB.triB.room.entity.Room;
+import triB.triB.room.repository.UserRoomRepository;
+import triB.triB.schedule.dto.SchedulePlaceRow;
+import triB.triB.schedule.repository.ScheduleRepository;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 채팅 내역으로 AI 일정 생성 요청 생성
+ *
+ * <p>메세지 수와 관계없이 쿼리 수가 일정하도록 장소 태그/북마크를 채팅방 단위로 먼저 읽고,
+ * 메세지는 필요한 컬럼만 스트리밍으로 한 행씩 처리합니다.
+ * 공유된 커뮤니티 게시글의 일정은 스트리밍이 끝난 뒤 한 번에 조회합니다.
+ * (MySQL 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ModelRequestBuilder {
+
+    private final MessageRepository messageRepository;
+    private final MessagePlaceRepository messagePlaceRepository;
+    private final MessageBookmarkRepository messageBookmarkRepository;
+    private final PostRepository postRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRoomRepository userRoomRepository;
+
+    @Transactional(readOnly = true)
+    public ModelRequest build(Room room) {
+        Long roomId = room.getRoomId();
+
+        Map<Long, PlaceTag> placeTagMap = messagePlaceRepository.findPlaceTagsByRoomId(roomId).stream()
+                .collect(Collectors.toMap(MessagePlaceTagRow::getMessageId, MessagePlaceTagRow::getPlaceTag, (a, b) -> a));
+        Set<Long> bookmarked = new HashSet<>(messageBookmarkRepository.findBookmarkedMessageIdsByRoomId(roomId));
+        Integer members = userRoomRepository.countByRoom_RoomIdAndUserStatus(roomId, UserStatus.ACTIVE);
+
+        // 커뮤니티 공유 위치를 지켜 장소 순서를 유지하기 위해 게시글 id를 자리표시로 둠
+        List<PlaceSlot> slots = new ArrayList<>();
+        List<String> mustVisit = new ArrayList<>();
+        List<String> rule = new ArrayList<>();
+        List<String> chat = new ArrayList<>();
+
+        try (Stream<ModelMessageRow> messages = messageRepository.streamModelMessagesByRoomId(roomId)) {
+            messages.forEach(message -> {
+                String content = message.getContent();
+                PlaceTag tag = placeTagMap.get(message.getMessageId());
+                boolean isBookmarked = bookmarked.contains(message.getMessageId());
+
+                if (message.getMessageType() == MessageType.COMMUNITY_SHARE) {
+                    slots.add(PlaceSlot.shared(Long.parseLong(content)));
+                    return;
+                }
+
+                // 장소 태그가 저장 되어있고 북마크 되어있음
+                if (tag != null && isBookmarked) {
+                    slots.add(PlaceSlot.of(new ModelRequest.ModelPlaceRequest(content, tag)));
+                    mustVisit.add(content);
+                } // 장소태그만 저장되어있음
+                else if (tag != null) {
+                    slots.add(PlaceSlot.of(new ModelRequest.ModelPlaceRequest(content, tag)));
+                } // 북마크만 되어있음
+                else if (isBookmarked) {
+                    rule.add(content);
+                }
+                // 커뮤니티가 아닌 메세지의 경우 싹다 chat에 넣음
+                chat.add(content);
+            });
+        }
+
+        return ModelRequest.builder()
+                .days((int) ChronoUnit.DAYS.between(room.getStartDate(), room.getEndDate()) + 1)
+                .startDate(room.getStartDate().toString())
+                .country(room.getDestination())
+                .members(members)
+                .places(resolvePlaces(slots))
+                .mustVisit(mustVisit)
+                .rule(rule)
+                .chat(chat)
+                .build();
+    }
+
+    // 공유된 게시글 → 여행 → 일정을 각각 한 번에 조회해 자리표시를 장소 목록으로 펼침
+    private List<ModelRequest.ModelPlaceRequest> resolvePlaces(List<PlaceSlot> slots) {
+        Set<Long> postIds = slots.stream()
+                .map(PlaceSlot::sharedPostId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Long, List<ModelRequest.ModelPlaceRequest>> placesByPost = new HashMap<>();
+        if (!postIds.isEmpty()) {
+            Map<Long, Long> tripIdByPost = new HashMap<>();
+            for (Object[] row : postRepository.findTripIdsByPostIds(postIds)) {
+                tripIdByPost.put((Long) row[0], (Long) row[1]);
+            }
+            for (Long postId : postIds) {
+                if (!tripIdByPost.containsKey(postId))
+                    throw new EntityNotFoundException("해당 게시글이 존재하지 않습니다.");
+            }
+
+            Set<Long> tripIds = tripIdByPost.values().stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<Long, List<ModelRequest.ModelPlaceRequest>> placesByTrip = tripIds.isEmpty()
+                    ? Map.of()
+                    : scheduleRepository.findPlacesByTripIdsExcludingHome(tripIds).stream()
+                            .collect(Collectors.groupingBy(SchedulePlaceRow::getTripId,
+                                    Collectors.mapping(s -> new ModelRequest.ModelPlaceRequest(s.getPlaceName(), s.getPlaceTag()),
+                                            Collectors.toList())));
+
+            tripIdByPost.forEach((postId, tripId) ->
+                    placesByPost.put(postId, tripId != null ? placesByTrip.getOrDefault(tripId, List.of()) : List.of()));
+        }
+
+        List<ModelRequest.ModelPlaceRequest> places = new ArrayList<>();
+        for (PlaceSlot slot : slots) {
+            if (slot.sharedPostId() != null) {
+                places.addAll(placesByPost.get(slot.sharedPostId()));
+            } else {
+                places.add(slot.place());
+            }
+        }
+        return places;
+    }
+
+    // 장소 1건 또는 공유된 게시글(나중에 일정으로 펼침)
+    private record PlaceSlot(ModelRequest.ModelPlaceRequest place, Long sharedPostId) {
+
+        static PlaceSlot of(ModelRequest.ModelPlaceRequest place) {
+            return new PlaceSlot(place, null);
+        }
+
+        static PlaceSlot shared(Long postId) {
+            return new PlaceSlot(null, postId);
+        }
+    }
+}
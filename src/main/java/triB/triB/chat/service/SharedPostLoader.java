@@ -0,0 +1,85 @@
+package triB.triB.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import triB.triB.chat.dto.CommunityDetail;
+import triB.triB.chat.entity.Message;
+import triB.triB.chat.entity.MessageStatus;
+import triB.triB.chat.entity.MessageType;
+import triB.triB.community.entity.PostImage;
+import triB.triB.community.repository.PostImageRepository;
+import triB.triB.community.repository.PostRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅 내역 한 페이지에서 공유된 커뮤니티 게시글 정보 일괄 조회
+ *
+ * <p>직접 공유된 메세지와 답장 대상 메세지의 게시글 ID를 모아 제목과 대표 이미지를 각각 한 번에 조회합니다.
+ * 결과에 없는 게시글은 삭제된 것으로 봅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SharedPostLoader {
+
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+
+    /**
+     * @return 게시글 ID → 게시글 정보 (삭제된 게시글은 포함되지 않음)
+     */
+    public Map<Long, CommunityDetail> load(List<Message> messages) {
+        Set<Long> postIds = new LinkedHashSet<>();
+        for (Message message : messages) {
+            addPostId(postIds, message);
+            if (message.getReplyMessage() != null) {
+                addPostId(postIds, message.getReplyMessage());
+            }
+        }
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = new ArrayList<>(postIds);
+        Map<Long, CommunityDetail> posts = new HashMap<>();
+        for (Object[] row : postRepository.findTitlesByPostIds(ids)) {
+            Long postId = (Long) row[0];
+            posts.put(postId, new CommunityDetail(postId, (String) row[1], null));
+        }
+
+        // 표시 순서대로 정렬되어 있으므로 게시글별 첫 이미지만 사용
+        for (PostImage image : postImageRepository.findImageUrlByPostIds(ids)) {
+            CommunityDetail detail = posts.get(image.getPostId());
+            if (detail != null && detail.getPhoto() == null) {
+                detail.setPhoto(image.getImageUrl());
+            }
+        }
+        return posts;
+    }
+
+    /**
+     * 공유 메세지의 게시글 ID (공유 메세지가 아니거나 삭제 처리된 경우 null)
+     */
+    static Long sharedPostId(Message message) {
+        if (message.getMessageType() != MessageType.COMMUNITY_SHARE || message.getMessageStatus() == MessageStatus.DELETE) {
+            return null;
+        }
+        try {
+            return Long.parseLong(message.getContent());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void addPostId(Set<Long> postIds, Message message) {
+        Long postId = sharedPostId(message);
+        if (postId != null) {
+            postIds.add(postId);
+        }
+    }
+}
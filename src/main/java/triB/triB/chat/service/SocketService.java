@@ -51,6 +51,7 @@ public class SocketService {
     private final PostRepository postRepository;
     private final ApplicationEventPublisher publisher;
     private final PostImageRepository postImageRepository;
+    private final HotMessageCache hotMessageCache;
 
 
     // 메세지 전송
@@ -75,7 +76,7 @@ public class SocketService {
                 roomId, userId, user.getNickname(), user.getPhotoUrl(), message.getContent(), message.getMessageType()
         ));
 
-        return MessageResponse.builder()
+        MessageResponse response = MessageResponse.builder()
                 .actionType(ActionType.NEW_MESSAGE)
                 .user(new UserResponse(userId, user.getNickname(), user.getPhotoUrl()))
                 .message(
@@ -93,6 +94,8 @@ public class SocketService {
                 )
                 .createdAt(message.getCreatedAt())
                 .build();
+        hotMessageCache.append(roomId, response);
+        return response;
     }
 
     //메세지 답장
@@ -125,7 +128,7 @@ public class SocketService {
                 roomId, userId, user.getNickname(), user.getPhotoUrl(), message.getContent(), message.getMessageType()
         ));
 
-        return MessageResponse.builder()
+        MessageResponse response = MessageResponse.builder()
                 .actionType(ActionType.MESSAGE_REPLY)
                 .user(new UserResponse(userId, user.getNickname(), user.getPhotoUrl()))
                 .message(
@@ -138,11 +141,13 @@ public class SocketService {
                                 .isBookmarked(false)
                                 .placeDetail(null)
                                 .communityDetail(null)
-                                .replyMessage(new ReplyMessage(replyMessage.getMessageId(), replyMessage.getContent()))
+                                .replyMessage(new ReplyMessage(replyMessage.getMessageId(), replyContent(replyMessage)))
                                 .build()
                 )
                 .createdAt(message.getCreatedAt())
                 .build();
+        hotMessageCache.append(roomId, response);
+        return response;
     }
 
     // 장소 공유
@@ -180,7 +185,7 @@ public class SocketService {
                 roomId, userId, user.getNickname(), user.getPhotoUrl(), message.getContent(), message.getMessageType()
         ));
 
-        return MessageResponse.builder()
+        MessageResponse response = MessageResponse.builder()
                 .actionType(ActionType.NEW_MAP_MESSAGE)
                 .user(new UserResponse(userId, user.getNickname(), user.getPhotoUrl()))
                 .message(
@@ -198,6 +203,8 @@ public class SocketService {
                 )
                 .createdAt(message.getCreatedAt())
                 .build();
+        hotMessageCache.append(roomId, response);
+        return response;
     }
 
     // 커뮤니티 게시글 공유
@@ -234,7 +241,7 @@ public class SocketService {
 
         String imageUrl = postImageRepository.findImageUrlByPostId(postId);
 
-        return MessageResponse.builder()
+        MessageResponse response = MessageResponse.builder()
                 .actionType(ActionType.NEW_COMMUNITY_SHARE)
                 .user(new UserResponse(userId, user.getNickname(), user.getPhotoUrl()))
                 .message(
@@ -242,8 +249,9 @@ public class SocketService {
                         .messageId(message.getMessageId())
                         .content(message.getContent())
                         .messageType(MessageType.COMMUNITY_SHARE)
+                        .messageStatus(MessageStatus.ACTIVE)
                         .tag(null)
-                        .isBookmarked(null)
+                        .isBookmarked(false)
                         .placeDetail(null)
                         .communityDetail(new CommunityDetail(postId, p.getTitle(), imageUrl))
                         .replyMessage(null)
@@ -251,6 +259,8 @@ public class SocketService {
                 )
                 .createdAt(message.getCreatedAt())
                 .build();
+        hotMessageCache.append(roomId, response);
+        return response;
     }
 
     // 북마크 설정
@@ -284,6 +294,7 @@ public class SocketService {
             messageBookmarkRepository.delete(messageBookmark);
             messageDto.setIsBookmarked(false);
         }
+        hotMessageCache.updateBookmark(message.getRoom().getRoomId(), messageId, messageDto.getIsBookmarked());
 
         return MessageResponse.builder()
                 .actionType(ActionType.BOOKMARK_UPDATE)
@@ -332,6 +343,7 @@ public class SocketService {
             messagePlaceRepository.delete(messagePlace);
             messageDto.setTag(null);
         }
+        hotMessageCache.updateTag(message.getRoom().getRoomId(), messageId, messageDto.getTag());
 
         return MessageResponse.builder()
                 .actionType(ActionType.TAG_UPDATE)
@@ -355,6 +367,7 @@ public class SocketService {
         message.setContent(content);
         message.setUpdatedAt(LocalDateTime.now());
         messageRepository.save(message);
+        hotMessageCache.updateContent(message.getRoom().getRoomId(), messageId, MessageStatus.EDIT, content);
 
         MessageDto messageDto = MessageDto.builder()
                 .messageId(messageId)
@@ -386,6 +399,7 @@ public class SocketService {
         message.setContent("삭제된 메세지입니다.");
         message.setUpdatedAt(LocalDateTime.now());
         messageRepository.save(message);
+        hotMessageCache.updateContent(message.getRoom().getRoomId(), messageId, MessageStatus.DELETE, message.getContent());
 
         MessageDto messageDto = MessageDto.builder()
                 .messageId(messageId)
@@ -438,6 +452,17 @@ public class SocketService {
         log.debug("마지막 읽은 메세지 저장 완료: userId={}, roomId={}, messageId={}", userId, roomId, messageId);
     }
 
+    // 게시글 공유 메세지에 대한 답장은 채팅 내역 조회와 같이 게시글 제목을 표시
+    private String replyContent(Message replyMessage) {
+        if (replyMessage.getMessageType() != MessageType.COMMUNITY_SHARE) {
+            return replyMessage.getContent();
+        }
+        Long postId = SharedPostLoader.sharedPostId(replyMessage);
+        return postId == null ? "삭제된 게시글입니다." : postRepository.findById(postId)
+                .map(Post::getTitle)
+                .orElse("삭제된 게시글입니다.");
+    }
+
     private PlaceDetail makePlaceDetail(Long messageId) {
         MessagePlaceDetail mpd = messagePlaceDetailRepository.findByMessage_MessageId(messageId);
 
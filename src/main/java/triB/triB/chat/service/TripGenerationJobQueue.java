@@ -0,0 +1,321 @@
+package triB.triB.chat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import triB.triB.chat.dto.TripCreateStatus;
+import triB.triB.chat.dto.TripCreateStatusResponse;
+import triB.triB.chat.event.TripErrorEvent;
+import triB.triB.global.exception.CustomException;
+import triB.triB.global.exception.ErrorCode;
+import triB.triB.global.infra.RedisClient;
+import triB.triB.room.repository.UserRoomRepository;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * AI 일정 생성 작업 큐 (Redis 리스트, 채팅방 단위)
+ *
+ * <ul>
+ *     <li>trip:gen:queue - 대기 작업 (LPUSH로 등록, 워커가 BRPOPLPUSH로 꺼냄)</li>
+ *     <li>trip:gen:processing - 실행 중 작업 (워커가 죽으면 임대 만료 후 대기열로 복구)</li>
+ *     <li>trip:gen:delayed - 재시도 대기 작업 (score = 실행 시각)</li>
+ * </ul>
+ * 워커 수만큼만 AI 서버에 동시에 요청하며, 작업 상태는 {@link TripGenerationJobStore}에 기록합니다.
+ * 모델 서버 연결 실패(MODEL_CONNECTION_FAIL)는 지수 백오프로 재시도합니다.
+ */
+@Slf4j
+@Component
+public class TripGenerationJobQueue {
+
+    private static final String QUEUE_KEY = "trip:gen:queue";
+    private static final String PROCESSING_KEY = "trip:gen:processing";
+    private static final String DELAYED_KEY = "trip:gen:delayed";
+
+    private final ChatService chatService;
+    private final TripGenerationJobStore jobStore;
+    private final RedisClient redisClient;
+    private final UserRoomRepository userRoomRepository;
+    private final ApplicationEventPublisher publisher;
+    private final ThreadPoolTaskExecutor executor;
+    private final int workers;
+    private final int maxAttempts;
+    private final long retryBackoffSeconds;
+    private final long leaseSeconds;
+    private final Duration pollTimeout;
+
+    private volatile boolean running;
+    // 임대 없는 processing 작업 (두 번 연속 발견되면 복구)
+    private final Set<String> orphanSuspects = new HashSet<>();
+
+    public TripGenerationJobQueue(
+            ChatService chatService,
+            TripGenerationJobStore jobStore,
+            RedisClient redisClient,
+            UserRoomRepository userRoomRepository,
+            ApplicationEventPublisher publisher,
+            @Qualifier("tripGenerationExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${trip.generation.workers:4}") int workers,
+            @Value("${trip.generation.max-attempts:3}") int maxAttempts,
+            @Value("${trip.generation.retry-backoff-seconds:10}") long retryBackoffSeconds,
+            @Value("${trip.generation.lease-seconds:60}") long leaseSeconds,
+            @Value("${trip.generation.poll-timeout-seconds:5}") long pollTimeoutSeconds) {
+        this.chatService = chatService;
+        this.jobStore = jobStore;
+        this.redisClient = redisClient;
+        this.userRoomRepository = userRoomRepository;
+        this.publisher = publisher;
+        this.executor = executor;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffSeconds = retryBackoffSeconds;
+        this.leaseSeconds = leaseSeconds;
+        this.pollTimeout = Duration.ofSeconds(pollTimeoutSeconds);
+    }
+
+    /**
+     * 일정 생성 요청 등록 (채팅방당 1개)
+     */
+    public TripCreateStatusResponse submit(Long userId, Long roomId) {
+        if (!userRoomRepository.existsByUser_UserIdAndRoom_RoomId(userId, roomId))
+            throw new BadCredentialsException("해당 권한이 없습니다.");
+
+        if (!jobStore.register(roomId)) {
+            throw new CustomException(ErrorCode.TRIP_CREATING_IN_PROGRESS);
+        }
+
+        try {
+            // 대기 중 만료된 이전 작업이 큐에 남아 있으면 제거 (같은 채팅방 작업이 두 번 처리되지 않도록)
+            String job = String.valueOf(roomId);
+            redisClient.removeFromList(QUEUE_KEY, job);
+            redisClient.removeFromSortedSet(DELAYED_KEY, job);
+            redisClient.leftPush(QUEUE_KEY, job);
+        } catch (Exception e) {
+            // 큐 등록 실패 시 락 해제
+            jobStore.finish(roomId, TripCreateStatus.FAILED);
+            throw e;
+        }
+        log.info("일정 생성 작업 등록: roomId={}", roomId);
+        return new TripCreateStatusResponse(TripCreateStatus.WAITING, null, 0);
+    }
+
+    /**
+     * 일정 생성 취소
+     * 대기 중이면 바로 큐에서 빼고, 실행 중이면 취소 요청을 남겨 워커가 중단합니다.
+     * 새 여행 전환이 이미 확정된 작업은 취소하지 않고 현재 상태를 반환합니다.
+     */
+    public TripCreateStatusResponse cancel(Long userId, Long roomId) {
+        if (!userRoomRepository.existsByUser_UserIdAndRoom_RoomId(userId, roomId))
+            throw new BadCredentialsException("해당 권한이 없습니다.");
+
+        TripCreateStatus status = jobStore.getStatus(roomId);
+        if (status != TripCreateStatus.WAITING && status != TripCreateStatus.RUNNING) {
+            throw new CustomException(ErrorCode.TRIP_CREATING_NOT_FOUND);
+        }
+
+        String job = String.valueOf(roomId);
+        if (status == TripCreateStatus.WAITING) {
+            boolean removed = redisClient.removeFromList(QUEUE_KEY, job) > 0;
+            removed |= redisClient.removeFromSortedSet(DELAYED_KEY, job);
+            if (removed) {
+                jobStore.finish(roomId, TripCreateStatus.CANCELLED);
+                log.info("일정 생성 작업 취소(대기 중): roomId={}", roomId);
+                return new TripCreateStatusResponse(TripCreateStatus.CANCELLED, null, null);
+            }
+            // 그 사이 워커가 가져간 경우 실행 중 취소로 처리
+        }
+
+        if (jobStore.requestCancel(roomId)) {
+            log.info("일정 생성 작업 취소 요청(실행 중): roomId={}", roomId);
+        } else {
+            log.info("일정 생성 작업 취소 무시(전환 확정): roomId={}", roomId);
+        }
+        return new TripCreateStatusResponse(status, null, jobStore.getProgress(roomId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorkers() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::pollJobs);
+        }
+        log.info("일정 생성 워커 시작: workers={}", workers);
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+        running = false;
+    }
+
+    private void pollJobs() {
+        while (running) {
+            String job;
+            try {
+                job = redisClient.blockingMove(QUEUE_KEY, PROCESSING_KEY, pollTimeout);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("일정 생성 큐 조회 실패: {}", e.getMessage());
+                sleep(pollTimeout);
+                continue;
+            }
+            if (job != null) {
+                process(job);
+            }
+        }
+    }
+
+    void process(String job) {
+        Long roomId = Long.valueOf(job);
+        try {
+            // 대기 중 락이 만료됐거나 취소된 작업
+            if (!jobStore.isActive(roomId)) {
+                // 취소된 작업은 결과가 남아 있음. 결과 없이 락만 사라졌으면 대기 중 만료로 실패 처리
+                if (jobStore.getStatus(roomId) == null) {
+                    log.warn("일정 생성 작업 대기 시간 만료: roomId={}", roomId);
+                    jobStore.finish(roomId, TripCreateStatus.FAILED);
+                    notifyError(roomId);
+                }
+                return;
+            }
+            if (jobStore.isCancelRequested(roomId)) {
+                jobStore.finish(roomId, TripCreateStatus.CANCELLED);
+                return;
+            }
+
+            jobStore.markRunning(roomId);
+            jobStore.renewLease(roomId, leaseSeconds);
+            log.info("일정 생성 작업 시작: roomId={}", roomId);
+
+            Long tripId = chatService.makeTrip(roomId)
+                    .takeUntilOther(stopSignal(roomId))
+                    .block();
+
+            if (tripId != null || jobStore.isActivationClaimed(roomId)) {
+                // 전환이 확정된 뒤에는 종료 신호로 구독이 끊겨도 완료로 처리
+                jobStore.finish(roomId, TripCreateStatus.SUCCESS);
+                log.info("일정 생성 작업 완료: roomId={}, tripId={}", roomId, tripId);
+            } else if (!running) {
+                // 종료 중 중단된 작업은 다시 대기열로
+                jobStore.markWaiting(roomId);
+                redisClient.leftPush(QUEUE_KEY, job);
+                log.info("일정 생성 작업 반환(종료): roomId={}", roomId);
+            } else {
+                jobStore.finish(roomId, TripCreateStatus.CANCELLED);
+                log.info("일정 생성 작업 취소: roomId={}", roomId);
+            }
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.MODEL_CONNECTION_FAIL && scheduleRetry(roomId, job)) {
+                return;
+            }
+            fail(roomId, e);
+        } catch (Exception e) {
+            fail(roomId, e);
+        } finally {
+            redisClient.removeFromList(PROCESSING_KEY, job);
+        }
+    }
+
+    // 주기적으로 임대를 갱신하고, 취소 요청이나 서버 종료 시 신호를 보냄 (전환 확정 후에는 보내지 않음)
+    private Mono<Long> stopSignal(Long roomId) {
+        Duration heartbeat = Duration.ofSeconds(Math.max(1, leaseSeconds / 3));
+        return Flux.interval(heartbeat, Schedulers.boundedElastic())
+                .filter(tick -> {
+                    jobStore.renewLease(roomId, leaseSeconds);
+                    jobStore.markRunning(roomId);
+                    return (!running || jobStore.isCancelRequested(roomId)) && !jobStore.isActivationClaimed(roomId);
+                })
+                .next();
+    }
+
+    private boolean scheduleRetry(Long roomId, String job) {
+        int attempts = jobStore.incrementAttempts(roomId);
+        if (attempts >= maxAttempts) {
+            return false;
+        }
+        long delaySeconds = retryBackoffSeconds * (1L << (attempts - 1));
+        jobStore.markWaiting(roomId);
+        redisClient.addToSortedSet(DELAYED_KEY, job, System.currentTimeMillis() + delaySeconds * 1000);
+        log.warn("모델 서버 연결 실패, 재시도 예약: roomId={}, attempts={}, delay={}s", roomId, attempts, delaySeconds);
+        return true;
+    }
+
+    private void fail(Long roomId, Exception e) {
+        log.error("일정 생성 작업 실패: roomId={}, err={}", roomId, e.toString());
+        jobStore.finish(roomId, TripCreateStatus.FAILED);
+        notifyError(roomId);
+    }
+
+    private void notifyError(Long roomId) {
+        try {
+            publisher.publishEvent(new TripErrorEvent(roomId));
+        } catch (Exception ignore) { /* 이벤트 발행 실패 무시 */ }
+    }
+
+    /**
+     * 재시도 시각이 된 작업을 대기열로 옮기고, 임대가 끊긴 실행 중 작업을 복구
+     */
+    @Scheduled(fixedDelayString = "${trip.generation.maintenance-interval-millis:5000}")
+    public void maintain() {
+        try {
+            for (String job : redisClient.getSortedSetUpTo(DELAYED_KEY, System.currentTimeMillis())) {
+                // 먼저 지운 인스턴스만 옮김
+                if (redisClient.removeFromSortedSet(DELAYED_KEY, job)) {
+                    redisClient.leftPush(QUEUE_KEY, job);
+                }
+            }
+            recoverOrphans();
+        } catch (Exception e) {
+            log.warn("일정 생성 큐 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void recoverOrphans() {
+        List<String> processing = redisClient.getList(PROCESSING_KEY);
+        orphanSuspects.retainAll(processing);
+
+        for (String job : processing) {
+            Long roomId = Long.valueOf(job);
+            if (jobStore.hasLease(roomId)) {
+                orphanSuspects.remove(job);
+                continue;
+            }
+            // 방금 꺼내 아직 임대를 잡지 못한 작업일 수 있어 한 번 더 확인
+            if (orphanSuspects.add(job)) {
+                continue;
+            }
+            orphanSuspects.remove(job);
+            if (redisClient.removeFromList(PROCESSING_KEY, job) == 0) {
+                continue;
+            }
+            if (jobStore.isActive(roomId)) {
+                jobStore.markWaiting(roomId);
+                redisClient.leftPush(QUEUE_KEY, job);
+                log.warn("중단된 일정 생성 작업 복구: roomId={}", roomId);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package triB.triB.chat.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import triB.triB.chat.dto.TripCreateStatus;
+import triB.triB.global.infra.RedisClient;
+
+import java.util.List;
+
+/**
+ * 일정 생성 작업 상태 (Redis, 채팅방 단위)
+ *
+ * <ul>
+ *     <li>trip:create:lock - 진행 중 상태(WAITING/RUNNING), 채팅방당 작업 1개만 허용</li>
+ *     <li>trip:create:progress - 진행률(0~100)</li>
+ *     <li>trip:create:result - 마지막 작업이 실패/취소된 경우 결과 (잠시 보관)</li>
+ *     <li>trip:create:attempts - 재시도 횟수</li>
+ *     <li>trip:create:cancel - 실행 중 작업 취소 요청</li>
+ *     <li>trip:create:lease - 실행 중인 워커의 임대 (만료되면 다른 워커가 다시 가져감)</li>
+ *     <li>trip:create:commit - 새 여행 전환 확정 (이후 취소 요청은 받지 않음)</li>
+ *     <li>trip:create:pending - 저장 중인 생성 중 여행 ID. 전환/정리 후 지우며,
+ *     워커가 중단되어 남아 있으면 다음 실행 시작 전에 정리합니다. 작업 만료 후에도 남도록 별도 TTL을 둡니다.</li>
+ * </ul>
+ * 상태는 작업을 가진 워커만 바꾸므로 별도 원자 연산 없이 덮어씁니다.
+ * 단, 취소 요청과 전환 확정은 서로 다른 쪽에서 동시에 일어날 수 있어 Lua 스크립트로 한쪽만 성공시킵니다.
+ */
+@Component
+public class TripGenerationJobStore {
+
+    private static final String LOCK_PREFIX = "trip:create:lock";
+    private static final String PROGRESS_PREFIX = "trip:create:progress";
+    private static final String RESULT_PREFIX = "trip:create:result";
+    private static final String ATTEMPTS_PREFIX = "trip:create:attempts";
+    private static final String CANCEL_PREFIX = "trip:create:cancel";
+    private static final String LEASE_PREFIX = "trip:create:lease";
+    private static final String COMMIT_PREFIX = "trip:create:commit";
+    private static final String PENDING_PREFIX = "trip:create:pending";
+
+    // 작업이 살아 있고 취소 요청이 없을 때만 전환 확정
+    private static final DefaultRedisScript<Long> CLAIM_ACTIVATION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 or redis.call('exists', KEYS[2]) == 1 then return 0 end " +
+            "redis.call('set', KEYS[3], '1', 'EX', ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 전환이 확정되지 않았을 때만 취소 요청 기록
+    private static final DefaultRedisScript<Long> REQUEST_CANCEL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('set', KEYS[2], '1', 'EX', ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisClient redisClient;
+    private final long jobTtlSeconds;
+    private final long resultTtlSeconds;
+    private final long pendingTtlSeconds;
+
+    public TripGenerationJobStore(
+            RedisClient redisClient,
+            @Value("${trip.generation.job-ttl-seconds:3600}") long jobTtlSeconds,
+            @Value("${trip.generation.result-ttl-seconds:600}") long resultTtlSeconds,
+            @Value("${trip.generation.pending-ttl-hours:168}") long pendingTtlHours) {
+        this.redisClient = redisClient;
+        this.jobTtlSeconds = jobTtlSeconds;
+        this.resultTtlSeconds = resultTtlSeconds;
+        this.pendingTtlSeconds = pendingTtlHours * 3600;
+    }
+
+    /**
+     * 대기 상태로 작업 등록 (이미 진행 중이면 false)
+     */
+    public boolean register(Long roomId) {
+        String key = String.valueOf(roomId);
+        Boolean registered = redisClient.setIfAbsent(LOCK_PREFIX, key, String.valueOf(TripCreateStatus.WAITING), jobTtlSeconds);
+        if (!Boolean.TRUE.equals(registered)) {
+            return false;
+        }
+        redisClient.deleteData(RESULT_PREFIX, key);
+        redisClient.deleteData(ATTEMPTS_PREFIX, key);
+        redisClient.deleteData(CANCEL_PREFIX, key);
+        redisClient.deleteData(PROGRESS_PREFIX, key);
+        redisClient.deleteData(COMMIT_PREFIX, key);
+        return true;
+    }
+
+    /**
+     * 현재 작업 상태. 진행 중이 아니면 마지막 실패/취소 결과, 둘 다 없으면 null
+     */
+    public TripCreateStatus getStatus(Long roomId) {
+        String key = String.valueOf(roomId);
+        String status = redisClient.getData(LOCK_PREFIX, key);
+        if (status == null) {
+            status = redisClient.getData(RESULT_PREFIX, key);
+        }
+        return status != null ? TripCreateStatus.valueOf(status) : null;
+    }
+
+    public boolean isActive(Long roomId) {
+        return redisClient.getData(LOCK_PREFIX, String.valueOf(roomId)) != null;
+    }
+
+    public void markRunning(Long roomId) {
+        redisClient.setData(LOCK_PREFIX, String.valueOf(roomId), String.valueOf(TripCreateStatus.RUNNING), jobTtlSeconds);
+    }
+
+    public void markWaiting(Long roomId) {
+        redisClient.setData(LOCK_PREFIX, String.valueOf(roomId), String.valueOf(TripCreateStatus.WAITING), jobTtlSeconds);
+        redisClient.deleteData(PROGRESS_PREFIX, String.valueOf(roomId));
+    }
+
+    /**
+     * 작업 종료: 진행 상태를 지우고, 성공이 아니면 결과를 잠시 보관
+     */
+    public void finish(Long roomId, TripCreateStatus result) {
+        String key = String.valueOf(roomId);
+        redisClient.deleteData(LOCK_PREFIX, key);
+        redisClient.deleteData(PROGRESS_PREFIX, key);
+        redisClient.deleteData(ATTEMPTS_PREFIX, key);
+        redisClient.deleteData(CANCEL_PREFIX, key);
+        redisClient.deleteData(LEASE_PREFIX, key);
+        redisClient.deleteData(COMMIT_PREFIX, key);
+        if (result != TripCreateStatus.SUCCESS) {
+            redisClient.setData(RESULT_PREFIX, key, String.valueOf(result), resultTtlSeconds);
+        }
+    }
+
+    public int incrementAttempts(Long roomId) {
+        String current = redisClient.getData(ATTEMPTS_PREFIX, String.valueOf(roomId));
+        int attempts = (current != null ? Integer.parseInt(current) : 0) + 1;
+        redisClient.setData(ATTEMPTS_PREFIX, String.valueOf(roomId), String.valueOf(attempts), jobTtlSeconds);
+        return attempts;
+    }
+
+    public void setProgress(Long roomId, int progress) {
+        redisClient.setData(PROGRESS_PREFIX, String.valueOf(roomId), String.valueOf(progress), jobTtlSeconds);
+    }
+
+    public Integer getProgress(Long roomId) {
+        String progress = redisClient.getData(PROGRESS_PREFIX, String.valueOf(roomId));
+        return progress != null ? Integer.valueOf(progress) : null;
+    }
+
+    /**
+     * 실행 중 작업 취소 요청
+     *
+     * @return 이미 새 여행 전환이 확정되어 취소할 수 없으면 false
+     */
+    public boolean requestCancel(Long roomId) {
+        String key = String.valueOf(roomId);
+        Long requested = redisClient.execute(REQUEST_CANCEL_SCRIPT,
+                List.of(COMMIT_PREFIX + ":" + key, CANCEL_PREFIX + ":" + key), String.valueOf(jobTtlSeconds));
+        return requested != null && requested == 1;
+    }
+
+    public boolean isCancelRequested(Long roomId) {
+        return redisClient.getData(CANCEL_PREFIX, String.valueOf(roomId)) != null;
+    }
+
+    /**
+     * 새 여행 전환 확정. 취소 요청이 있거나 작업이 만료됐으면 false (전환하지 않아야 함)
+     */
+    public boolean claimActivation(Long roomId) {
+        String key = String.valueOf(roomId);
+        Long claimed = redisClient.execute(CLAIM_ACTIVATION_SCRIPT,
+                List.of(LOCK_PREFIX + ":" + key, CANCEL_PREFIX + ":" + key, COMMIT_PREFIX + ":" + key),
+                String.valueOf(jobTtlSeconds));
+        return claimed != null && claimed == 1;
+    }
+
+    public boolean isActivationClaimed(Long roomId) {
+        return redisClient.getData(COMMIT_PREFIX, String.valueOf(roomId)) != null;
+    }
+
+    /**
+     * 저장을 시작한 생성 중 여행 기록
+     */
+    public void setPendingTrip(Long roomId, Long tripId) {
+        redisClient.setData(PENDING_PREFIX, String.valueOf(roomId), String.valueOf(tripId), pendingTtlSeconds);
+    }
+
+    /**
+     * 전환/정리되지 않고 남은 생성 중 여행 ID (없으면 null)
+     */
+    public Long getPendingTrip(Long roomId) {
+        String tripId = redisClient.getData(PENDING_PREFIX, String.valueOf(roomId));
+        return tripId != null ? Long.valueOf(tripId) : null;
+    }
+
+    /**
+     * 생성 중 여행 기록 삭제 (그 사이 다른 여행으로 바뀌었으면 유지)
+     */
+    public void clearPendingTrip(Long roomId, Long tripId) {
+        redisClient.deleteIfValueMatches(PENDING_PREFIX, String.valueOf(roomId), String.valueOf(tripId));
+    }
+
+    public void renewLease(Long roomId, long leaseSeconds) {
+        redisClient.setData(LEASE_PREFIX, String.valueOf(roomId), "1", leaseSeconds);
+    }
+
+    public boolean hasLease(Long roomId) {
+        return redisClient.getData(LEASE_PREFIX, String.valueOf(roomId)) != null;
+    }
+}
@@ -0,0 +1,117 @@
+package triB.triB.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import triB.triB.chat.dto.ModelResponse;
+import triB.triB.chat.dto.ModelStreamChunk;
+import triB.triB.chat.event.TripCreatedEvent;
+import triB.triB.room.entity.Room;
+import triB.triB.schedule.entity.Schedule;
+import triB.triB.schedule.entity.Trip;
+import triB.triB.schedule.entity.VersionStatus;
+import triB.triB.schedule.repository.ScheduleBulkRepository;
+import triB.triB.schedule.repository.TripRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * AI 생성 일정 저장 (일차 단위)
+ *
+ * <p>생성 중인 여행은 OLD 상태로 저장해 두어 완료 전까지 기존 여행이 계속 조회되도록 하고,
+ * 하루 일정이 도착할 때마다 짧은 트랜잭션으로 저장합니다.
+ * 모든 일차 저장이 끝나면 기존 여행과 상태를 맞바꾸며({@link #activate}), 실패 시 {@link #discard}로 정리합니다.
+ * 워커가 중단되어 정리하지 못한 여행은 {@link TripGenerationJobStore}에 남긴 생성 중 여행 ID로 다음 실행 시작 전에 정리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TripItineraryWriter {
+
+    private final TripRepository tripRepository;
+    private final ScheduleBulkRepository scheduleBulkRepository;
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * 생성 중인 여행 저장 (OLD 상태라 완료 전까지 조회되지 않음)
+     */
+    @Transactional
+    public Long createPendingTrip(Room room, ModelStreamChunk meta) {
+        Trip t = Trip.builder()
+                .roomId(room.getRoomId())
+                .destination(room.getDestination())
+                .versionStatus(VersionStatus.OLD)
+                .travelMode(meta.getTravelMode())
+                .accommodationCostInfo(meta.getAccommodationCostInfo())
+                .budget(meta.getBudget())
+                .build();
+        tripRepository.save(t);
+        return t.getTripId();
+    }
+
+    /**
+     * 하루 일정 저장 (JDBC batch)
+     */
+    @Transactional
+    public void saveDay(Long tripId, Room room, Integer day, List<ModelResponse.Visit> visits) {
+        LocalDate date = room.getStartDate().plusDays(day - 1); // + dayNumber - 1
+
+        List<Schedule> schedules = visits.stream()
+                .map(visit -> {
+                    LocalDateTime arrival = date.atTime(LocalTime.parse(visit.getArrival()));
+                    LocalDateTime departure = date.atTime(LocalTime.parse(visit.getDeparture()));
+
+                    return Schedule.builder()
+                            .tripId(tripId)
+                            .dayNumber(day)
+                            .date(date)
+                            .visitOrder(visit.getOrder())
+                            .placeName(visit.getDisplayName())
+                            .placeTag(visit.getPlaceTag())
+                            .latitude(visit.getLatitude())
+                            .longitude(visit.getLongitude())
+                            .isVisit(false)
+                            .arrival(arrival)
+                            .departure(departure)
+                            .travelMinutes(visit.getTravelTime())
+                            .estimatedCost(visit.getEstimatedCost())
+                            .costExplanation(visit.getCostExplanation())
+                            .build();
+                })
+                .toList();
+        scheduleBulkRepository.insertAll(schedules);
+    }
+
+    /**
+     * 생성이 끝난 여행을 채팅방의 현재 여행으로 전환 (기존 여행은 OLD)
+     */
+    @Transactional
+    public void activate(Long tripId, Long roomId) {
+        tripRepository.retireCurrentTrips(roomId);
+        // 다른 실행이 먼저 정리한 여행이면 기존 여행 보관도 되돌림
+        if (tripRepository.activateTrip(tripId) == 0) {
+            throw new IllegalStateException("전환할 여행이 없습니다. tripId=" + tripId);
+        }
+
+        publisher.publishEvent(new TripCreatedEvent(tripId, roomId));
+    }
+
+    /**
+     * 생성에 실패한 여행과 일정 삭제 (이미 현재 여행으로 전환된 여행은 유지)
+     */
+    @Transactional
+    public void discard(Long tripId) {
+        if (tripRepository.countInactiveTrip(tripId) == 0) {
+            log.info("정리할 생성 중 여행 없음: tripId={}", tripId);
+            return;
+        }
+        int deleted = scheduleBulkRepository.deleteByTripId(tripId);
+        tripRepository.deleteTripById(tripId);
+        log.info("생성 실패 여행 정리: tripId={}, schedules={}", tripId, deleted);
+    }
+}
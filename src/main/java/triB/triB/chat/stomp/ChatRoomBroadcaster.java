@@ -0,0 +1,122 @@
+package triB.triB.chat.stomp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import triB.triB.global.infra.RedisClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 채팅방 구독자 전체에게 메세지 전송 (Redis pub/sub 경유)
+ *
+ * <p>/sub/chat/{roomId} 전송을 채팅방별 Redis 채널(chat:room:{roomId})에 발행하고,
+ * 모든 인스턴스가 채널을 구독해 각자 연결된 세션에 전달합니다. 발행한 인스턴스도 구독으로 받아 전달하므로
+ * 인스턴스 수와 관계없이 한 번씩만 전달됩니다.
+ * <ul>
+ *     <li>Redis는 채널 메세지를 받은 순서대로 모든 구독자에게 보내며, 리스너 컨테이너는 수신 스레드에서 바로 호출합니다.</li>
+ *     <li>전달은 roomId로 고른 단일 스레드에서 처리해 채팅방 단위 순서를 유지하고, 채팅방끼리는 병렬로 처리합니다.</li>
+ *     <li>발행에 실패하면 이 인스턴스의 세션에만 직접 전달합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChatRoomBroadcaster implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "chat:room:";
+    private static final String DESTINATION_PREFIX = "/sub/chat/";
+
+    private final RedisClient redisClient;
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ExecutorService[] relayers;
+
+    public ChatRoomBroadcaster(
+            RedisClient redisClient,
+            ObjectMapper objectMapper,
+            SimpMessagingTemplate messagingTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${chat.relay.workers:4}") int workers) {
+        this.redisClient = redisClient;
+        this.objectMapper = objectMapper;
+        this.messagingTemplate = messagingTemplate;
+        this.relayers = new ExecutorService[workers];
+        for (int i = 0; i < workers; i++) {
+            relayers[i] = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("chat-relay-" + i + "-"));
+        }
+        listenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+    }
+
+    /**
+     * 채팅방 구독자 전체에게 전송 (payload는 JSON으로 직렬화)
+     */
+    public void broadcast(Long roomId, Object payload) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("채팅방 메세지 직렬화에 실패했습니다.", e);
+        }
+
+        try {
+            redisClient.publish(CHANNEL_PREFIX + roomId, new String(body, StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.warn("채팅방 메세지 발행 실패, 현재 인스턴스에만 전달: roomId={}, error={}", roomId, e.getMessage());
+            deliver(roomId, body);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        Long roomId = parseRoomId(channel);
+        if (roomId == null) {
+            log.warn("알 수 없는 채팅방 채널: {}", channel);
+            return;
+        }
+
+        byte[] body = message.getBody();
+        relayers[Math.floorMod(roomId, relayers.length)].execute(() -> deliver(roomId, body));
+    }
+
+    private void deliver(Long roomId, byte[] body) {
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(DESTINATION_PREFIX + roomId, MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+        } catch (RuntimeException e) {
+            log.warn("채팅방 메세지 전달 실패: roomId={}, error={}", roomId, e.getMessage());
+        }
+    }
+
+    private static Long parseRoomId(String channel) {
+        try {
+            return Long.valueOf(channel.substring(CHANNEL_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService relayer : relayers) {
+            relayer.shutdown();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package triB.triB.chat.stomp;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import triB.triB.global.infra.RedisClient;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 접속자 목록 (roomId → 구독 중인 userId)
+ *
+ * <p>SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 시 갱신하는 인스턴스 로컬 색인과,
+ * 다른 인스턴스에서도 조회할 수 있도록 Redis에 복제한 목록을 함께 사용합니다.
+ * <ul>
+ *     <li>로컬: roomId → userId → 구독(sessionId:subscriptionId) 집합. 같은 사용자의 여러 기기/구독을 구분합니다.</li>
+ *     <li>Redis: presence:room:{roomId} 정렬 집합, member = "userId:인스턴스ID", score = 만료 시각(ms).
+ *     인스턴스마다 주기적으로 만료 시각을 갱신하므로, 인스턴스가 죽으면 TTL 후 자동으로 빠집니다.</li>
+ * </ul>
+ * Redis 오류 시에는 로컬 색인만으로 판단합니다.
+ */
+@Slf4j
+@Component
+public class RoomPresenceRegistry {
+
+    private static final String PREFIX = "presence:room:";
+
+    private final RedisClient redisClient;
+    private final long ttlMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<Long, Map<Long, Set<String>>> rooms = new ConcurrentHashMap<>();
+    // sessionId → subscriptionId → 구독 정보 (DISCONNECT 시 남은 구독 정리용)
+    private final Map<String, Map<String, Subscription>> sessions = new ConcurrentHashMap<>();
+
+    public RoomPresenceRegistry(
+            RedisClient redisClient,
+            @Value("${chat.presence.ttl-seconds:45}") long ttlSeconds) {
+        this.redisClient = redisClient;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public void subscribe(Long roomId, Long userId, String sessionId, String subscriptionId) {
+        sessions.compute(sessionId, (id, subscriptions) -> {
+            Map<String, Subscription> sessionSubscriptions = subscriptions != null ? subscriptions : new ConcurrentHashMap<>();
+            sessionSubscriptions.put(subscriptionId, new Subscription(roomId, userId));
+            return sessionSubscriptions;
+        });
+
+        String subscriptionKey = sessionId + ":" + subscriptionId;
+        rooms.compute(roomId, (id, users) -> {
+            Map<Long, Set<String>> roomUsers = users != null ? users : new ConcurrentHashMap<>();
+            roomUsers.computeIfAbsent(userId, u -> ConcurrentHashMap.newKeySet()).add(subscriptionKey);
+            return roomUsers;
+        });
+        publish(roomId, userId);
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        Subscription[] removed = {null};
+        sessions.computeIfPresent(sessionId, (id, subscriptions) -> {
+            removed[0] = subscriptions.remove(subscriptionId);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        if (removed[0] != null) {
+            remove(removed[0], sessionId + ":" + subscriptionId);
+        }
+    }
+
+    /**
+     * 연결 종료 시 세션에 남은 구독 모두 제거
+     */
+    public void disconnect(String sessionId) {
+        Map<String, Subscription> subscriptions = sessions.remove(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.forEach((subscriptionId, subscription) -> remove(subscription, sessionId + ":" + subscriptionId));
+    }
+
+    /**
+     * 채팅방을 구독 중인 사용자 (모든 인스턴스)
+     */
+    public Set<Long> getOnlineUserIds(Long roomId) {
+        Set<Long> userIds = new HashSet<>(rooms.getOrDefault(roomId, Map.of()).keySet());
+        try {
+            for (String member : redisClient.getSortedSetFrom(key(roomId), System.currentTimeMillis())) {
+                userIds.add(Long.valueOf(member.substring(0, member.indexOf(':'))));
+            }
+        } catch (RuntimeException e) {
+            log.warn("채팅방 접속자 조회 실패, 로컬 정보만 사용: roomId={}, error={}", roomId, e.getMessage());
+        }
+        return userIds;
+    }
+
+    /**
+     * 이 인스턴스 구독 정보의 만료 시각 갱신 + 만료된 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.heartbeat-millis:15000}")
+    public void heartbeat() {
+        rooms.forEach((roomId, users) -> {
+            try {
+                long now = System.currentTimeMillis();
+                for (Long userId : users.keySet()) {
+                    redisClient.addToSortedSet(key(roomId), member(userId), now + ttlMillis);
+                }
+                redisClient.removeFromSortedSetUpTo(key(roomId), now);
+                redisClient.expire(key(roomId), ttlMillis / 1000);
+            } catch (RuntimeException e) {
+                log.warn("채팅방 접속자 갱신 실패: roomId={}, error={}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    private void remove(Subscription subscription, String subscriptionKey) {
+        boolean[] lastSubscription = {false};
+        rooms.computeIfPresent(subscription.roomId(), (id, users) -> {
+            users.computeIfPresent(subscription.userId(), (u, keys) -> {
+                keys.remove(subscriptionKey);
+                lastSubscription[0] = keys.isEmpty();
+                return keys.isEmpty() ? null : keys;
+            });
+            return users.isEmpty() ? null : users;
+        });
+        if (!lastSubscription[0]) {
+            return;
+        }
+        try {
+            redisClient.removeFromSortedSet(key(subscription.roomId()), member(subscription.userId()));
+        } catch (RuntimeException e) {
+            log.warn("채팅방 접속자 제거 실패: roomId={}, userId={}, error={}", subscription.roomId(), subscription.userId(), e.getMessage());
+        }
+    }
+
+    private void publish(Long roomId, Long userId) {
+        try {
+            redisClient.addToSortedSet(key(roomId), member(userId), System.currentTimeMillis() + ttlMillis);
+            redisClient.expire(key(roomId), ttlMillis / 1000);
+        } catch (RuntimeException e) {
+            log.warn("채팅방 접속자 등록 실패: roomId={}, userId={}, error={}", roomId, userId, e.getMessage());
+        }
+    }
+
+    private String member(Long userId) {
+        return userId + ":" + nodeId;
+    }
+
+    private static String key(Long roomId) {
+        return PREFIX + roomId;
+    }
+
+    private record Subscription(Long roomId, Long userId) {
+    }
+}
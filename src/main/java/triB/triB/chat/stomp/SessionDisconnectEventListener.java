@@ -16,9 +16,12 @@ import triB.triB.global.security.UserPrincipal;
 public class SessionDisconnectEventListener {
 
     private final SocketService socketService;
+    private final RoomPresenceRegistry roomPresenceRegistry;
 
     @EventListener(SessionDisconnectEvent.class)
     public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        roomPresenceRegistry.disconnect(event.getSessionId());
+
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
         Authentication auth = (Authentication) accessor.getUser();
         if (auth == null)
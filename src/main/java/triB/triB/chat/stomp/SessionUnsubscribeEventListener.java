@@ -16,6 +16,7 @@ import triB.triB.global.security.UserPrincipal;
 public class SessionUnsubscribeEventListener {
 
     private final SocketService socketService;
+    private final RoomPresenceRegistry roomPresenceRegistry;
 
     @EventListener(SessionUnsubscribeEvent.class)
     public void handleSessionUnsubscribe(SessionUnsubscribeEvent event) {
@@ -28,6 +29,7 @@ public class SessionUnsubscribeEventListener {
         Long userId = userPrincipal.getUserId();
 
         String subscriptionId = accessor.getSubscriptionId();
+        roomPresenceRegistry.unsubscribe(accessor.getSessionId(), subscriptionId);
         Long roomId = (Long) accessor.getSessionAttributes().get("subscription:" + subscriptionId);
 
         if (roomId != null){
@@ -31,6 +31,7 @@ public class StompInterceptor implements ChannelInterceptor {
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
     private final UserRoomRepository userRoomRepository;
+    private final RoomPresenceRegistry roomPresenceRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -90,6 +91,7 @@ public class StompInterceptor implements ChannelInterceptor {
                     }
                     // 구독 정보 저장 (UNSUBSCRIBE 시 사용)
                     accessor.getSessionAttributes().put("subscription:" + accessor.getSubscriptionId(), roomId);
+                    roomPresenceRegistry.subscribe(roomId, userId, accessor.getSessionId(), accessor.getSubscriptionId());
 
                     log.debug("채팅방 구독 성공. userId={}, roomId={}", userId, roomId);
                 } catch (NumberFormatException e) {
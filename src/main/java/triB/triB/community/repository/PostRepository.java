@@ -9,6 +9,7 @@ import triB.triB.community.entity.PostType;
 import triB.triB.schedule.entity.Trip;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +45,18 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     @Query("select p.title from Post p where p.postId = :postId")
     String findTitleByPostId(@Param("postId") Long postId);
 
+    /**
+     * 게시글별 제목 배치 조회 ([postId, title])
+     */
+    @Query("select p.postId, p.title from Post p where p.postId in :postIds")
+    List<Object[]> findTitlesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글별 여행 ID 배치 조회 ([postId, tripId])
+     */
+    @Query("select p.postId, p.tripId from Post p where p.postId in :postIds")
+    List<Object[]> findTripIdsByPostIds(@Param("postIds") Collection<Long> postIds);
+
     @Query("select p from Post p left join fetch p.trip t left join fetch t.room join fetch p.user where p.userId = :userId and p.postType = :postType order by p.postId desc")
     List<Post> findByUser_UserIdAndPostTypeOrderByPostIdDesc(@Param("userId") Long userId, @Param("postType") PostType postType);
 }
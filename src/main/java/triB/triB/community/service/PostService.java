@@ -6,10 +6,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import triB.triB.auth.entity.User;
 import triB.triB.auth.repository.UserRepository;
-import triB.triB.chat.entity.Message;
-import triB.triB.chat.entity.MessageStatus;
-import triB.triB.chat.entity.MessageType;
 import triB.triB.chat.repository.MessageRepository;
+import triB.triB.chat.service.HotMessageCache;
 import triB.triB.community.dto.HashtagResponse;
 import triB.triB.community.dto.request.FreeBoardPostCreateRequest;
 import triB.triB.community.dto.request.FreeBoardPostFilterRequest;
@@ -55,6 +53,7 @@ public class PostService {
     private final ScheduleService scheduleService;
     private final triB.triB.global.utils.CheckBadWordsUtil checkBadWordsUtil;
     private final PostBlockRepository postBlockRepository;
+    private final HotMessageCache hotMessageCache;
 
     /**
      * 일정 공유 게시글 작성 미리보기
@@ -378,12 +377,10 @@ public class PostService {
         changeMessageStatus(postId);
     }
 
+    // 채팅방에 공유된 메세지를 삭제된 게시글 표시로 변경 (채팅 내역 조회 시 추가 처리 없음)
     private void changeMessageStatus(Long postId){
-        List<Message> messages = messageRepository.findByMessageTypeAndContent(MessageType.COMMUNITY_SHARE, postId.toString());
-        messages.forEach(m -> {
-            m.setMessageStatus(MessageStatus.DELETE);
-            messageRepository.save(m);
-        });
+        hotMessageCache.evict(messageRepository.findRoomIdsBySharedPost(postId.toString()));
+        messageRepository.tombstoneSharedPost(postId.toString(), "삭제된 게시글입니다.");
     }
 
     /**
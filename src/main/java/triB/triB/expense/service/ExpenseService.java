@@ -10,10 +10,10 @@ import triB.triB.expense.entity.Expense;
 import triB.triB.expense.entity.ExpenseCategory;
 import triB.triB.expense.entity.PaymentMethod;
 import triB.triB.expense.repository.ExpenseRepository;
-import triB.triB.room.entity.UserRoomId;
 import triB.triB.room.repository.UserRoomRepository;
 import triB.triB.schedule.entity.Trip;
 import triB.triB.schedule.repository.TripRepository;
+import triB.triB.schedule.service.TripAccessService;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -31,6 +31,7 @@ public class ExpenseService {
     private final TripRepository tripRepository;
     private final UserRepository userRepository;
     private final UserRoomRepository userRoomRepository;
+    private final TripAccessService tripAccessService;
     
     @Transactional
     public ExpenseDetailsResponse createExpense(Long tripId, Long userId, ExpenseCreateRequest request) {
@@ -299,11 +300,8 @@ public class ExpenseService {
         // Validate trip exists and user is participant
         validateUserInTrip(tripId, userId);
 
-        // Trip에서 roomId 조회
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
-
-        Long roomId = trip.getRoomId();
+        // Trip에서 roomId 조회 (권한 검증 시 캐시됨)
+        Long roomId = tripAccessService.getRoomId(tripId);
 
         // UserRoom에서 해당 Room의 모든 참여자 조회
         List<User> participants = userRoomRepository.findUsersByRoomId(roomId);
@@ -385,18 +383,10 @@ public class ExpenseService {
     }
 
     /**
-     * 사용자가 해당 여행의 참여자인지 검증
-     * Trip -> Room -> UserRoom 순으로 확인
+     * 사용자가 해당 여행의 참여자인지 검증 (TripAccessService 캐시 사용)
      */
     private void validateUserInTrip(Long tripId, Long userId) {
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
-
-        Long roomId = trip.getRoomId();
-        UserRoomId userRoomId = new UserRoomId(userId, roomId);
-
-        boolean isParticipant = userRoomRepository.existsById(userRoomId);
-        if (!isParticipant) {
+        if (!tripAccessService.isParticipant(tripId, userId)) {
             throw new IllegalArgumentException("해당 여행의 참여자만 접근할 수 있습니다.");
         }
     }
@@ -0,0 +1,17 @@
+package triB.triB.global.batch;
+
+import java.time.Duration;
+
+/**
+ * 배치 작업 1회 실행 결과
+ *
+ * @param resumedFrom 체크포인트에서 이어서 실행한 경우 시작 id, 처음부터면 0
+ * @param skipped     다른 인스턴스가 실행 중이라 건너뛴 경우 true
+ */
+public record BatchJobResult(String jobName, int chunks, long scanned, long updated,
+                             long resumedFrom, Duration duration, boolean skipped) {
+
+    static BatchJobResult skipped(String jobName) {
+        return new BatchJobResult(jobName, 0, 0, 0, 0, Duration.ZERO, true);
+    }
+}
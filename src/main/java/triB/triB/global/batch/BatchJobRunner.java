@@ -0,0 +1,138 @@
+package triB.triB.global.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import triB.triB.global.infra.RedisClient;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 청크 단위 배치 실행기
+ *
+ * <ul>
+ *     <li>청크마다 짧은 트랜잭션으로 처리해 긴 락과 대량 엔티티 로딩을 피합니다.</li>
+ *     <li>청크가 끝날 때마다 (runId, 마지막 id)를 Redis에 저장하고,
+ *     같은 runId로 다시 실행하면 체크포인트부터 이어서 처리합니다. 정상 종료 시 체크포인트를 지웁니다.</li>
+ *     <li>같은 작업은 Redis 락으로 인스턴스 간 동시에 한 번만 실행합니다.</li>
+ *     <li>실행 시간(batch.job.duration)과 처리 건수(batch.job.rows)를 작업 이름 태그로 기록합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class BatchJobRunner {
+
+    private static final String CHECKPOINT_PREFIX = "batch:checkpoint";
+    private static final String LOCK_PREFIX = "batch:lock";
+
+    private final RedisClient redisClient;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int defaultChunkSize;
+    private final long checkpointTtlSeconds;
+    private final long lockTtlSeconds;
+
+    public BatchJobRunner(
+            RedisClient redisClient,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${batch.chunk-size:1000}") int defaultChunkSize,
+            @Value("${batch.checkpoint-ttl-hours:48}") long checkpointTtlHours,
+            @Value("${batch.lock-ttl-minutes:30}") long lockTtlMinutes) {
+        this.redisClient = redisClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.defaultChunkSize = defaultChunkSize;
+        this.checkpointTtlSeconds = Duration.ofHours(checkpointTtlHours).toSeconds();
+        this.lockTtlSeconds = Duration.ofMinutes(lockTtlMinutes).toSeconds();
+    }
+
+    public BatchJobResult run(ChunkedJob job, String runId) {
+        return run(job, runId, defaultChunkSize);
+    }
+
+    /**
+     * @param runId 실행 단위 식별자 (예: 기준 날짜). 같은 runId일 때만 체크포인트를 이어받음
+     */
+    public BatchJobResult run(ChunkedJob job, String runId, int chunkSize) {
+        String name = job.getName();
+        String lockToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisClient.setIfAbsent(LOCK_PREFIX, name, lockToken, lockTtlSeconds))) {
+            log.info("배치 작업 건너뜀(실행 중): job={}", name);
+            return BatchJobResult.skipped(name);
+        }
+
+        long startedAt = System.nanoTime();
+        long resumedFrom = loadCheckpoint(name, runId);
+        long lastId = resumedFrom;
+        int chunks = 0;
+        long scanned = 0;
+        long updated = 0;
+        Duration duration;
+        try {
+            if (resumedFrom > 0) {
+                log.info("배치 작업 체크포인트에서 재개: job={}, runId={}, afterId={}", name, runId, resumedFrom);
+            }
+
+            while (true) {
+                long afterId = lastId;
+                ChunkResult result = transactionTemplate.execute(status -> job.processChunk(runId, afterId, chunkSize));
+                if (result == null || result.scanned() == 0) {
+                    break;
+                }
+
+                chunks++;
+                scanned += result.scanned();
+                updated += result.updated();
+                lastId = result.lastId();
+                saveCheckpoint(name, runId, lastId);
+                // 긴 작업 중 락 만료 방지
+                redisClient.setData(LOCK_PREFIX, name, lockToken, lockTtlSeconds);
+
+                if (result.scanned() < chunkSize) {
+                    break;
+                }
+            }
+
+            redisClient.deleteData(CHECKPOINT_PREFIX, name);
+        } finally {
+            redisClient.deleteIfValueMatches(LOCK_PREFIX, name, lockToken);
+
+            duration = Duration.ofNanos(System.nanoTime() - startedAt);
+            Timer.builder("batch.job.duration").tag("job", name).register(meterRegistry).record(duration);
+            Counter.builder("batch.job.rows").tag("job", name).tag("type", "scanned").register(meterRegistry).increment(scanned);
+            Counter.builder("batch.job.rows").tag("job", name).tag("type", "updated").register(meterRegistry).increment(updated);
+            log.info("배치 작업 종료: job={}, runId={}, chunks={}, scanned={}, updated={}, lastId={}, duration={}ms",
+                    name, runId, chunks, scanned, updated, lastId, duration.toMillis());
+        }
+
+        return new BatchJobResult(name, chunks, scanned, updated, resumedFrom, duration, false);
+    }
+
+    // "runId:lastId" 형식, runId가 다르면 처음부터
+    private long loadCheckpoint(String name, String runId) {
+        String checkpoint = redisClient.getData(CHECKPOINT_PREFIX, name);
+        if (checkpoint == null) {
+            return 0;
+        }
+        int separator = checkpoint.lastIndexOf(':');
+        if (separator < 0 || !checkpoint.substring(0, separator).equals(runId)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(checkpoint.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void saveCheckpoint(String name, String runId, long lastId) {
+        redisClient.setData(CHECKPOINT_PREFIX, name, runId + ":" + lastId, checkpointTtlSeconds);
+    }
+}
@@ -0,0 +1,11 @@
+package triB.triB.global.batch;
+
+/**
+ * 청크 1개 처리 결과
+ *
+ * @param lastId  이번 청크에서 읽은 마지막 id (다음 청크 시작점)
+ * @param scanned 읽은 건수
+ * @param updated 변경된 건수
+ */
+public record ChunkResult(long lastId, int scanned, int updated) {
+}
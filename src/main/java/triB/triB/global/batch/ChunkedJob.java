@@ -0,0 +1,23 @@
+package triB.triB.global.batch;
+
+/**
+ * 키(id) 순서로 나눠 처리하는 배치 작업
+ *
+ * <p>{@link BatchJobRunner}가 청크마다 트랜잭션을 새로 열어 {@link #processChunk}를 호출하고,
+ * 청크가 끝날 때마다 마지막 id를 체크포인트로 저장합니다.
+ * 같은 청크를 다시 처리해도 결과가 같도록(멱등) 구현해야 합니다.
+ */
+public interface ChunkedJob {
+
+    /**
+     * 작업 이름 (체크포인트/락/메트릭 키)
+     */
+    String getName();
+
+    /**
+     * afterId보다 큰 대상 중 최대 chunkSize건 처리
+     *
+     * @return 처리 결과, 더 처리할 대상이 없으면 null
+     */
+    ChunkResult processChunk(String runId, long afterId, int chunkSize);
+}
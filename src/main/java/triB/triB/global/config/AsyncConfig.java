@@ -0,0 +1,47 @@
+package triB.triB.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 숙소 변경 후 일정 연쇄 재계산 (Routes API 호출 포함)
+    // 작업은 Redis 대기열에 남아 있으므로, 큐가 가득 차면 거절하고 주기적 점검에서 다시 실행
+    @Bean(name = "scheduleCascadeExecutor")
+    public ThreadPoolTaskExecutor scheduleCascadeExecutor(
+            @Value("${schedule.cascade.pool-size:2}") int poolSize,
+            @Value("${schedule.cascade.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("schedule-cascade-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // AI 일정 생성 워커 (워커 수 = AI 서버 동시 요청 수 상한)
+    // 워커는 Redis 큐를 계속 폴링하므로 대기열 없이 워커 수만큼만 스레드를 둠
+    @Bean(name = "tripGenerationExecutor")
+    public ThreadPoolTaskExecutor tripGenerationExecutor(
+            @Value("${trip.generation.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("trip-generation-");
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
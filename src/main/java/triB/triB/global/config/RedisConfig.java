@@ -3,6 +3,7 @@ package triB.triB.global.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -36,6 +37,8 @@ public class RedisConfig {
     public RedisMessageListenerContainer redisMessageListenerContainer(LettuceConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
+        // 수신 스레드에서 바로 리스너 호출 (채널 메세지 순서 유지, 리스너는 오래 걸리는 작업을 넘겨서 처리)
+        container.setTaskExecutor(new SyncTaskExecutor());
         return container;
     }
 
@@ -19,6 +19,7 @@ public enum ErrorCode {
     MODEL_CONNECTION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "MODEL_CONNECTION_FAIL", "일정 생성 모델과의 연결을 실패했습니다."),
     TRIP_SAVE_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "TRIP_SAVE_FAIL", "일정 저장 중 오류가 발생했습니다."),
     TRIP_CREATING_IN_PROGRESS(HttpStatus.CONFLICT, "TRIP_CREATING_IN_PROGRESS", "이미 생성중인 일정이 있습니다."),
+    TRIP_CREATING_NOT_FOUND(HttpStatus.NOT_FOUND, "TRIP_CREATING_NOT_FOUND", "진행 중인 일정 생성이 없습니다."),
     TRIP_PREPARATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR , "TRIP_PREPARATION_FAILED", "일정 생성 준비 중 오류가 발생했습니다."),
 
     // Community 관련 에러
@@ -35,6 +36,9 @@ public enum ErrorCode {
     ACCOMMODATION_NOT_FOUND(HttpStatus.NOT_FOUND, "ACCOMMODATION_NOT_FOUND", "숙소를 찾을 수 없습니다."),
     INVALID_VISIT_ORDER(HttpStatus.BAD_REQUEST, "INVALID_VISIT_ORDER", "유효하지 않은 방문 순서입니다."),
     ROUTES_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "ROUTES_API_ERROR", "경로 계산 중 오류가 발생했습니다."),
+    SCHEDULE_EDIT_CONFLICT(HttpStatus.CONFLICT, "SCHEDULE_EDIT_CONFLICT", "다른 참여자가 일정을 수정하고 있습니다. 잠시 후 다시 시도해주세요."),
+    SCHEDULE_VERSION_MISMATCH(HttpStatus.PRECONDITION_FAILED, "SCHEDULE_VERSION_MISMATCH", "다른 참여자가 일정을 먼저 수정했습니다. 최신 일정을 다시 불러와주세요."),
+    SCHEDULE_RECALCULATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SCHEDULE_RECALCULATION_FAILED", "숙소 변경 후 일정 시간을 다시 계산하지 못했습니다. 숙소를 다시 저장해주세요."),
 
     INVALID_ACCESS(HttpStatus.INTERNAL_SERVER_ERROR, "INVALID_ACCESS", "탈퇴한 유저는 접근할 수 없습니다."),
     MESSAGE_DELETED(HttpStatus.BAD_REQUEST, "MESSAGE_DELETED", "삭제된 메세지엔 답장할 수 없습니다."),
@@ -3,6 +3,7 @@ package triB.triB.global.exception;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -21,11 +22,19 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException e){
-        return ApiResponse.fail(
+        ResponseEntity<ApiResponse<Void>> response = ApiResponse.fail(
                 e.getErrorCode().getHttpStatus(),
                 e.getErrorCode().getCode(),
                 e.getErrorCode().getMessage()
         );
+
+        // 일정 동시 수정 충돌은 잠시 후 재시도 가능
+        if (e.getErrorCode() == ErrorCode.SCHEDULE_EDIT_CONFLICT) {
+            return ResponseEntity.status(response.getStatusCode())
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(response.getBody());
+        }
+        return response;
     }
 
     /**
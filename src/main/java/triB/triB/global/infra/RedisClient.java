@@ -3,15 +3,24 @@ package triB.triB.global.infra;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class RedisClient {
 
+    private static final DefaultRedisScript<Long> DELETE_IF_MATCHES_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     public String getData(String prefix, String key){
@@ -40,6 +49,14 @@ public class RedisClient {
         return valueOperations.setIfAbsent(prefix + ":" + key, value, Duration.ofSeconds(duration));
     }
 
+    /**
+     * 값이 일치할 때만 삭제 (본인이 획득한 락만 해제)
+     */
+    public boolean deleteIfValueMatches(String prefix, String key, String value){
+        Long deleted = redisTemplate.execute(DELETE_IF_MATCHES_SCRIPT, List.of(prefix + ":" + key), value);
+        return deleted != null && deleted > 0;
+    }
+
     // 회원가입 진행중인 소셜로그인
     public void savePendingSignup(String provider, String providerId, String refreshToken) {
         setData("pending", provider +"|"+ providerId, refreshToken, 300);
@@ -77,4 +94,96 @@ public class RedisClient {
         redisTemplate.delete(fullKey);
     }
 
+    /**
+     * 리스트 왼쪽(head)에 추가 (작업 큐 등록)
+     */
+    public void leftPush(String key, String value) {
+        redisTemplate.opsForList().leftPush(key, value);
+    }
+
+    /**
+     * source 오른쪽(tail)에서 꺼내 destination 왼쪽에 넣음 (BRPOPLPUSH, 비어 있으면 timeout까지 대기)
+     * @return 옮긴 값, timeout 동안 없으면 null
+     */
+    public String blockingMove(String source, String destination, Duration timeout) {
+        return redisTemplate.opsForList().rightPopAndLeftPush(source, destination, timeout);
+    }
+
+    /**
+     * 리스트에서 value와 같은 원소 모두 삭제
+     * @return 삭제된 개수
+     */
+    public long removeFromList(String key, String value) {
+        Long removed = redisTemplate.opsForList().remove(key, 0, value);
+        return removed != null ? removed : 0;
+    }
+
+    public List<String> getList(String key) {
+        List<String> values = redisTemplate.opsForList().range(key, 0, -1);
+        return values != null ? values : List.of();
+    }
+
+    public void addToSortedSet(String key, String value, double score) {
+        redisTemplate.opsForZSet().add(key, value, score);
+    }
+
+    /**
+     * score가 maxScore 이하인 원소 조회 (지연 작업 중 실행 시각이 된 것)
+     */
+    public java.util.Set<String> getSortedSetUpTo(String key, double maxScore) {
+        java.util.Set<String> values = redisTemplate.opsForZSet().rangeByScore(key, Double.NEGATIVE_INFINITY, maxScore);
+        return values != null ? values : java.util.Set.of();
+    }
+
+    /**
+     * score가 minScore 이상인 원소 조회 (만료 시각이 지나지 않은 것)
+     */
+    public java.util.Set<String> getSortedSetFrom(String key, double minScore) {
+        java.util.Set<String> values = redisTemplate.opsForZSet().rangeByScore(key, minScore, Double.POSITIVE_INFINITY);
+        return values != null ? values : java.util.Set.of();
+    }
+
+    /**
+     * score가 maxScore 이하인 원소 삭제 (만료된 항목 정리)
+     */
+    public void removeFromSortedSetUpTo(String key, double maxScore) {
+        redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, maxScore);
+    }
+
+    public void expire(String key, long seconds) {
+        redisTemplate.expire(key, Duration.ofSeconds(seconds));
+    }
+
+    /**
+     * @return 삭제했으면 true (다른 인스턴스가 먼저 가져간 경우 false)
+     */
+    public boolean removeFromSortedSet(String key, String value) {
+        Long removed = redisTemplate.opsForZSet().remove(key, value);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 채널에 메세지 발행 (PUBLISH)
+     */
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    /**
+     * 해시 전체 조회 (HGETALL)
+     */
+    public Map<String, String> getHash(String key) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+        Map<String, String> values = new HashMap<>(entries.size());
+        entries.forEach((field, value) -> values.put((String) field, (String) value));
+        return values;
+    }
+
+    /**
+     * Lua 스크립트 실행 (여러 명령을 원자적으로 처리해야 할 때)
+     */
+    public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+        return redisTemplate.execute(script, keys, (Object[]) args);
+    }
+
 }
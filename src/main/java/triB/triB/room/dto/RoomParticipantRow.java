@@ -0,0 +1,15 @@
+package triB.triB.room.dto;
+
+/**
+ * 채팅방 참여자 (JPA 인터페이스 프로젝션)
+ */
+public interface RoomParticipantRow {
+
+    Long getRoomId();
+
+    Long getUserId();
+
+    String getNickname();
+
+    String getPhotoUrl();
+}
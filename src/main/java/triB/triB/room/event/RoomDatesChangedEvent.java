@@ -0,0 +1,6 @@
+package triB.triB.room.event;
+
+public record RoomDatesChangedEvent(
+        Long roomId
+) {
+}
@@ -0,0 +1,9 @@
+package triB.triB.room.event;
+
+import java.util.List;
+
+public record RoomMembershipChangedEvent(
+        Long roomId,
+        List<Long> userIds
+) {
+}
@@ -17,4 +17,7 @@ public interface RoomReadStateRepository extends JpaRepository<RoomReadState, Ro
     List<Object[]> findLastReadMessageIdsByRoomIdInAndUserId(@Param("roomIds") List<Long> roomIds, @Param("userId") Long userId);
 
     RoomReadState findByRoom_RoomIdAndUser_UserId(Long roomId, Long userId);
+
+    @Query("SELECT r.lastReadMessageId FROM RoomReadState r WHERE r.room.roomId = :roomId AND r.user.userId = :userId")
+    Long findLastReadMessageId(@Param("roomId") Long roomId, @Param("userId") Long userId);
 }
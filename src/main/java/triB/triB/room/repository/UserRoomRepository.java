@@ -7,11 +7,13 @@ import org.springframework.stereotype.Repository;
 import triB.triB.auth.entity.IsAlarm;
 import triB.triB.auth.entity.User;
 import triB.triB.auth.entity.UserStatus;
+import triB.triB.room.dto.RoomParticipantRow;
 import triB.triB.room.entity.Room;
 import triB.triB.room.entity.RoomStatus;
 import triB.triB.room.entity.UserRoom;
 import triB.triB.room.entity.UserRoomId;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -31,11 +33,22 @@ public interface UserRoomRepository extends JpaRepository<UserRoom, UserRoomId>
     @Query("select ur.user from UserRoom ur where ur.room.roomId = :roomId order by ur.user.nickname asc")
     List<User> findUsersByRoomId(@Param("roomId") Long roomId);
 
+    // 여러 채팅방 참여자 배치 조회 (여행 목록용, 필요한 컬럼만)
+    @Query("select ur.room.roomId as roomId, u.userId as userId, u.nickname as nickname, u.photoUrl as photoUrl " +
+            "from UserRoom ur join ur.user u where ur.room.roomId in :roomIds and u.userStatus = :userStatus order by u.nickname asc")
+    List<RoomParticipantRow> findParticipantsByRoomIds(@Param("roomIds") Collection<Long> roomIds, @Param("userStatus") UserStatus userStatus);
+
     @Query("select ur.user from UserRoom ur where ur.room.roomId = :roomId and ur.user.isAlarm = :isAlarm")
     List<User> findUsersByRoomIdAndIsAlarm(@Param("roomId") Long roomId, @Param("isAlarm") IsAlarm isAlarm);
 
     boolean existsByUser_UserIdAndRoom_RoomId(Long userId, Long roomId);
 
+    @Query("select ur.room.roomId from UserRoom ur where ur.user.userId = :userId")
+    List<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select ur.user.userId from UserRoom ur where ur.room.roomId = :roomId")
+    List<Long> findUserIdsByRoomId(@Param("roomId") Long roomId);
+
     UserRoom findByUser_UserIdAndRoom_RoomId(Long userId, Long roomId);
 
     @Query("select count(ur.user) from UserRoom ur where ur.room.roomId = :roomId and ur.user.userStatus = :userStatus")
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import triB.triB.chat.entity.MessageBookmark;
 import triB.triB.chat.repository.MessageBookmarkRepository;
+import triB.triB.chat.service.HotMessageCache;
 import triB.triB.room.dto.BookmarkResponse;
 import triB.triB.room.entity.Room;
 import triB.triB.room.entity.UserRoom;
@@ -23,6 +24,7 @@ public class BookmarkService {
     private final RoomRepository roomRepository;
     private final UserRoomRepository userRoomRepository;
     private final MessageBookmarkRepository messageBookmarkRepository;
+    private final HotMessageCache hotMessageCache;
 
     @Transactional
     public BookmarkResponse createBookmark(Long userId, Long roomId, String content){
@@ -62,6 +64,8 @@ public class BookmarkService {
             throw new BadCredentialsException("해당 채팅방에 대한 권한이 없습니다.");
 
         messageBookmarkRepository.delete(messageBookmark);
+        if (messageBookmark.getMessage() != null)
+            hotMessageCache.updateBookmark(messageBookmark.getRoom().getRoomId(), messageBookmark.getMessage().getMessageId(), false);
     }
 
     public List<BookmarkResponse> getLatestBookmarks(Long userId, Long roomId){
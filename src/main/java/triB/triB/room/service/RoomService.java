@@ -3,6 +3,7 @@ package triB.triB.room.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,8 @@ import triB.triB.room.entity.RoomStatus;
 import triB.triB.room.entity.UserRoom;
 import triB.triB.chat.repository.MessageRepository;
 import triB.triB.room.entity.UserRoomId;
+import triB.triB.room.event.RoomDatesChangedEvent;
+import triB.triB.room.event.RoomMembershipChangedEvent;
 import triB.triB.room.repository.RoomReadStateRepository;
 import triB.triB.room.repository.RoomRepository;
 import triB.triB.room.repository.UserRoomRepository;
@@ -48,6 +51,7 @@ public class RoomService {
     private final PostRepository postRepository;
     private final UserBlockRepository userBlockRepository;
     private final CheckBadWordsUtil checkBadWordsUtil;
+    private final ApplicationEventPublisher publisher;
 
     @Transactional(readOnly = true)
     public List<RoomsResponse> getRoomList(Long userId){
@@ -128,6 +132,7 @@ public class RoomService {
         }
         userRoom.setRoomStatus(RoomStatus.EXIT);
         userRoomRepository.save(userRoom);
+        publisher.publishEvent(new RoomMembershipChangedEvent(roomId, List.of(userId)));
     }
 
     @Transactional
@@ -160,6 +165,9 @@ public class RoomService {
             room.setEndDate(endDate);
         }
         roomRepository.save(room);
+        if (startDate != null || endDate != null) {
+            publisher.publishEvent(new RoomDatesChangedEvent(roomId));
+        }
     }
 
     @Transactional
@@ -198,6 +206,7 @@ public class RoomService {
                 userRoomRepository.save(ur2);
             }
         }
+        publisher.publishEvent(new RoomMembershipChangedEvent(roomId, userIds));
     }
 
     public List<UserResponse> getUsersInvitable(Long userId, Long roomId) {
@@ -8,6 +8,7 @@ import triB.triB.chat.entity.MessagePlace;
 import triB.triB.chat.entity.MessagePlaceDetail;
 import triB.triB.chat.repository.MessagePlaceDetailRepository;
 import triB.triB.chat.repository.MessagePlaceRepository;
+import triB.triB.chat.service.HotMessageCache;
 import triB.triB.room.dto.TagResponse;
 import triB.triB.room.repository.UserRoomRepository;
 
@@ -20,6 +21,7 @@ public class TagService {
     private final UserRoomRepository userRoomRepository;
     private final MessagePlaceRepository messagePlaceRepository;
     private final MessagePlaceDetailRepository messagePlaceDetailRepository;
+    private final HotMessageCache hotMessageCache;
 
     public List<TagResponse> getLatestTags(Long userId, Long roomId){
         if (userRoomRepository.findByUser_UserIdAndRoom_RoomId(userId, roomId) == null)
@@ -43,6 +45,7 @@ public class TagService {
             throw new BadCredentialsException("해당 채팅방에 대한 권한이 없습니다.");
 
         messagePlaceRepository.deleteById(tagId);
+        hotMessageCache.updateTag(mp.getRoom().getRoomId(), mp.getMessage().getMessageId(), null);
     }
 
     private List<TagResponse> messagePlaceToTagResponse(List<MessagePlace> messagePlaces){
@@ -5,9 +5,12 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import triB.triB.global.response.ApiResponse;
 import triB.triB.global.security.UserPrincipal;
 import triB.triB.schedule.dto.AccommodationCostResponse;
@@ -19,6 +22,7 @@ import triB.triB.schedule.dto.ReorderScheduleRequest;
 import triB.triB.schedule.dto.RepresentativeTripResponse;
 import triB.triB.schedule.dto.ScheduleCostResponse;
 import triB.triB.schedule.dto.ScheduleItemResponse;
+import triB.triB.schedule.dto.TripItineraryResponse;
 import triB.triB.schedule.dto.TripListResponse;
 import triB.triB.schedule.dto.TripScheduleResponse;
 import triB.triB.schedule.dto.TripScheduleWithLocationResponse;
@@ -120,6 +124,36 @@ public class ScheduleController {
         return ApiResponse.ok("일정을 조회했습니다.", response);
     }
 
+    @GetMapping("/trips/{tripId}/itinerary")
+    @Operation(
+            summary = "전체 일정 조회",
+            description = "여행의 모든 일차 일정을 한 번에 조회합니다. 응답의 ETag를 If-None-Match로 보내면 " +
+                    "일정이 변경되지 않은 경우 본문 없이 304 Not Modified를 반환합니다."
+    )
+    public ResponseEntity<ApiResponse<TripItineraryResponse>> getTripItinerary(
+            @Parameter(description = "여행 ID", required = true)
+            @PathVariable Long tripId,
+
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest
+    ) {
+        Long userId = userPrincipal.getUserId();
+
+        // 클라이언트가 캐시를 가지고 있으면 버전만 비교 (일정 조회 생략)
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = itineraryETag(tripId, scheduleService.getScheduleVersion(tripId, userId));
+            if (webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        TripItineraryResponse response = scheduleService.getTripItinerary(tripId, userId);
+
+        return ResponseEntity.ok()
+                .eTag(itineraryETag(tripId, response.getScheduleVersion()))
+                .body(ApiResponse.ok("전체 일정을 조회했습니다.", response).getBody());
+    }
+
     @PatchMapping("/trips/{tripId}/schedules/{scheduleId}/visit-status")
     @Operation(
             summary = "방문 완료/미완료 변경",
@@ -135,13 +169,17 @@ public class ScheduleController {
             @Parameter(description = "방문 상태 변경 요청", required = true)
             @RequestBody @Valid VisitStatusUpdateRequest request,
 
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         VisitStatusUpdateResponse response = scheduleService.updateVisitStatus(
                 tripId,
                 scheduleId,
                 request,
-                userPrincipal.getUserId()
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
         );
 
         return ApiResponse.ok("방문 상태를 변경했습니다.", response);
@@ -223,13 +261,17 @@ public class ScheduleController {
             @Parameter(description = "순서 변경 요청", required = true)
             @RequestBody @Valid ReorderScheduleRequest request,
 
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         TripScheduleResponse response = scheduleService.reorderSchedule(
                 tripId,
                 scheduleId,
                 request,
-                userPrincipal.getUserId()
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
         );
 
         return ApiResponse.ok("일정 순서를 변경했습니다.", response);
@@ -250,13 +292,17 @@ public class ScheduleController {
             @Parameter(description = "체류시간 수정 요청", required = true)
             @RequestBody @Valid UpdateStayDurationRequest request,
 
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         ScheduleItemResponse response = scheduleService.updateStayDuration(
                 tripId,
                 scheduleId,
                 request,
-                userPrincipal.getUserId()
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
         );
 
         return ApiResponse.ok("체류시간을 수정했습니다.", response);
@@ -277,13 +323,17 @@ public class ScheduleController {
             @Parameter(description = "방문 시간 수정 요청", required = true)
             @RequestBody @Valid UpdateVisitTimeRequest request,
 
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         ScheduleItemResponse response = scheduleService.updateVisitTime(
                 tripId,
                 scheduleId,
                 request,
-                userPrincipal.getUserId()
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
         );
 
         return ApiResponse.ok("방문 시간을 수정했습니다.", response);
@@ -301,12 +351,16 @@ public class ScheduleController {
             @Parameter(description = "일정 추가 요청", required = true)
             @RequestBody @Valid AddScheduleRequest request,
 
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         ScheduleItemResponse response = scheduleService.addScheduleToDay(
                 tripId,
                 request,
-                userPrincipal.getUserId()
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
         );
 
         return ApiResponse.created("일정을 추가했습니다.", response);
@@ -324,12 +378,16 @@ public class ScheduleController {
             @Parameter(description = "일정 ID", required = true)
             @PathVariable Long scheduleId,
 
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         DeleteScheduleResponse response = scheduleService.deleteSchedule(
                 tripId,
                 scheduleId,
-                userPrincipal.getUserId()
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
         );
 
         return ApiResponse.ok("일정을 삭제했습니다.", response);
@@ -339,6 +397,8 @@ public class ScheduleController {
     @Operation(
             summary = "숙소 변경 (레거시 API)",
             description = "dayNumber 기반으로 해당 날짜의 숙소를 변경합니다. " +
+                    "이동시간과 도착/출발 시간은 응답 후 백그라운드에서 재계산되며, 완료되면 " +
+                    "/sub/chat/{roomId}로 재계산된 일정(ScheduleRecalculatedMessage)이 전송됩니다. " +
                     "새로운 일괄 수정 API(POST /api/v1/trips/{tripId}/schedules/batch-update)에서 " +
                     "ModificationType.UPDATE_ACCOMMODATION을 사용하면 scheduleId 기반으로 더 정확한 숙소 변경이 가능합니다."
     )
@@ -349,12 +409,16 @@ public class ScheduleController {
             @Parameter(description = "숙소 변경 요청", required = true)
             @RequestBody @Valid UpdateAccommodationRequest request,
 
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         ScheduleItemResponse response = scheduleService.updateAccommodation(
                 tripId,
                 request,
-                userPrincipal.getUserId()
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
         );
 
         return ApiResponse.ok("숙소를 변경했습니다.", response);
@@ -395,17 +459,49 @@ public class ScheduleController {
             @Parameter(description = "일정 일괄 수정 요청", required = true)
             @RequestBody @Valid BatchUpdateScheduleRequest request,
 
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         TripScheduleResponse response = scheduleService.batchUpdateSchedule(
                 tripId,
                 request,
-                userPrincipal.getUserId()
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
         );
 
         return ApiResponse.ok("일정 변경사항을 저장했습니다.", response);
     }
 
+    @PostMapping("/trips/{tripId}/schedules/optimize")
+    @Operation(
+            summary = "일정 순서 자동 최적화",
+            description = "특정 날짜의 방문 순서를 총 이동시간이 최소가 되도록 다시 정렬하고 저장합니다. " +
+                    "숙소와 방문 완료한 일정은 현재 위치에 고정됩니다."
+    )
+    public ResponseEntity<ApiResponse<TripScheduleResponse>> optimizeDayOrder(
+            @Parameter(description = "여행 ID", required = true)
+            @PathVariable Long tripId,
+
+            @Parameter(description = "최적화할 일차", required = true, example = "1")
+            @RequestParam Integer dayNumber,
+
+            @Parameter(description = "수정 기준 일정 버전 (전체 일정 조회 응답의 ETag)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        TripScheduleResponse response = scheduleService.optimizeDayOrder(
+                tripId,
+                dayNumber,
+                userPrincipal.getUserId(),
+                expectedVersion(tripId, ifMatch)
+        );
+
+        return ApiResponse.ok("일정 순서를 최적화했습니다.", response);
+    }
+
     @PostMapping("/trips/status/update-past")
     @Operation(
             summary = "과거 여행 상태 수동 업데이트",
@@ -423,4 +519,32 @@ public class ScheduleController {
                 updatedCount
         );
     }
+
+    private String itineraryETag(Long tripId, Long scheduleVersion) {
+        return "\"" + tripId + "-" + scheduleVersion + "\"";
+    }
+
+    /**
+     * If-Match(전체 일정 ETag "tripId-일정버전")에서 수정 기준 일정 버전 추출. 없거나 "*"이면 null
+     */
+    private Long expectedVersion(Long tripId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        int separator = tag.lastIndexOf('-');
+        if (separator < 0 || !tag.substring(0, separator).equals(String.valueOf(tripId))) {
+            throw new IllegalArgumentException("If-Match 헤더가 이 여행의 일정 ETag가 아닙니다.");
+        }
+        try {
+            return Long.valueOf(tag.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match 헤더 형식이 올바르지 않습니다.");
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package triB.triB.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일차별 일정 응답")
+public class DayScheduleResponse {
+
+    @Schema(description = "일차", example = "1")
+    private Integer dayNumber;
+
+    @Schema(description = "날짜", example = "2024-03-15")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    @Schema(description = "해당 날짜의 총 이동 시간 (분 단위)", example = "120")
+    private Integer totalTravelMinutes;
+
+    @Schema(description = "해당 날짜의 일정 목록 (위경도 포함)")
+    private List<ScheduleItemWithLocationResponse> schedules;
+}
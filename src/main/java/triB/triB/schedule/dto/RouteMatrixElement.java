@@ -0,0 +1,32 @@
+package triB.triB.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "Google Routes API 경로 행렬 응답 원소")
+public class RouteMatrixElement {
+
+    @JsonProperty("originIndex")
+    @Schema(description = "출발지 인덱스", example = "0")
+    private Integer originIndex;
+
+    @JsonProperty("destinationIndex")
+    @Schema(description = "목적지 인덱스", example = "1")
+    private Integer destinationIndex;
+
+    @JsonProperty("duration")
+    @Schema(description = "이동 시간", example = "1800s")
+    private String duration;
+
+    @JsonProperty("condition")
+    @Schema(description = "경로 존재 여부", example = "ROUTE_EXISTS")
+    private String condition;
+}
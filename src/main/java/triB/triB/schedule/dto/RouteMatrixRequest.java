@@ -0,0 +1,33 @@
+package triB.triB.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Google Routes API 경로 행렬 계산 요청")
+public class RouteMatrixRequest {
+
+    @JsonProperty("origins")
+    @Schema(description = "출발지 목록")
+    private List<RouteRequest.WaypointWrapper> origins;
+
+    @JsonProperty("destinations")
+    @Schema(description = "목적지 목록")
+    private List<RouteRequest.WaypointWrapper> destinations;
+
+    @JsonProperty("travelMode")
+    @Schema(description = "이동 수단", example = "DRIVE")
+    private String travelMode;
+
+    @JsonProperty("languageCode")
+    @Schema(description = "언어 코드", example = "ko")
+    @Builder.Default
+    private String languageCode = "ko";
+}
@@ -35,6 +35,12 @@ public class ScheduleItemWithLocationResponse {
     @Schema(description = "다음 장소까지의 이동 시간 (분 단위)", example = "30")
     private Integer travelTime;
 
+    @Schema(description = "다음 장소까지의 이동 시간 (표시용)", example = "30분")
+    private String travelTimeText;
+
+    @Schema(description = "이동 시간이 Routes API 장애로 인한 직선거리 기반 추정치인지 여부", example = "false")
+    private Boolean isTravelTimeEstimated;
+
     @Schema(description = "방문 순서", example = "1")
     private Integer visitOrder;
 
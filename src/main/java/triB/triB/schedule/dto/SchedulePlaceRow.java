@@ -0,0 +1,15 @@
+package triB.triB.schedule.dto;
+
+import triB.triB.chat.entity.PlaceTag;
+
+/**
+ * 여행별 방문 장소 이름/태그 (JPA 인터페이스 프로젝션)
+ */
+public interface SchedulePlaceRow {
+
+    Long getTripId();
+
+    String getPlaceName();
+
+    PlaceTag getPlaceTag();
+}
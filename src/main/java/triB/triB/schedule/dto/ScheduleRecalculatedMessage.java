@@ -0,0 +1,24 @@
+package triB.triB.schedule.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일정 재계산 완료 메시지 (STOMP /sub/chat/{roomId})")
+public class ScheduleRecalculatedMessage {
+
+    @Schema(description = "여행 ID", example = "1")
+    private Long tripId;
+
+    @Schema(description = "재계산 후 일정 버전 (전체 일정 조회 ETag와 동일)", example = "12")
+    private Long scheduleVersion;
+
+    @Schema(description = "재계산된 일차별 일정")
+    private List<DayScheduleResponse> days;
+}
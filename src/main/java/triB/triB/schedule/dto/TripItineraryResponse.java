@@ -0,0 +1,44 @@
+package triB.triB.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import triB.triB.schedule.entity.TravelMode;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "여행 전체 일정 응답")
+public class TripItineraryResponse {
+
+    @Schema(description = "여행 ID", example = "1")
+    private Long tripId;
+
+    @Schema(description = "여행 목적지", example = "파리")
+    private String destination;
+
+    @Schema(description = "여행 시작 날짜", example = "2024-03-15")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @Schema(description = "여행 종료 날짜", example = "2024-03-17")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    @Schema(description = "여행 이동 수단", example = "DRIVE")
+    private TravelMode travelMode;
+
+    @Schema(description = "AI 추정 예산", example = "500000")
+    private Integer budget;
+
+    @Schema(description = "일정 버전 (일정이 변경될 때마다 증가, ETag와 동일)", example = "3")
+    private Long scheduleVersion;
+
+    @Schema(description = "일차별 일정 목록 (1일차부터 마지막 날까지)")
+    private List<DayScheduleResponse> days;
+}
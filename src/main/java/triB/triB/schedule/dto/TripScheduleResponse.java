@@ -39,6 +39,12 @@ public class TripScheduleResponse {
     @Schema(description = "여행 이동 수단", example = "DRIVE")
     private TravelMode travelMode;
 
+    @Schema(description = "해당 날짜의 총 이동 시간 (분 단위)", example = "120")
+    private Integer totalTravelMinutes;
+
     @Schema(description = "AI 추정 예산", example = "500000")
     private Integer budget;
+
+    @Schema(description = "숙소 변경 후 이동시간 재계산에 실패해 이동/도착 시간이 최신이 아닌지 여부 (숙소를 다시 저장하면 재계산)", example = "false")
+    private Boolean recalculationFailed;
 }
@@ -39,6 +39,9 @@ public class TripScheduleWithLocationResponse {
     @Schema(description = "여행 이동 수단", example = "DRIVE")
     private TravelMode travelMode;
 
+    @Schema(description = "해당 날짜의 총 이동 시간 (분 단위)", example = "120")
+    private Integer totalTravelMinutes;
+
     @Schema(description = "AI 추정 예산", example = "500000")
     private Integer budget;
 }
\ No newline at end of file
@@ -13,7 +13,12 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "schedules")
+@Table(
+        name = "schedules",
+        indexes = {
+                @Index(name = "idx_schedules_trip_day_order", columnList = "trip_id, day_number, visit_order")
+        }
+)
 public class Schedule {
 
     @Id
@@ -58,8 +63,11 @@ public class Schedule {
     @Column(name = "departure", nullable = false)
     private LocalDateTime departure;
 
-    @Column(name = "travel_time", nullable = true)
-    private String travelTime;
+    @Column(name = "travel_minutes", nullable = true)
+    private Integer travelMinutes;
+
+    @Column(name = "travel_time_estimated", nullable = true)
+    private Boolean travelTimeEstimated;
 
     @Column(name = "estimated_cost", nullable = true)
     private Integer estimatedCost;
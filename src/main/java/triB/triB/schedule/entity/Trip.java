@@ -2,6 +2,7 @@ package triB.triB.schedule.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Where;
 import triB.triB.room.entity.Room;
 
@@ -65,6 +66,12 @@ public class Trip {
     @Column(name = "accommodation_cost_info", nullable = true)
     private String accommodationCostInfo;
 
+    /** 일정이 변경될 때마다 1씩 증가 (전체 일정 조회 ETag) */
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "schedule_version", nullable = false)
+    private Long scheduleVersion = 0L;
+
     @Column(name = "created_at", nullable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
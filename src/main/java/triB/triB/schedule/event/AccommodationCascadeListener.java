@@ -0,0 +1,136 @@
+package triB.triB.schedule.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import triB.triB.chat.stomp.ChatRoomBroadcaster;
+import triB.triB.global.exception.ErrorCode;
+import triB.triB.global.response.ApiResponse;
+import triB.triB.schedule.dto.ScheduleRecalculatedMessage;
+import triB.triB.schedule.service.AccommodationCascadeStore;
+import triB.triB.schedule.service.ScheduleService;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * 숙소 변경 커밋 후 이동시간/도착 시간 연쇄 재계산을 백그라운드에서 수행하고
+ * 결과 일정을 채팅방 구독자에게 전송합니다.
+ *
+ * <p>작업은 먼저 {@link AccommodationCascadeStore}(Redis)에 등록한 뒤 전용 스레드 풀에서 처리하므로,
+ * 스레드 풀이 가득 차거나 처리 중 서버가 내려가도 주기적 점검에서 다시 실행됩니다.
+ * 실패하면 지수 백오프로 재시도하고, 모두 실패하면 해당 일차를 시간 미갱신 상태로 표시한 뒤
+ * 채팅방(/sub/chat/{roomId})에 실패 메세지를 보냅니다.
+ */
+@Slf4j
+@Component
+public class AccommodationCascadeListener {
+
+    private final ScheduleService scheduleService;
+    private final AccommodationCascadeStore cascadeStore;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final ThreadPoolTaskExecutor executor;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public AccommodationCascadeListener(
+            ScheduleService scheduleService,
+            AccommodationCascadeStore cascadeStore,
+            ChatRoomBroadcaster chatRoomBroadcaster,
+            @Qualifier("scheduleCascadeExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${schedule.cascade.max-attempts:5}") int maxAttempts,
+            @Value("${schedule.cascade.retry-backoff-millis:1000}") long retryBackoffMillis) {
+        this.scheduleService = scheduleService;
+        this.cascadeStore = cascadeStore;
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.executor = executor;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAccommodationChanged(AccommodationChangedEvent e) {
+        try {
+            cascadeStore.enqueue(e.tripId(), e.roomId(), e.dayNumber());
+        } catch (Exception ex) {
+            log.error("Accommodation cascade enqueue failed. tripId={}, dayNumber={}", e.tripId(), e.dayNumber(), ex);
+            notifyFailure(e.roomId(), e.tripId(), e.dayNumber());
+            return;
+        }
+        drainLater();
+    }
+
+    /**
+     * 실행 시각이 된 작업(재시도, 임대 만료, 스레드 풀 포화로 밀린 작업) 처리
+     */
+    @Scheduled(fixedDelayString = "${schedule.cascade.poll-interval-millis:5000}")
+    public void poll() {
+        drainLater();
+    }
+
+    // 요청 스레드에서 재계산하지 않도록 스레드 풀에 넘기고, 가득 찼으면 다음 점검에 맡김
+    private void drainLater() {
+        try {
+            executor.execute(this::drain);
+        } catch (TaskRejectedException ex) {
+            log.warn("Accommodation cascade executor saturated, deferring to next poll");
+        }
+    }
+
+    private void drain() {
+        try {
+            AccommodationCascadeStore.Task task;
+            while ((task = cascadeStore.claim()) != null) {
+                process(task);
+            }
+        } catch (Exception ex) {
+            log.warn("Accommodation cascade queue poll failed: {}", ex.getMessage());
+        }
+    }
+
+    private void process(AccommodationCascadeStore.Task task) {
+        ScheduleRecalculatedMessage result;
+        try {
+            result = scheduleService.recalculateAfterAccommodationChange(task.tripId(), task.dayNumber());
+        } catch (Exception ex) {
+            int attempts = cascadeStore.incrementAttempts(task);
+            if (!(ex instanceof IllegalArgumentException) && attempts < maxAttempts) {
+                long delayMillis = retryBackoffMillis * (1L << (attempts - 1));
+                log.info("Accommodation cascade failed, retrying. tripId={}, dayNumber={}, attempts={}, delay={}ms, error={}",
+                        task.tripId(), task.dayNumber(), attempts, delayMillis, ex.toString());
+                cascadeStore.retryLater(task, delayMillis);
+                return;
+            }
+            log.error("Accommodation cascade gave up. tripId={}, dayNumber={}, attempts={}",
+                    task.tripId(), task.dayNumber(), attempts, ex);
+            cascadeStore.giveUp(task);
+            notifyFailure(task.roomId(), task.tripId(), task.dayNumber());
+            return;
+        }
+
+        cascadeStore.complete(task);
+        chatRoomBroadcaster.broadcast(task.roomId(), ApiResponse.success("일정 시간을 재계산했습니다.", result));
+    }
+
+    private void notifyFailure(Long roomId, Long tripId, Integer dayNumber) {
+        ErrorCode errorCode = ErrorCode.SCHEDULE_RECALCULATION_FAILED;
+        try {
+            chatRoomBroadcaster.broadcast(roomId, ApiResponse.<Map<String, Object>>builder()
+                    .success(false)
+                    .status(errorCode.getHttpStatus().value())
+                    .message(dayNumber + "일차 " + errorCode.getMessage())
+                    .code(errorCode.getCode())
+                    .data(Map.of("tripId", tripId, "dayNumber", dayNumber))
+                    .timestamp(OffsetDateTime.now())
+                    .build());
+        } catch (Exception ex) {
+            log.warn("Accommodation cascade failure notification failed. roomId={}, error={}", roomId, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package triB.triB.schedule.event;
+
+public record AccommodationChangedEvent(
+        Long tripId,
+        Long roomId,
+        Integer dayNumber
+) {}
@@ -0,0 +1,143 @@
+package triB.triB.schedule.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * schedules.travel_time(한국어 문자열) → schedules.travel_minutes(정수) 이관
+ *
+ * <p>기존에는 이동시간을 "1시간 30분" 같은 표시용 문자열(AI 생성 일정은 "30" 같은 숫자 문자열)로 저장했습니다.
+ * 애플리케이션 기동 후 travel_minutes가 비어 있는 행만 골라 schedule_id 순으로 나눠서 채웁니다.
+ * 이관한 행은 같은 UPDATE에서 travel_time을 비우므로, 이후 travel_minutes가 다시 null이 되어도(마지막 일정 등)
+ * 다음 기동 때 오래된 값으로 되돌아가지 않습니다. 해석할 수 없는 값은 0으로 바꾸지 않고 null로 남깁니다.
+ * 레거시 컬럼이 없는 DB(신규 환경)에서는 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TravelMinutesMigration {
+
+    private static final String COLUMN_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = 'schedules' AND column_name = ?";
+
+    private static final String SELECT_LEGACY_SQL =
+            "SELECT schedule_id, travel_time FROM schedules " +
+            "WHERE schedule_id > ? AND travel_minutes IS NULL AND travel_time IS NOT NULL " +
+            "ORDER BY schedule_id LIMIT ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE schedules SET travel_minutes = ?, travel_time = NULL WHERE schedule_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public TravelMinutesMigration(
+            JdbcTemplate jdbcTemplate,
+            @Value("${schedule.migration.travel-minutes.enabled:true}") boolean enabled,
+            @Value("${schedule.migration.travel-minutes.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (!columnExists("travel_time") || !columnExists("travel_minutes")) {
+                return;
+            }
+
+            long lastId = 0;
+            int migrated = 0;
+            int unparsed = 0;
+
+            while (true) {
+                List<LegacyRow> rows = jdbcTemplate.query(SELECT_LEGACY_SQL,
+                        (rs, rowNum) -> new LegacyRow(rs.getLong("schedule_id"), rs.getString("travel_time")),
+                        lastId, chunkSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<Object[]> updates = new ArrayList<>(rows.size());
+                for (LegacyRow row : rows) {
+                    Integer minutes = parseLegacyTravelTime(row.travelTime());
+                    if (minutes != null) {
+                        updates.add(new Object[]{minutes, row.scheduleId()});
+                    } else {
+                        log.warn("travel_time 이관 불가: scheduleId={}, travelTime={}", row.scheduleId(), row.travelTime());
+                        unparsed++;
+                    }
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+                    migrated += updates.size();
+                }
+
+                lastId = rows.get(rows.size() - 1).scheduleId();
+            }
+
+            if (migrated > 0 || unparsed > 0) {
+                log.info("travel_time → travel_minutes 이관 완료: migrated={}, unparsed={}", migrated, unparsed);
+            }
+        } catch (Exception e) {
+            // 이관 실패가 서비스 기동을 막지 않도록 로그만 남김 (다음 기동 시 재시도)
+            log.error("travel_time → travel_minutes 이관 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean columnExists(String columnName) {
+        Integer count = jdbcTemplate.queryForObject(COLUMN_EXISTS_SQL, Integer.class, columnName);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 레거시 travel_time 문자열을 분 단위로 파싱
+     * 예: "30분" -> 30, "1시간 30분" -> 90, "2시간" -> 120, "30" -> 30
+     *
+     * @return 분 단위 시간, 해석할 수 없으면 null
+     */
+    static Integer parseLegacyTravelTime(String travelTimeText) {
+        if (travelTimeText == null || travelTimeText.isBlank()) {
+            return null;
+        }
+
+        String text = travelTimeText.trim();
+        try {
+            if (!text.contains("시간") && !text.contains("분")) {
+                // 숫자만 있는 경우 (AI 서버 응답을 그대로 저장한 값)
+                return Integer.parseInt(text);
+            }
+
+            int totalMinutes = 0;
+            String minutePart = text;
+            if (text.contains("시간")) {
+                String[] parts = text.split("시간", 2);
+                totalMinutes += Integer.parseInt(parts[0].trim()) * 60;
+                minutePart = parts[1];
+            }
+            minutePart = minutePart.replace("분", "").trim();
+            if (!minutePart.isEmpty()) {
+                totalMinutes += Integer.parseInt(minutePart);
+            }
+            return totalMinutes;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record LegacyRow(Long scheduleId, String travelTime) {
+    }
+}
@@ -0,0 +1,76 @@
+package triB.triB.schedule.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import triB.triB.schedule.entity.Schedule;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 일정 대량 저장 (AI 생성 일정 저장용)
+ *
+ * <p>Schedule은 IDENTITY 전략이라 Hibernate가 INSERT를 묶지 못하고 일정마다 왕복이 발생합니다.
+ * JdbcTemplate batchUpdate로 batchSize개씩 묶어 보내며,
+ * MySQL 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 multi-row INSERT로 변환됩니다.
+ * 영속성 컨텍스트를 거치지 않으므로 저장한 엔티티에는 scheduleId가 채워지지 않습니다.
+ */
+@Repository
+public class ScheduleBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO schedules (trip_id, day_number, date, visit_order, place_name, place_tag, " +
+            "latitude, longitude, is_visit, arrival, departure, travel_minutes, travel_time_estimated, " +
+            "estimated_cost, cost_explanation) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_BY_TRIP_SQL = "DELETE FROM schedules WHERE trip_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ScheduleBulkRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${schedule.bulk-insert.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 일정 목록을 batchSize개씩 묶어 INSERT
+     */
+    public void insertAll(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, schedules, batchSize, (ps, s) -> {
+            ps.setLong(1, s.getTripId());
+            ps.setInt(2, s.getDayNumber());
+            ps.setDate(3, Date.valueOf(s.getDate()));
+            ps.setInt(4, s.getVisitOrder());
+            ps.setString(5, s.getPlaceName());
+            // place_tag는 @Enumerated 없이 매핑되어 ORDINAL로 저장됨
+            ps.setInt(6, s.getPlaceTag().ordinal());
+            ps.setDouble(7, s.getLatitude());
+            ps.setDouble(8, s.getLongitude());
+            ps.setBoolean(9, s.getIsVisit());
+            ps.setTimestamp(10, Timestamp.valueOf(s.getArrival()));
+            ps.setTimestamp(11, Timestamp.valueOf(s.getDeparture()));
+            ps.setObject(12, s.getTravelMinutes(), Types.INTEGER);
+            ps.setObject(13, s.getTravelTimeEstimated(), Types.BOOLEAN);
+            ps.setObject(14, s.getEstimatedCost(), Types.INTEGER);
+            ps.setString(15, s.getCostExplanation());
+        });
+    }
+
+    /**
+     * 여행의 모든 일정 삭제 (생성 실패 시 정리용)
+     */
+    public int deleteByTripId(Long tripId) {
+        return jdbcTemplate.update(DELETE_BY_TRIP_SQL, tripId);
+    }
+}
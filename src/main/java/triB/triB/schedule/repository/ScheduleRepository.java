@@ -4,8 +4,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import triB.triB.schedule.dto.SchedulePlaceRow;
 import triB.triB.schedule.entity.Schedule;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +34,16 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
      */
     @Query("SELECT s FROM Schedule s WHERE s.tripId = :tripId AND s.placeTag != triB.triB.chat.entity.PlaceTag.HOME ORDER BY s.dayNumber ASC, s.visitOrder ASC")
     List<Schedule> findByTripIdExcludingHome(@Param("tripId") Long tripId);
+
+    /**
+     * 여러 여행의 방문 장소 이름/태그 배치 조회 (숙소 제외, 여행/일차/방문 순서 정렬)
+     */
+    @Query("SELECT s.tripId AS tripId, s.placeName AS placeName, s.placeTag AS placeTag FROM Schedule s WHERE s.tripId IN :tripIds AND s.placeTag != triB.triB.chat.entity.PlaceTag.HOME ORDER BY s.tripId ASC, s.dayNumber ASC, s.visitOrder ASC")
+    List<SchedulePlaceRow> findPlacesByTripIdsExcludingHome(@Param("tripIds") Collection<Long> tripIds);
+
+    /**
+     * 특정 여행의 특정 날짜 총 이동시간 (분 단위)
+     */
+    @Query("SELECT COALESCE(SUM(s.travelMinutes), 0) FROM Schedule s WHERE s.tripId = :tripId AND s.dayNumber = :dayNumber")
+    Long sumTravelMinutesByTripIdAndDayNumber(@Param("tripId") Long tripId, @Param("dayNumber") Integer dayNumber);
 }
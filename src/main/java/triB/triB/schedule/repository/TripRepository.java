@@ -1,6 +1,8 @@
 package triB.triB.schedule.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,12 +12,70 @@ import triB.triB.schedule.entity.TripStatus;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TripRepository extends JpaRepository<Trip, Long> {
 
     Trip findByRoomId(Long roomId);
 
+    /**
+     * 여행과 채팅방(시작일/종료일)을 한 번에 조회
+     */
+    @Query("SELECT t FROM Trip t JOIN FETCH t.room WHERE t.tripId = :tripId")
+    Optional<Trip> findWithRoomByTripId(@Param("tripId") Long tripId);
+
+    /**
+     * 여행의 일정 버전 조회 (조건부 조회용)
+     */
+    @Query("SELECT t.scheduleVersion FROM Trip t WHERE t.tripId = :tripId")
+    Optional<Long> findScheduleVersionByTripId(@Param("tripId") Long tripId);
+
+    /**
+     * 일정 버전이 expectedVersion일 때만 1 증가 (일정 수정 시작 시 호출)
+     * @return 변경된 행 수 (0이면 다른 수정과 충돌)
+     */
+    @Modifying
+    @Query("UPDATE Trip t SET t.scheduleVersion = t.scheduleVersion + 1 " +
+           "WHERE t.tripId = :tripId AND t.scheduleVersion = :expectedVersion")
+    int compareAndIncrementScheduleVersion(@Param("tripId") Long tripId, @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * 채팅방의 모든 여행 일정 버전을 1 증가 (채팅방 날짜 변경 시 전체 일정 ETag 무효화)
+     * Trip의 @Where 조건을 거치지 않도록 네이티브 쿼리 사용
+     */
+    @Modifying
+    @Query(value = "UPDATE trips SET schedule_version = schedule_version + 1 WHERE room_id = :roomId", nativeQuery = true)
+    int incrementScheduleVersionByRoomId(@Param("roomId") Long roomId);
+
+    /**
+     * 채팅방의 현재 여행(NEW)을 이전 버전(OLD)으로 변경 (새 일정 생성 완료 시)
+     * Trip의 @Where 조건을 거치지 않도록 네이티브 쿼리 사용
+     */
+    @Modifying
+    @Query(value = "UPDATE trips SET version_status = 'OLD' WHERE room_id = :roomId AND version_status = 'NEW'", nativeQuery = true)
+    int retireCurrentTrips(@Param("roomId") Long roomId);
+
+    /**
+     * 생성 중인 여행(OLD로 저장됨)을 현재 여행(NEW)으로 변경
+     */
+    @Modifying
+    @Query(value = "UPDATE trips SET version_status = 'NEW' WHERE trip_id = :tripId", nativeQuery = true)
+    int activateTrip(@Param("tripId") Long tripId);
+
+    /**
+     * 현재 여행이 아닌(OLD) 여행인지 확인 (생성 중 여행 정리 전 확인용, @Where 조건을 거치지 않음)
+     */
+    @Query(value = "SELECT COUNT(*) FROM trips WHERE trip_id = :tripId AND version_status = 'OLD'", nativeQuery = true)
+    long countInactiveTrip(@Param("tripId") Long tripId);
+
+    /**
+     * 생성에 실패한 여행 삭제 (@Where 조건과 무관하게 삭제)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM trips WHERE trip_id = :tripId", nativeQuery = true)
+    int deleteTripById(@Param("tripId") Long tripId);
+
     /**
      * 사용자가 참여한 특정 상태의 여행 목록 조회
      * @param userId 사용자 ID
@@ -23,22 +83,33 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
      * @return 여행 목록 (최신순)
      */
     @Query("SELECT t FROM Trip t " +
-           "JOIN t.room r " +
+           "JOIN FETCH t.room r " +
            "WHERE t.tripStatus = :tripStatus " +
            "AND EXISTS (SELECT 1 FROM UserRoom ur WHERE ur.room.roomId = r.roomId AND ur.user.userId = :userId) " +
            "ORDER BY t.createdAt DESC")
     List<Trip> findByUserIdAndTripStatus(@Param("userId") Long userId, @Param("tripStatus") TripStatus tripStatus);
 
     /**
-     * READY 상태이면서 종료일이 지난 여행 목록 조회
-     * @param currentDate 현재 날짜
-     * @return READY 상태의 과거 여행 목록
+     * READY 상태이면서 종료일이 지난 여행 ID (afterId 이후, ID 순, 배치 청크 조회용)
      */
-    @Query("SELECT t FROM Trip t " +
+    @Query("SELECT t.tripId FROM Trip t " +
            "JOIN t.room r " +
-           "WHERE t.tripStatus = 'READY' " +
-           "AND r.endDate < :currentDate")
-    List<Trip> findReadyTripsBeforeEndDate(@Param("currentDate") LocalDate currentDate);
+           "WHERE t.tripId > :afterId " +
+           "AND t.tripStatus = 'READY' " +
+           "AND r.endDate < :currentDate " +
+           "ORDER BY t.tripId ASC")
+    List<Long> findReadyTripIdsBeforeEndDate(@Param("afterId") Long afterId,
+                                             @Param("currentDate") LocalDate currentDate,
+                                             Limit limit);
+
+    /**
+     * READY 상태인 여행을 ACCEPTED로 일괄 변경
+     * @return 변경된 여행 수
+     */
+    @Modifying
+    @Query("UPDATE Trip t SET t.tripStatus = triB.triB.schedule.entity.TripStatus.ACCEPTED " +
+           "WHERE t.tripId IN :tripIds AND t.tripStatus = triB.triB.schedule.entity.TripStatus.READY")
+    int acceptReadyTrips(@Param("tripIds") List<Long> tripIds);
 
     /**
      * 사용자의 미래 여행 조회 (READY 상태, startDate 오름차순)
@@ -47,7 +118,7 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
      * @return 미래 여행 목록 (시작일 오름차순)
      */
     @Query("SELECT t FROM Trip t " +
-           "JOIN t.room r " +
+           "JOIN FETCH t.room r " +
            "WHERE t.tripStatus = :tripStatus " +
            "AND EXISTS (SELECT 1 FROM UserRoom ur WHERE ur.room.roomId = r.roomId AND ur.user.userId = :userId) " +
            "ORDER BY r.startDate ASC, t.createdAt DESC")
@@ -60,49 +131,32 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
      * @return 과거 여행 목록 (시작일 내림차순)
      */
     @Query("SELECT t FROM Trip t " +
-           "JOIN t.room r " +
+           "JOIN FETCH t.room r " +
            "WHERE t.tripStatus = :tripStatus " +
            "AND EXISTS (SELECT 1 FROM UserRoom ur WHERE ur.room.roomId = r.roomId AND ur.user.userId = :userId) " +
            "ORDER BY r.startDate DESC, t.createdAt DESC")
     List<Trip> findPastTripsByUserId(@Param("userId") Long userId, @Param("tripStatus") TripStatus tripStatus);
 
     /**
-     * 현재 진행 중인 여행 조회 (시작일 <= 오늘 <= 종료일)
-     * @param userId 사용자 ID
-     * @param currentDate 현재 날짜
-     * @return 진행 중인 여행 목록 (종료일 내림차순 - 가장 늦게 끝나는 것 우선)
-     */
-    @Query("SELECT t FROM Trip t " +
-           "JOIN t.room r " +
-           "WHERE r.startDate <= :currentDate " +
-           "AND r.endDate >= :currentDate " +
-           "AND EXISTS (SELECT 1 FROM UserRoom ur WHERE ur.room.roomId = r.roomId AND ur.user.userId = :userId) " +
-           "ORDER BY r.endDate DESC, t.tripId ASC")
-    List<Trip> findOngoingTripsByUserId(@Param("userId") Long userId, @Param("currentDate") LocalDate currentDate);
-
-    /**
-     * 가장 가까운 미래 여행 조회 (시작일 > 오늘)
-     * @param userId 사용자 ID
-     * @param currentDate 현재 날짜
-     * @return 미래 여행 목록 (시작일 오름차순, 같으면 tripId 오름차순)
-     */
-    @Query("SELECT t FROM Trip t " +
-           "JOIN t.room r " +
-           "WHERE r.startDate > :currentDate " +
-           "AND EXISTS (SELECT 1 FROM UserRoom ur WHERE ur.room.roomId = r.roomId AND ur.user.userId = :userId) " +
-           "ORDER BY r.startDate ASC, t.tripId ASC")
-    List<Trip> findUpcomingTripsByUserId(@Param("userId") Long userId, @Param("currentDate") LocalDate currentDate);
-
-    /**
-     * 가장 최근에 종료된 여행 조회 (종료일 < 오늘)
+     * 대표 여행 ID 조회 (우선순위 1건)
+     * 1. 진행 중 (시작일 <= 오늘 <= 종료일) - 종료일 내림차순
+     * 2. 미래 (시작일 > 오늘) - 시작일 오름차순
+     * 3. 종료 (종료일 < 오늘) - 종료일 내림차순
+     * 같으면 tripId 오름차순
      * @param userId 사용자 ID
      * @param currentDate 현재 날짜
-     * @return 과거 여행 목록 (종료일 내림차순 - 가장 최근에 끝난 것 우선)
+     * @return 대표 여행 ID (여행이 없으면 empty)
      */
-    @Query("SELECT t FROM Trip t " +
+    @Query("SELECT t.tripId FROM Trip t " +
            "JOIN t.room r " +
-           "WHERE r.endDate < :currentDate " +
+           "WHERE r.startDate IS NOT NULL AND r.endDate IS NOT NULL " +
            "AND EXISTS (SELECT 1 FROM UserRoom ur WHERE ur.room.roomId = r.roomId AND ur.user.userId = :userId) " +
-           "ORDER BY r.endDate DESC, t.tripId ASC")
-    List<Trip> findRecentlyEndedTripsByUserId(@Param("userId") Long userId, @Param("currentDate") LocalDate currentDate);
+           "ORDER BY CASE WHEN r.startDate <= :currentDate AND r.endDate >= :currentDate THEN 0 " +
+           "              WHEN r.startDate > :currentDate THEN 1 ELSE 2 END ASC, " +
+           "CASE WHEN r.startDate <= :currentDate AND r.endDate >= :currentDate THEN r.endDate END DESC, " +
+           "CASE WHEN r.startDate > :currentDate THEN r.startDate END ASC, " +
+           "CASE WHEN r.endDate < :currentDate THEN r.endDate END DESC, " +
+           "t.tripId ASC " +
+           "LIMIT 1")
+    Optional<Long> findRepresentativeTripIdByUserId(@Param("userId") Long userId, @Param("currentDate") LocalDate currentDate);
 }
@@ -0,0 +1,154 @@
+package triB.triB.schedule.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import triB.triB.global.infra.RedisClient;
+
+import java.util.List;
+
+/**
+ * 숙소 변경 후 연쇄 재계산 작업 대기열 (Redis)
+ *
+ * <ul>
+ *     <li>schedule:cascade:queue - 정렬 집합, member = "tripId:roomId:dayNumber", score = 실행 시각(ms).
+ *     가져간 작업은 score를 임대 만료 시각으로 바꿔 두므로, 처리 중 인스턴스가 죽으면 임대 만료 후 다시 실행됩니다.</li>
+ *     <li>schedule:cascade:attempts - 실패 횟수</li>
+ *     <li>schedule:cascade:stale - 재시도를 모두 실패해 시간이 최신이 아닌 일차 (tripId:dayNumber)</li>
+ * </ul>
+ * 같은 일차가 처리 중에 다시 등록되면 score가 바뀌므로, 처리 결과는 가져갈 때의 임대 시각이 그대로일 때만 반영합니다.
+ */
+@Slf4j
+@Component
+public class AccommodationCascadeStore {
+
+    private static final String QUEUE_KEY = "schedule:cascade:queue";
+    private static final String ATTEMPTS_PREFIX = "schedule:cascade:attempts";
+    private static final String STALE_PREFIX = "schedule:cascade:stale";
+
+    // 실행 시각이 된 작업 하나를 임대 만료 시각으로 옮기고 반환
+    private static final DefaultRedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local due = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, 1) " +
+            "if #due == 0 then return false end " +
+            "redis.call('zadd', KEYS[1], ARGV[2], due[1]) " +
+            "return due[1]",
+            String.class);
+
+    // 임대 시각이 그대로일 때만 삭제
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('zscore', KEYS[1], ARGV[1])) ~= tonumber(ARGV[2]) then return 0 end " +
+            "return redis.call('zrem', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // 임대 시각이 그대로일 때만 다음 실행 시각으로 변경
+    private static final DefaultRedisScript<Long> RESCHEDULE_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('zscore', KEYS[1], ARGV[1])) ~= tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('zadd', KEYS[1], ARGV[3], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisClient redisClient;
+    private final long leaseMillis;
+    private final long staleTtlSeconds;
+
+    public AccommodationCascadeStore(
+            RedisClient redisClient,
+            @Value("${schedule.cascade.lease-seconds:60}") long leaseSeconds,
+            @Value("${schedule.cascade.stale-ttl-hours:168}") long staleTtlHours) {
+        this.redisClient = redisClient;
+        this.leaseMillis = leaseSeconds * 1000;
+        this.staleTtlSeconds = staleTtlHours * 3600;
+    }
+
+    /**
+     * 재계산 작업. leaseUntil은 대기열에서 가져갈 때 정한 임대 만료 시각
+     */
+    public record Task(Long tripId, Long roomId, Integer dayNumber, long leaseUntil) {
+
+        String member() {
+            return member(tripId, roomId, dayNumber);
+        }
+
+        static String member(Long tripId, Long roomId, Integer dayNumber) {
+            return tripId + ":" + roomId + ":" + dayNumber;
+        }
+
+        static Task parse(String member, long leaseUntil) {
+            String[] parts = member.split(":");
+            return new Task(Long.valueOf(parts[0]), Long.valueOf(parts[1]), Integer.valueOf(parts[2]), leaseUntil);
+        }
+    }
+
+    /**
+     * 바로 실행할 작업으로 등록 (이미 있으면 실행 시각과 실패 횟수 초기화)
+     */
+    public void enqueue(Long tripId, Long roomId, Integer dayNumber) {
+        String member = Task.member(tripId, roomId, dayNumber);
+        redisClient.deleteData(ATTEMPTS_PREFIX, member);
+        redisClient.addToSortedSet(QUEUE_KEY, member, System.currentTimeMillis());
+    }
+
+    /**
+     * 실행 시각이 된 작업 하나를 가져옴 (없으면 null)
+     */
+    public Task claim() {
+        long now = System.currentTimeMillis();
+        long leaseUntil = now + leaseMillis;
+        String member = redisClient.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY),
+                String.valueOf(now), String.valueOf(leaseUntil));
+        return member != null ? Task.parse(member, leaseUntil) : null;
+    }
+
+    /**
+     * 재계산 성공: 대기열과 실패 기록 정리
+     */
+    public void complete(Task task) {
+        String member = task.member();
+        Long removed = redisClient.execute(COMPLETE_SCRIPT, List.of(QUEUE_KEY), member, String.valueOf(task.leaseUntil()));
+        if (removed != null && removed > 0) {
+            redisClient.deleteData(ATTEMPTS_PREFIX, member);
+        }
+        redisClient.deleteData(STALE_PREFIX, task.tripId() + ":" + task.dayNumber());
+    }
+
+    /**
+     * 재계산 실패 횟수 증가
+     */
+    public int incrementAttempts(Task task) {
+        String current = redisClient.getData(ATTEMPTS_PREFIX, task.member());
+        int attempts = (current != null ? Integer.parseInt(current) : 0) + 1;
+        redisClient.setData(ATTEMPTS_PREFIX, task.member(), String.valueOf(attempts), staleTtlSeconds);
+        return attempts;
+    }
+
+    /**
+     * delayMillis 후 다시 실행 (그 사이 새로 등록됐으면 새 등록을 따름)
+     */
+    public void retryLater(Task task, long delayMillis) {
+        redisClient.execute(RESCHEDULE_SCRIPT, List.of(QUEUE_KEY), task.member(),
+                String.valueOf(task.leaseUntil()), String.valueOf(System.currentTimeMillis() + delayMillis));
+    }
+
+    /**
+     * 재시도 포기: 대기열에서 빼고 해당 일차를 시간 미갱신 상태로 표시
+     */
+    public void giveUp(Task task) {
+        String member = task.member();
+        redisClient.execute(COMPLETE_SCRIPT, List.of(QUEUE_KEY), member, String.valueOf(task.leaseUntil()));
+        redisClient.deleteData(ATTEMPTS_PREFIX, member);
+        redisClient.setData(STALE_PREFIX, task.tripId() + ":" + task.dayNumber(), "1", staleTtlSeconds);
+    }
+
+    /**
+     * 숙소 변경 후 재계산에 실패해 이동/도착 시간이 최신이 아닌 일차인지 (Redis 오류 시 false)
+     */
+    public boolean isStale(Long tripId, Integer dayNumber) {
+        try {
+            return redisClient.getData(STALE_PREFIX, tripId + ":" + dayNumber) != null;
+        } catch (RuntimeException e) {
+            log.warn("일정 재계산 상태 조회 실패: tripId={}, dayNumber={}, error={}", tripId, dayNumber, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package triB.triB.schedule.service;
+
+import lombok.Getter;
+import triB.triB.chat.entity.PlaceTag;
+import triB.triB.schedule.dto.RouteRequest;
+import triB.triB.schedule.entity.Schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 하루 일정의 메모리 모델
+ *
+ * <p>일괄 수정/미리보기에서 변경사항을 DB 재조회 없이 먼저 모두 적용한 뒤,
+ * 양 끝 장소가 바뀐 구간({@link #dirtyLegs()})만 이동시간을 다시 계산하고
+ * 처음 바뀐 위치부터 한 번만 도착/출발 시간을 연쇄 계산({@link #cascade()})합니다.
+ * 구간 i는 items[i] → items[i+1] 이동을 뜻하며, 이동시간은 items[i]에 저장됩니다.
+ */
+public class DayPlan {
+
+    /** 새 일정이 하루의 첫 일정일 때의 기본 시작 시간 */
+    private static final LocalTime DEFAULT_START_TIME = LocalTime.of(9, 0);
+    private static final String END_OF_DAY = "END";
+
+    @Getter
+    private final Integer dayNumber;
+    @Getter
+    private final LocalDate date;
+    private final List<PlanItem> items;
+    private final List<Long> deletedScheduleIds = new ArrayList<>();
+
+    /** 도착/출발 시간을 다시 계산해야 하는 첫 위치 */
+    private int firstDirtyIndex = Integer.MAX_VALUE;
+
+    private DayPlan(Integer dayNumber, LocalDate date, List<PlanItem> items) {
+        this.dayNumber = dayNumber;
+        this.date = date;
+        this.items = items;
+    }
+
+    /**
+     * 하루치 일정 엔티티로 모델을 만듭니다. 엔티티는 복사만 하고 변경하지 않습니다.
+     */
+    public static DayPlan of(Integer dayNumber, LocalDate date, List<Schedule> schedules) {
+        List<PlanItem> items = schedules.stream()
+                .sorted(Comparator.comparing(Schedule::getVisitOrder))
+                .map(PlanItem::from)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        DayPlan plan = new DayPlan(dayNumber, date, items);
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setLegKey(plan.currentLegKey(i));
+        }
+        return plan;
+    }
+
+    public List<PlanItem> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    public List<Long> getDeletedScheduleIds() {
+        return Collections.unmodifiableList(deletedScheduleIds);
+    }
+
+    public List<RouteRequest.LatLng> waypoints() {
+        return items.stream().map(PlanItem::toWaypoint).toList();
+    }
+
+    public PlanItem find(Long scheduleId) {
+        return items.get(indexOf(scheduleId));
+    }
+
+    // ===== 변경사항 적용 =====
+
+    public void delete(Long scheduleId) {
+        int index = indexOf(scheduleId);
+        items.remove(index);
+        deletedScheduleIds.add(scheduleId);
+        markDirty(index);
+    }
+
+    /**
+     * 마지막 일반 일정 바로 뒤(숙소 앞)에 새 일정을 추가합니다.
+     */
+    public PlanItem add(String placeName, PlaceTag placeTag, Double latitude, Double longitude, int stayMinutes) {
+        int index = items.size();
+        for (int i = items.size() - 1; i >= 0; i--) {
+            if (!items.get(i).isHome()) {
+                index = i + 1;
+                break;
+            }
+        }
+
+        LocalDateTime arrival = index > 0 ? items.get(index - 1).getDeparture() : date.atTime(DEFAULT_START_TIME);
+        PlanItem item = PlanItem.builder()
+                .placeName(placeName)
+                .placeTag(placeTag)
+                .latitude(latitude)
+                .longitude(longitude)
+                .isVisit(false)
+                .arrival(arrival)
+                .stayMinutes(stayMinutes)
+                .build();
+        items.add(index, item);
+        markDirty(index);
+        return item;
+    }
+
+    public void reorder(Long scheduleId, int newVisitOrder) {
+        int index = indexOf(scheduleId);
+        if (newVisitOrder == index + 1) {
+            return;
+        }
+        if (newVisitOrder < 1 || newVisitOrder > items.size()) {
+            throw new IllegalArgumentException("유효하지 않은 방문 순서입니다. (1-" + items.size() + " 사이여야 합니다)");
+        }
+
+        PlanItem item = items.remove(index);
+        items.add(newVisitOrder - 1, item);
+        markDirty(Math.min(index, newVisitOrder - 1));
+    }
+
+    public void updateAccommodation(Long scheduleId, String placeName, Double latitude, Double longitude) {
+        int index = indexOf(scheduleId, "해당 일정을 찾을 수 없습니다.");
+        PlanItem accommodation = items.get(index);
+        if (!accommodation.isHome()) {
+            throw new IllegalArgumentException("숙소(PlaceTag.HOME)만 변경할 수 있습니다.");
+        }
+
+        accommodation.setPlaceName(placeName);
+        accommodation.setLatitude(latitude);
+        accommodation.setLongitude(longitude);
+        markDirty(index);
+    }
+
+    public void updateVisitTime(Long scheduleId, LocalTime newArrivalTime) {
+        int index = indexOf(scheduleId);
+        items.get(index).setArrival(date.atTime(newArrivalTime));
+        markDirty(index + 1);
+    }
+
+    public void updateStayDuration(Long scheduleId, int stayMinutes) {
+        int index = indexOf(scheduleId);
+        items.get(index).setStayMinutes(stayMinutes);
+        markDirty(index + 1);
+    }
+
+    public void updateTravelTime(Long scheduleId, int travelMinutes) {
+        int index = indexOf(scheduleId);
+        PlanItem item = items.get(index);
+        item.setTravelMinutes(travelMinutes);
+        item.setTravelTimeEstimated(false);
+        item.setTravelTimeFixed(true);
+        markDirty(index + 1);
+    }
+
+    // ===== 재계산 =====
+
+    /**
+     * 양 끝 장소가 로드 시점과 달라져 이동시간을 다시 구해야 하는 구간 번호 목록.
+     * 마지막 일정이 된 항목의 이동시간은 여기서 비웁니다.
+     */
+    public List<Integer> dirtyLegs() {
+        List<Integer> dirty = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            PlanItem item = items.get(i);
+            String legKey = currentLegKey(i);
+            if (item.isTravelTimeFixed() || legKey.equals(item.getLegKey())) {
+                continue;
+            }
+
+            if (i == items.size() - 1) {
+                item.setTravelMinutes(null);
+                item.setTravelTimeEstimated(null);
+                item.setLegKey(legKey);
+            } else {
+                dirty.add(i);
+            }
+        }
+        return dirty;
+    }
+
+    /**
+     * 다시 계산한 구간 이동시간 반영
+     */
+    public void applyLegTravelTimes(Map<Integer, TravelTimeEstimate> legs) {
+        legs.forEach((legIndex, leg) -> {
+            PlanItem item = items.get(legIndex);
+            item.setTravelMinutes(leg.minutes());
+            item.setTravelTimeEstimated(leg.estimated());
+            item.setLegKey(currentLegKey(legIndex));
+            markDirty(legIndex + 1);
+        });
+    }
+
+    /**
+     * 마지막 일정인 숙소의 "숙소 → 다음날 첫 일정" 이동시간이 비어 있으면 true.
+     * 숙소 위치가 바뀌면 {@link #dirtyLegs()}에서 비워집니다.
+     */
+    public boolean needsNextDayLeg() {
+        if (items.isEmpty()) {
+            return false;
+        }
+        PlanItem last = items.get(items.size() - 1);
+        return last.isHome() && last.getTravelMinutes() == null;
+    }
+
+    /**
+     * 숙소 → 다음날 첫 일정 이동시간 반영 (마지막 일정에 저장, 당일 시간에는 영향 없음)
+     */
+    public void applyNextDayLeg(TravelTimeEstimate leg) {
+        PlanItem last = items.get(items.size() - 1);
+        last.setTravelMinutes(leg.minutes());
+        last.setTravelTimeEstimated(leg.estimated());
+    }
+
+    /**
+     * 처음 바뀐 위치부터 도착 시간을 "이전 출발 + 이동시간"으로 연쇄 계산합니다.
+     * 첫 번째 일정의 도착 시간은 유지됩니다.
+     */
+    public void cascade() {
+        for (int i = Math.max(firstDirtyIndex, 1); i < items.size(); i++) {
+            PlanItem previous = items.get(i - 1);
+            Integer travelMinutes = previous.getTravelMinutes();
+            items.get(i).setArrival(previous.getDeparture().plusMinutes(travelMinutes != null ? travelMinutes : 0));
+        }
+        firstDirtyIndex = Integer.MAX_VALUE;
+    }
+
+    private void markDirty(int index) {
+        firstDirtyIndex = Math.min(firstDirtyIndex, index);
+    }
+
+    private int indexOf(Long scheduleId) {
+        return indexOf(scheduleId, "일정을 찾을 수 없습니다.");
+    }
+
+    private int indexOf(Long scheduleId, String notFoundMessage) {
+        for (int i = 0; i < items.size(); i++) {
+            if (scheduleId != null && scheduleId.equals(items.get(i).getScheduleId())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(notFoundMessage);
+    }
+
+    private String currentLegKey(int index) {
+        String next = index + 1 < items.size() ? items.get(index + 1).pointKey() : END_OF_DAY;
+        return items.get(index).pointKey() + ">" + next;
+    }
+}
@@ -0,0 +1,182 @@
+package triB.triB.schedule.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 하루 일정 방문 순서 최적화 (총 이동시간 최소화)
+ *
+ * <p>고정 위치(숙소, 방문 완료 일정)를 경계로 구간을 나누고, 각 구간 안의 장소만
+ * 최근접 이웃으로 초기 순서를 만든 뒤 2-opt / Or-opt 개선을 더 이상 줄어들지 않을 때까지 반복합니다.
+ * 하루 장소 수({@link #MAX_STOPS}개 이하)에서는 수 ms 안에 끝나며, 이동시간 행렬은 비대칭이어도 됩니다.
+ * 이동시간이 같으면 기존 인덱스가 작은 장소를 먼저 방문하고, 기존 순서보다 짧아지지 않는 구간은 그대로 둡니다.
+ */
+final class DayRouteOptimizer {
+
+    /** 한 번에 최적화할 수 있는 하루 장소 수 */
+    static final int MAX_STOPS = 25;
+
+    /** Or-opt에서 한 번에 옮기는 연속 장소 수 */
+    private static final int MAX_OR_OPT_SEGMENT = 3;
+
+    private DayRouteOptimizer() {
+    }
+
+    /**
+     * @param durations N×N 이동시간(분) 행렬, 음수가 없어야 함
+     * @param fixed     true인 위치의 장소는 현재 위치에 고정
+     * @return 새 방문 순서 (i번째 원소 = 기존 인덱스)
+     * @throws IllegalArgumentException 장소가 {@link #MAX_STOPS}개를 넘는 경우
+     */
+    static int[] optimize(int[][] durations, boolean[] fixed) {
+        int n = fixed.length;
+        if (n > MAX_STOPS) {
+            throw new IllegalArgumentException("방문 순서 최적화는 하루 최대 " + MAX_STOPS + "개 장소까지 가능합니다.");
+        }
+        int[] order = new int[n];
+        int segmentStart = 0;
+
+        for (int i = 0; i <= n; i++) {
+            if (i < n && !fixed[i]) {
+                continue;
+            }
+
+            // [segmentStart, i) 구간이 이동 가능한 장소
+            if (i > segmentStart) {
+                int from = segmentStart > 0 ? segmentStart - 1 : -1;
+                int to = i < n ? i : -1;
+                List<Integer> nodes = new ArrayList<>();
+                for (int k = segmentStart; k < i; k++) {
+                    nodes.add(k);
+                }
+
+                List<Integer> route = improve(durations, from, to, nearestNeighbour(durations, from, to, nodes));
+                if (cost(durations, from, to, route) >= cost(durations, from, to, nodes)) {
+                    // 더 짧아지지 않으면 기존 순서 유지
+                    route = nodes;
+                }
+                for (int k = 0; k < route.size(); k++) {
+                    order[segmentStart + k] = route.get(k);
+                }
+            }
+            if (i < n) {
+                order[i] = i;
+            }
+            segmentStart = i + 1;
+        }
+        return order;
+    }
+
+    /**
+     * 경로 비용: from → route → to (from/to가 -1이면 해당 끝은 열린 경로)
+     */
+    static long cost(int[][] durations, int from, int to, List<Integer> route) {
+        long total = 0;
+        int previous = from;
+        for (int node : route) {
+            if (previous >= 0) {
+                total += durations[previous][node];
+            }
+            previous = node;
+        }
+        if (to >= 0 && previous >= 0) {
+            total += durations[previous][to];
+        }
+        return total;
+    }
+
+    /**
+     * 최근접 이웃 초기해. 시작 고정점이 없으면 모든 장소를 시작점으로 시도해 가장 짧은 경로를 고릅니다.
+     */
+    private static List<Integer> nearestNeighbour(int[][] durations, int from, int to, List<Integer> nodes) {
+        if (from >= 0) {
+            return greedyFrom(durations, from, nodes);
+        }
+
+        List<Integer> best = nodes;
+        long bestCost = cost(durations, from, to, nodes);
+        for (int start : nodes) {
+            List<Integer> rest = new ArrayList<>(nodes);
+            rest.remove(Integer.valueOf(start));
+            List<Integer> candidate = new ArrayList<>();
+            candidate.add(start);
+            candidate.addAll(greedyFrom(durations, start, rest));
+
+            long candidateCost = cost(durations, from, to, candidate);
+            if (candidateCost < bestCost) {
+                best = candidate;
+                bestCost = candidateCost;
+            }
+        }
+        return best;
+    }
+
+    private static List<Integer> greedyFrom(int[][] durations, int start, List<Integer> nodes) {
+        List<Integer> remaining = new ArrayList<>(nodes);
+        List<Integer> route = new ArrayList<>(nodes.size());
+        int current = start;
+        while (!remaining.isEmpty()) {
+            int nearest = 0;
+            for (int k = 1; k < remaining.size(); k++) {
+                if (durations[current][remaining.get(k)] < durations[current][remaining.get(nearest)]) {
+                    nearest = k;
+                }
+            }
+            current = remaining.remove(nearest);
+            route.add(current);
+        }
+        return route;
+    }
+
+    /**
+     * 2-opt(구간 뒤집기)와 Or-opt(1~3개 연속 장소 이동)를 개선이 없을 때까지 반복
+     */
+    private static List<Integer> improve(int[][] durations, int from, int to, List<Integer> initial) {
+        List<Integer> route = new ArrayList<>(initial);
+        long bestCost = cost(durations, from, to, route);
+        int size = route.size();
+
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+
+            // 2-opt
+            for (int i = 0; i < size - 1; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    List<Integer> candidate = new ArrayList<>(route);
+                    Collections.reverse(candidate.subList(i, j + 1));
+                    long candidateCost = cost(durations, from, to, candidate);
+                    if (candidateCost < bestCost) {
+                        route = candidate;
+                        bestCost = candidateCost;
+                        improved = true;
+                    }
+                }
+            }
+
+            // Or-opt
+            for (int length = 1; length <= Math.min(MAX_OR_OPT_SEGMENT, size - 1); length++) {
+                for (int i = 0; i + length <= size; i++) {
+                    for (int insertAt = 0; insertAt <= size - length; insertAt++) {
+                        if (insertAt == i) {
+                            continue;
+                        }
+                        List<Integer> candidate = new ArrayList<>(route);
+                        List<Integer> moved = new ArrayList<>(candidate.subList(i, i + length));
+                        candidate.subList(i, i + length).clear();
+                        candidate.addAll(insertAt, moved);
+
+                        long candidateCost = cost(durations, from, to, candidate);
+                        if (candidateCost < bestCost) {
+                            route = candidate;
+                            bestCost = candidateCost;
+                            improved = true;
+                        }
+                    }
+                }
+            }
+        }
+        return route;
+    }
+}
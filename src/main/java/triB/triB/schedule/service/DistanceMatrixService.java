@@ -0,0 +1,328 @@
+package triB.triB.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import triB.triB.schedule.dto.RouteMatrixElement;
+import triB.triB.schedule.dto.RouteMatrixRequest;
+import triB.triB.schedule.dto.RouteRequest;
+import triB.triB.schedule.entity.TravelMode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 하루 일정 장소들 간의 N×N 이동시간 행렬 서비스
+ *
+ * <p>Google Routes API의 computeRouteMatrix를 한 번 호출해 하루치 모든 장소 쌍의 이동시간을 받아오고,
+ * (tripId, dayNumber, travelMode) 단위로 메모리에 보관합니다.
+ * 같은 장소 집합 안에서의 순서 변경, 삭제, 미리보기는 추가 API 호출 없이 행렬에서 바로 응답합니다.
+ * 행렬에 없는 장소가 포함되면 기존 장소와 합쳐 행렬을 한 번 다시 받아옵니다.
+ * 행렬은 장소 좌표로 조회하므로 일정이 바뀌어도 따로 비우지 않으며, 마지막 조회 후 TTL이 지나면 만료됩니다.
+ */
+@Slf4j
+@Service
+public class DistanceMatrixService {
+
+    /** computeRouteMatrix 원소 수 제한: 일반 625개, TRANSIT 100개 */
+    private static final int MAX_PLACES = 25;
+    private static final int MAX_TRANSIT_PLACES = 10;
+
+    private final WebClient googleRoutesWebClient;
+    private final TravelTimeEstimator travelTimeEstimator;
+    private final RoutesCircuitBreaker circuitBreaker;
+    private final HaversineTravelTimeEstimator localEstimator;
+    private final Cache<String, DayMatrix> matrixCache;
+    private final Duration requestTimeout;
+
+    public DistanceMatrixService(
+            @Qualifier("googleRoutesWebClient") WebClient googleRoutesWebClient,
+            TravelTimeEstimator travelTimeEstimator,
+            RoutesCircuitBreaker circuitBreaker,
+            HaversineTravelTimeEstimator localEstimator,
+            @Value("${google.routes.matrix.max-entries:5000}") long maxEntries,
+            @Value("${google.routes.matrix.ttl-minutes:60}") long ttlMinutes,
+            @Value("${google.routes.timeout-seconds:10}") long timeoutSeconds) {
+        this.googleRoutesWebClient = googleRoutesWebClient;
+        this.travelTimeEstimator = travelTimeEstimator;
+        this.circuitBreaker = circuitBreaker;
+        this.localEstimator = localEstimator;
+        this.requestTimeout = Duration.ofSeconds(timeoutSeconds);
+        this.matrixCache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 방문 순서대로 정렬된 경유지들의 구간별 이동시간을 행렬에서 조회합니다.
+     *
+     * <p>행렬을 사용할 수 없는 경우(장소 수 초과, API 실패, 서킷 열림)에는
+     * {@link TravelTimeEstimator#calculateLegTravelTimes(List, TravelMode)}로 대체합니다.
+     * 행렬에 경로가 없는 구간은 로컬 추정치로 채웁니다.
+     *
+     * @return i번째 원소가 waypoints[i] → waypoints[i+1] 구간 결과인 목록
+     */
+    public List<TravelTimeEstimate> calculateLegTravelTimes(Long tripId, Integer dayNumber, TravelMode travelMode,
+                                                 List<RouteRequest.LatLng> waypoints) {
+        if (waypoints == null || waypoints.size() < 2) {
+            return List.of();
+        }
+
+        int[][] durations = getDurations(tripId, dayNumber, travelMode, waypoints);
+        if (durations == null) {
+            return travelTimeEstimator.calculateLegTravelTimes(waypoints, travelMode);
+        }
+
+        List<TravelTimeEstimate> legs = new ArrayList<>(waypoints.size() - 1);
+        for (int i = 0; i < waypoints.size() - 1; i++) {
+            legs.add(legFromMatrix(durations, i, waypoints, travelMode));
+        }
+        return legs;
+    }
+
+    /**
+     * 경유지 목록 중 지정한 구간들만 이동시간을 조회합니다.
+     * 일괄 수정에서 양 끝 장소가 바뀐 구간만 다시 계산할 때 사용합니다.
+     *
+     * @param legIndexes 조회할 구간 번호 (i는 waypoints[i] → waypoints[i+1])
+     * @return 구간 번호 → 구간 결과
+     */
+    public Map<Integer, TravelTimeEstimate> calculateLegTravelTimes(Long tripId, Integer dayNumber, TravelMode travelMode,
+                                                                   List<RouteRequest.LatLng> waypoints,
+                                                                   Collection<Integer> legIndexes) {
+        Map<Integer, TravelTimeEstimate> legs = new HashMap<>();
+        if (waypoints == null || waypoints.size() < 2 || legIndexes.isEmpty()) {
+            return legs;
+        }
+
+        int[][] durations = getDurations(tripId, dayNumber, travelMode, waypoints);
+        if (durations != null) {
+            for (Integer i : legIndexes) {
+                legs.put(i, legFromMatrix(durations, i, waypoints, travelMode));
+            }
+            return legs;
+        }
+
+        // 행렬을 쓸 수 없으면 바뀐 구간만 개별 요청
+        List<Integer> indexes = new ArrayList<>(legIndexes);
+        List<RouteRequest.LatLng> origins = indexes.stream().map(waypoints::get).toList();
+        List<RouteRequest.LatLng> destinations = indexes.stream().map(i -> waypoints.get(i + 1)).toList();
+        List<TravelTimeEstimate> results = travelTimeEstimator.calculatePairTravelTimes(origins, destinations, travelMode);
+        for (int k = 0; k < indexes.size(); k++) {
+            legs.put(indexes.get(k), results.get(k));
+        }
+        return legs;
+    }
+
+    private TravelTimeEstimate legFromMatrix(int[][] durations, int legIndex,
+                                             List<RouteRequest.LatLng> waypoints, TravelMode travelMode) {
+        int minutes = durations[legIndex][legIndex + 1];
+        return minutes >= 0
+                ? TravelTimeEstimate.ofRoute(minutes)
+                : localEstimator.estimate(waypoints.get(legIndex), waypoints.get(legIndex + 1), travelMode);
+    }
+
+    /**
+     * 주어진 장소 목록 순서에 맞춘 N×N 이동시간(분) 행렬을 반환합니다.
+     * 경로가 없는 쌍은 -1 입니다.
+     *
+     * @return 행렬, 행렬을 만들 수 없으면 null
+     */
+    public int[][] getDurations(Long tripId, Integer dayNumber, TravelMode travelMode, List<RouteRequest.LatLng> places) {
+        TravelMode mode = travelMode != null ? travelMode : TravelMode.DRIVE;
+        int limit = mode == TravelMode.TRANSIT ? MAX_TRANSIT_PLACES : MAX_PLACES;
+
+        String key = matrixKey(tripId, dayNumber, mode);
+        DayMatrix matrix = matrixCache.getIfPresent(key);
+
+        if (matrix == null || !matrix.covers(places)) {
+            // 기존 행렬의 장소와 합쳐서 다시 요청 (제한을 넘으면 현재 장소만)
+            Set<String> pointKeys = new LinkedHashSet<>();
+            List<RouteRequest.LatLng> requestPlaces = new ArrayList<>();
+            addDistinct(places, pointKeys, requestPlaces);
+            if (requestPlaces.size() > limit) {
+                return null;
+            }
+            if (matrix != null && pointKeys.size() + matrix.size() <= limit) {
+                addDistinct(matrix.places, pointKeys, requestPlaces);
+            }
+
+            matrix = fetchMatrix(requestPlaces, mode);
+            if (matrix == null) {
+                return null;
+            }
+            matrixCache.put(key, matrix);
+        }
+
+        return matrix.durationsFor(places);
+    }
+
+    /**
+     * 경로 최적화용 N×N 이동시간(분) 행렬.
+     * 경로가 없는 쌍과 행렬을 만들 수 없는 경우(장소 수 초과, API 실패, 서킷 열림)는 로컬 추정치로 채웁니다.
+     */
+    public int[][] getCompleteDurations(Long tripId, Integer dayNumber, TravelMode travelMode, List<RouteRequest.LatLng> places) {
+        int[][] durations = getDurations(tripId, dayNumber, travelMode, places);
+        int size = places.size();
+        int[][] complete = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (i == j) {
+                    continue;
+                }
+                complete[i][j] = durations != null && durations[i][j] >= 0
+                        ? durations[i][j]
+                        : localEstimator.estimate(places.get(i), places.get(j), travelMode).minutes();
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Google Routes API computeRouteMatrix 호출
+     */
+    private DayMatrix fetchMatrix(List<RouteRequest.LatLng> places, TravelMode travelMode) {
+        if (!circuitBreaker.allowRequest()) {
+            return null;
+        }
+
+        List<RouteRequest.WaypointWrapper> waypoints = places.stream()
+                .map(place -> RouteRequest.WaypointWrapper.builder()
+                        .waypoint(RouteRequest.LocationWrapper.builder()
+                                .location(RouteRequest.Location.builder()
+                                        .latLng(place)
+                                        .build())
+                                .build())
+                        .build())
+                .toList();
+
+        RouteMatrixRequest request = RouteMatrixRequest.builder()
+                .origins(waypoints)
+                .destinations(waypoints)
+                .travelMode(travelMode.name())
+                .languageCode("ko")
+                .build();
+
+        long startedAt = System.nanoTime();
+        try {
+            List<RouteMatrixElement> elements = googleRoutesWebClient.post()
+                    .uri("/distanceMatrix/v2:computeRouteMatrix")
+                    .header("X-Goog-FieldMask", "originIndex,destinationIndex,duration,condition")
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(RouteMatrixElement.class)
+                    .collectList()
+                    .timeout(requestTimeout)
+                    .block();
+            circuitBreaker.recordSuccess((System.nanoTime() - startedAt) / 1_000_000);
+
+            if (elements == null || elements.isEmpty()) {
+                return null;
+            }
+
+            int n = places.size();
+            int[][] durations = new int[n][n];
+            for (int[] row : durations) {
+                Arrays.fill(row, -1);
+            }
+            for (RouteMatrixElement element : elements) {
+                if (element.getOriginIndex() == null || element.getDestinationIndex() == null) {
+                    continue;
+                }
+                if (!"ROUTE_EXISTS".equals(element.getCondition()) && element.getDuration() == null) {
+                    continue;
+                }
+                durations[element.getOriginIndex()][element.getDestinationIndex()] =
+                        RoutesApiService.parseDurationToMinutes(element.getDuration());
+            }
+            for (int i = 0; i < n; i++) {
+                durations[i][i] = 0;
+            }
+
+            return new DayMatrix(places, durations);
+
+        } catch (Exception e) {
+            log.error("Google Routes API 행렬 호출 실패: {}", e.getMessage());
+            circuitBreaker.recordFailure();
+            return null;
+        }
+    }
+
+    private static void addDistinct(List<RouteRequest.LatLng> source, Set<String> pointKeys, List<RouteRequest.LatLng> target) {
+        for (RouteRequest.LatLng place : source) {
+            if (pointKeys.add(pointKey(place))) {
+                target.add(place);
+            }
+        }
+    }
+
+    private static String matrixKey(Long tripId, Integer dayNumber, TravelMode travelMode) {
+        return tripId + ":" + dayNumber + ":" + travelMode.name();
+    }
+
+    /**
+     * 좌표를 캐시 키와 같은 정밀도(소수점 4자리)로 식별
+     */
+    static String pointKey(RouteRequest.LatLng place) {
+        return Math.round(place.getLatitude() * 10_000) + "," + Math.round(place.getLongitude() * 10_000);
+    }
+
+    /**
+     * 하루치 장소 목록과 이동시간 행렬
+     */
+    private static final class DayMatrix {
+        private final List<RouteRequest.LatLng> places;
+        private final Map<String, Integer> indexByPoint;
+        private final int[][] durations;
+
+        private DayMatrix(List<RouteRequest.LatLng> places, int[][] durations) {
+            this.places = List.copyOf(places);
+            this.durations = durations;
+            this.indexByPoint = new HashMap<>();
+            for (int i = 0; i < places.size(); i++) {
+                indexByPoint.putIfAbsent(pointKey(places.get(i)), i);
+            }
+        }
+
+        private int size() {
+            return places.size();
+        }
+
+        private boolean covers(List<RouteRequest.LatLng> targets) {
+            for (RouteRequest.LatLng target : targets) {
+                if (!indexByPoint.containsKey(pointKey(target))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int[][] durationsFor(List<RouteRequest.LatLng> targets) {
+            int n = targets.size();
+            int[] index = new int[n];
+            for (int i = 0; i < n; i++) {
+                index[i] = indexByPoint.get(pointKey(targets.get(i)));
+            }
+
+            int[][] result = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    result[i][j] = durations[index[i]][index[j]];
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package triB.triB.schedule.service;
+
+import org.springframework.stereotype.Component;
+import triB.triB.schedule.dto.RouteRequest;
+import triB.triB.schedule.entity.TravelMode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 네트워크 호출 없이 이동시간을 추정하는 로컬 계산기
+ *
+ * <p>두 지점 간 대권거리(haversine)에 도로 우회 계수를 곱하고,
+ * 이동 수단별 평균 속도와 고정 소요시간(주차, 환승 대기 등)을 적용합니다.
+ * Routes API 장애 시 대체값으로 사용되며, 모든 결과는 추정치로 표시됩니다.
+ */
+@Component
+public class HaversineTravelTimeEstimator implements TravelTimeEstimator {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /** 직선거리 대비 실제 경로 길이 비율 */
+    private static final double DETOUR_FACTOR = 1.3;
+
+    /** 이 거리 미만이면 같은 장소로 간주 (km) */
+    private static final double SAME_PLACE_KM = 0.05;
+
+    @Override
+    public List<TravelTimeEstimate> calculateLegTravelTimes(List<RouteRequest.LatLng> waypoints, TravelMode travelMode) {
+        if (waypoints == null || waypoints.size() < 2) {
+            return List.of();
+        }
+
+        List<TravelTimeEstimate> legs = new ArrayList<>(waypoints.size() - 1);
+        for (int i = 0; i < waypoints.size() - 1; i++) {
+            legs.add(estimate(waypoints.get(i), waypoints.get(i + 1), travelMode));
+        }
+        return legs;
+    }
+
+    @Override
+    public List<TravelTimeEstimate> calculatePairTravelTimes(List<RouteRequest.LatLng> origins,
+                                                             List<RouteRequest.LatLng> destinations,
+                                                             TravelMode travelMode) {
+        if (origins == null || origins.isEmpty()) {
+            return List.of();
+        }
+
+        List<TravelTimeEstimate> legs = new ArrayList<>(origins.size());
+        for (int i = 0; i < origins.size(); i++) {
+            legs.add(estimate(origins.get(i), destinations.get(i), travelMode));
+        }
+        return legs;
+    }
+
+    /**
+     * 두 지점 간 이동시간 추정
+     */
+    public TravelTimeEstimate estimate(RouteRequest.LatLng from, RouteRequest.LatLng to, TravelMode travelMode) {
+        if (from == null || to == null
+                || from.getLatitude() == null || from.getLongitude() == null
+                || to.getLatitude() == null || to.getLongitude() == null) {
+            return TravelTimeEstimate.ofEstimate(0);
+        }
+
+        return TravelTimeEstimate.ofEstimate(estimateMinutes(
+                from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude(), travelMode));
+    }
+
+    /**
+     * 두 좌표 간 이동시간(분) 추정
+     */
+    public int estimateMinutes(double fromLat, double fromLng, double toLat, double toLng, TravelMode travelMode) {
+        double distanceKm = distanceKm(fromLat, fromLng, toLat, toLng);
+        if (distanceKm < SAME_PLACE_KM) {
+            return 0;
+        }
+
+        TravelMode mode = travelMode != null ? travelMode : TravelMode.DRIVE;
+        double travelMinutes = distanceKm * DETOUR_FACTOR / speedKmh(mode) * 60;
+        return (int) Math.round(travelMinutes) + overheadMinutes(mode);
+    }
+
+    /**
+     * 두 좌표 간 대권거리 (km)
+     */
+    public static double distanceKm(double fromLat, double fromLng, double toLat, double toLng) {
+        double dLat = Math.toRadians(toLat - fromLat);
+        double dLng = Math.toRadians(toLng - fromLng);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(fromLat)) * Math.cos(Math.toRadians(toLat))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 이동 수단별 평균 속도 (km/h, 도심 기준)
+     */
+    private static double speedKmh(TravelMode travelMode) {
+        return switch (travelMode) {
+            case WALK -> 4.5;
+            case BICYCLE -> 15.0;
+            case TRANSIT -> 20.0;
+            case TWO_WHEELER -> 28.0;
+            case DRIVE -> 30.0;
+        };
+    }
+
+    /**
+     * 이동 수단별 고정 소요시간 (분) - 주차, 대기, 환승 등
+     */
+    private static int overheadMinutes(TravelMode travelMode) {
+        return switch (travelMode) {
+            case WALK, BICYCLE -> 0;
+            case TRANSIT -> 10;
+            case TWO_WHEELER -> 2;
+            case DRIVE -> 5;
+        };
+    }
+}
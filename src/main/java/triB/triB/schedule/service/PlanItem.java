@@ -0,0 +1,84 @@
+package triB.triB.schedule.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import triB.triB.chat.entity.PlaceTag;
+import triB.triB.schedule.dto.RouteRequest;
+import triB.triB.schedule.entity.Schedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * {@link DayPlan}의 일정 한 칸
+ *
+ * <p>JPA 엔티티와 분리된 값 객체입니다. 출발 시간은 도착 시간 + 체류시간으로 계산합니다.
+ */
+@Getter
+@Setter(AccessLevel.PACKAGE)
+@Builder(access = AccessLevel.PACKAGE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PlanItem {
+
+    /** 새로 추가된 일정이면 null */
+    private final Long scheduleId;
+
+    private String placeName;
+    private final PlaceTag placeTag;
+    private Double latitude;
+    private Double longitude;
+    private final Boolean isVisit;
+    private LocalDateTime arrival;
+    private long stayMinutes;
+
+    /** 다음 장소까지의 이동시간 (분), 다음 장소가 없으면 null */
+    private Integer travelMinutes;
+    private Boolean travelTimeEstimated;
+
+    /** travelMinutes가 계산된 "현재 장소 → 다음 장소" 좌표 키. 새 일정이면 null */
+    private String legKey;
+
+    /** UPDATE_TRAVEL_TIME으로 직접 지정된 이동시간이면 true (재계산 대상에서 제외) */
+    private boolean travelTimeFixed;
+
+    static PlanItem from(Schedule schedule) {
+        return PlanItem.builder()
+                .scheduleId(schedule.getScheduleId())
+                .placeName(schedule.getPlaceName())
+                .placeTag(schedule.getPlaceTag())
+                .latitude(schedule.getLatitude())
+                .longitude(schedule.getLongitude())
+                .isVisit(schedule.getIsVisit())
+                .arrival(schedule.getArrival())
+                .stayMinutes(Duration.between(schedule.getArrival(), schedule.getDeparture()).toMinutes())
+                .travelMinutes(schedule.getTravelMinutes())
+                .travelTimeEstimated(schedule.getTravelTimeEstimated())
+                .build();
+    }
+
+    public LocalDateTime getDeparture() {
+        return arrival.plusMinutes(stayMinutes);
+    }
+
+    public boolean isNew() {
+        return scheduleId == null;
+    }
+
+    public boolean isHome() {
+        return placeTag == PlaceTag.HOME;
+    }
+
+    RouteRequest.LatLng toWaypoint() {
+        return RouteRequest.LatLng.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    String pointKey() {
+        return DistanceMatrixService.pointKey(toWaypoint());
+    }
+}
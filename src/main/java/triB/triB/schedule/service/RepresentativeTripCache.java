@@ -0,0 +1,112 @@
+package triB.triB.schedule.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import triB.triB.chat.event.TripCreatedEvent;
+import triB.triB.global.infra.RedisClient;
+import triB.triB.room.event.RoomDatesChangedEvent;
+import triB.triB.room.event.RoomMembershipChangedEvent;
+import triB.triB.room.repository.UserRoomRepository;
+import triB.triB.schedule.repository.TripRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자별 대표 여행 ID 캐시 (Redis)
+ *
+ * <p>값은 "기준 날짜:tripId" 형식이며(여행이 없으면 tripId 자리에 빈 값),
+ * 우선순위가 날짜에 따라 바뀌므로 기준 날짜가 오늘이 아니면 캐시 미스로 취급합니다.
+ * 여행 생성, 채팅방 날짜 수정, 참여자 변경 시 커밋 후 해당 사용자들의 캐시를 지웁니다.
+ */
+@Slf4j
+@Service
+public class RepresentativeTripCache {
+
+    private static final String PREFIX = "representative-trip";
+
+    private final TripRepository tripRepository;
+    private final UserRoomRepository userRoomRepository;
+    private final RedisClient redisClient;
+    private final long ttlSeconds;
+
+    public RepresentativeTripCache(
+            TripRepository tripRepository,
+            UserRoomRepository userRoomRepository,
+            RedisClient redisClient,
+            @Value("${trip.representative.cache-ttl-minutes:60}") long ttlMinutes) {
+        this.tripRepository = tripRepository;
+        this.userRoomRepository = userRoomRepository;
+        this.redisClient = redisClient;
+        this.ttlSeconds = Duration.ofMinutes(ttlMinutes).toSeconds();
+    }
+
+    /**
+     * 대표 여행 ID 조회 (Redis → DB 순)
+     * @return 대표 여행 ID, 여행이 없으면 null
+     */
+    public Long getTripId(Long userId) {
+        LocalDate today = LocalDate.now();
+        String datePrefix = today + ":";
+
+        String cached = read(userId);
+        if (cached != null && cached.startsWith(datePrefix)) {
+            String tripId = cached.substring(datePrefix.length());
+            return tripId.isEmpty() ? null : Long.valueOf(tripId);
+        }
+
+        Long tripId = tripRepository.findRepresentativeTripIdByUserId(userId, today).orElse(null);
+        write(userId, datePrefix + (tripId != null ? tripId : ""));
+        return tripId;
+    }
+
+    public void evict(Long userId) {
+        try {
+            redisClient.deleteData(PREFIX, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("Representative trip cache redis evict failed. userId={}, message={}", userId, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomMembershipChanged(RoomMembershipChangedEvent e) {
+        e.userIds().forEach(this::evict);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomDatesChanged(RoomDatesChangedEvent e) {
+        evictRoomMembers(e.roomId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTripCreated(TripCreatedEvent e) {
+        evictRoomMembers(e.roomId());
+    }
+
+    private void evictRoomMembers(Long roomId) {
+        List<Long> userIds = userRoomRepository.findUserIdsByRoomId(roomId);
+        userIds.forEach(this::evict);
+    }
+
+    private String read(Long userId) {
+        try {
+            return redisClient.getData(PREFIX, String.valueOf(userId));
+        } catch (Exception e) {
+            // Redis 장애 시 캐시 미스로 취급하고 DB로 진행
+            log.warn("Representative trip cache redis lookup failed. userId={}, message={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(Long userId, String value) {
+        try {
+            redisClient.setData(PREFIX, String.valueOf(userId), value, ttlSeconds);
+        } catch (Exception e) {
+            log.warn("Representative trip cache redis write failed. userId={}, message={}", userId, e.getMessage());
+        }
+    }
+}
@@ -1,33 +1,177 @@
 package triB.triB.schedule.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 import triB.triB.schedule.dto.RouteRequest;
 import triB.triB.schedule.dto.RouteResponse;
 import triB.triB.schedule.entity.TravelMode;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class RoutesApiService {
+@Primary
+public class RoutesApiService implements TravelTimeEstimator {
 
-    @Qualifier("googleRoutesWebClient")
     private final WebClient googleRoutesWebClient;
+    private final TravelTimeCache travelTimeCache;
+    private final RoutesCircuitBreaker circuitBreaker;
+    private final HaversineTravelTimeEstimator localEstimator;
+    private final int maxConcurrency;
+    private final Duration requestTimeout;
+
+    public RoutesApiService(
+            @Qualifier("googleRoutesWebClient") WebClient googleRoutesWebClient,
+            TravelTimeCache travelTimeCache,
+            RoutesCircuitBreaker circuitBreaker,
+            HaversineTravelTimeEstimator localEstimator,
+            @Value("${google.routes.max-concurrency:8}") int maxConcurrency,
+            @Value("${google.routes.timeout-seconds:10}") long timeoutSeconds) {
+        this.googleRoutesWebClient = googleRoutesWebClient;
+        this.travelTimeCache = travelTimeCache;
+        this.circuitBreaker = circuitBreaker;
+        this.localEstimator = localEstimator;
+        this.maxConcurrency = maxConcurrency;
+        this.requestTimeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    /**
+     * 연속된 경유지 사이의 모든 구간 이동시간을 한 번에 계산합니다 (블로킹).
+     *
+     * @param waypoints 방문 순서대로 정렬된 경유지 목록
+     * @param travelMode 이동 수단
+     * @return i번째 원소가 waypoints[i] → waypoints[i+1] 구간 결과인 목록
+     * @see #computeLegTravelTimes(List, TravelMode)
+     */
+    @Override
+    public List<TravelTimeEstimate> calculateLegTravelTimes(List<RouteRequest.LatLng> waypoints, TravelMode travelMode) {
+        return computeLegTravelTimes(waypoints, travelMode).block();
+    }
 
     /**
-     * Google Routes API를 사용하여 두 지점 간의 이동 시간을 계산합니다.
+     * 연속된 경유지 사이의 모든 구간 이동시간을 동시에 계산합니다.
      *
-     * @param fromLat 출발지 위도
-     * @param fromLng 출발지 경도
-     * @param toLat 목적지 위도
-     * @param toLng 목적지 경도
+     * <p>캐시에 있는 구간은 바로 채우고, 나머지 구간만 googleRoutesWebClient로
+     * 최대 {@code google.routes.max-concurrency}개씩 병렬 요청합니다.
+     * 따라서 전체 소요 시간은 구간 수의 합이 아니라 가장 느린 구간에 의해 결정됩니다.
+     * 서킷이 열려 있거나 호출에 실패한 구간은 로컬 추정치(estimated=true)로 채워지며 캐시하지 않습니다.
+     *
+     * @param waypoints 방문 순서대로 정렬된 경유지 목록
      * @param travelMode 이동 수단
-     * @return 이동 시간 (분 단위), 실패 시 0
+     * @return i번째 원소가 waypoints[i] → waypoints[i+1] 구간 결과인 목록
+     */
+    public Mono<List<TravelTimeEstimate>> computeLegTravelTimes(List<RouteRequest.LatLng> waypoints, TravelMode travelMode) {
+        if (waypoints == null || waypoints.size() < 2) {
+            return Mono.just(List.of());
+        }
+        return computeTravelTimes(waypoints.subList(0, waypoints.size() - 1), waypoints.subList(1, waypoints.size()), travelMode);
+    }
+
+    /**
+     * 서로 연속하지 않은 출발지/목적지 쌍들의 이동시간을 한 번에 계산합니다 (블로킹).
+     * 일괄 수정처럼 하루 중 일부 구간만 다시 계산할 때 사용합니다.
+     *
+     * @param origins 출발지 목록
+     * @param destinations origins와 같은 길이의 목적지 목록
+     * @return i번째 원소가 origins[i] → destinations[i] 구간 결과인 목록
+     */
+    @Override
+    public List<TravelTimeEstimate> calculatePairTravelTimes(List<RouteRequest.LatLng> origins,
+                                                             List<RouteRequest.LatLng> destinations,
+                                                             TravelMode travelMode) {
+        if (origins == null || origins.isEmpty()) {
+            return List.of();
+        }
+        return computeTravelTimes(origins, destinations, travelMode).block();
+    }
+
+    private Mono<List<TravelTimeEstimate>> computeTravelTimes(List<RouteRequest.LatLng> origins,
+                                                             List<RouteRequest.LatLng> destinations,
+                                                             TravelMode travelMode) {
+        int legCount = origins.size();
+        TravelTimeEstimate[] legs = new TravelTimeEstimate[legCount];
+        String[] cacheKeys = new String[legCount];
+        List<Integer> missedLegs = new ArrayList<>();
+
+        for (int i = 0; i < legCount; i++) {
+            RouteRequest.LatLng from = origins.get(i);
+            RouteRequest.LatLng to = destinations.get(i);
+            cacheKeys[i] = TravelTimeCache.key(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude(), travelMode);
+            Integer cached = travelTimeCache.get(cacheKeys[i]);
+            if (cached != null) {
+                legs[i] = TravelTimeEstimate.ofRoute(cached);
+            } else {
+                missedLegs.add(i);
+            }
+        }
+
+        if (missedLegs.isEmpty()) {
+            return Mono.just(Arrays.asList(legs));
+        }
+
+        return Flux.fromIterable(missedLegs)
+                .flatMap(i -> requestLeg(i, origins.get(i), destinations.get(i), travelMode), maxConcurrency)
+                .collectList()
+                // 캐시 저장은 Redis I/O가 있으므로 네트워크 이벤트 루프가 아닌 스레드에서 수행
+                .publishOn(Schedulers.boundedElastic())
+                .map(results -> {
+                    results.forEach(result -> {
+                        TravelTimeEstimate leg = result.getT2();
+                        legs[result.getT1()] = leg;
+                        if (!leg.estimated() && leg.minutes() > 0) {
+                            travelTimeCache.put(cacheKeys[result.getT1()], leg.minutes());
+                        }
+                    });
+                    return Arrays.asList(legs);
+                });
+    }
+
+    /**
+     * 한 구간의 Routes API 호출. 서킷이 열려 있거나 실패하면 로컬 추정치를 반환합니다.
      */
-    public Integer calculateTravelTime(Double fromLat, Double fromLng, Double toLat, Double toLng, TravelMode travelMode) {
+    private Mono<Tuple2<Integer, TravelTimeEstimate>> requestLeg(
+            int legIndex, RouteRequest.LatLng from, RouteRequest.LatLng to, TravelMode travelMode) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.allowRequest()) {
+                return Mono.just(Tuples.of(legIndex, localEstimator.estimate(from, to, travelMode)));
+            }
+
+            long startedAt = System.nanoTime();
+            return requestTravelTime(from.getLatitude(), from.getLongitude(), to.getLatitude(), to.getLongitude(), travelMode)
+                    .timeout(requestTimeout)
+                    .doOnSuccess(minutes -> circuitBreaker.recordSuccess(elapsedMillis(startedAt)))
+                    .map(minutes -> Tuples.of(legIndex, TravelTimeEstimate.ofRoute(minutes)))
+                    .defaultIfEmpty(Tuples.of(legIndex, TravelTimeEstimate.ofRoute(0)))
+                    .onErrorResume(e -> {
+                        log.error("Google Routes API 호출 실패 (leg={}): {}", legIndex, e.getMessage());
+                        circuitBreaker.recordFailure();
+                        return Mono.just(Tuples.of(legIndex, localEstimator.estimate(from, to, travelMode)));
+                    });
+        });
+    }
+
+    private static long elapsedMillis(long startedAtNanos) {
+        return (System.nanoTime() - startedAtNanos) / 1_000_000;
+    }
+
+    /**
+     * Google Routes API computeRoutes 호출
+     *
+     * @return 이동 시간 (분 단위), 경로가 없으면 empty
+     */
+    private Mono<Integer> requestTravelTime(Double fromLat, Double fromLng, Double toLat, Double toLng, TravelMode travelMode) {
         // RouteRequest 생성
         RouteRequest request = RouteRequest.builder()
                 .origin(RouteRequest.LocationWrapper.builder()
@@ -50,45 +194,34 @@ public class RoutesApiService {
                 .languageCode("ko")
                 .build();
 
-        try {
-            // Google Routes API 호출
-            RouteResponse response = googleRoutesWebClient.post()
-                    .uri("/directions/v2:computeRoutes")
-                    .header("X-Goog-FieldMask", "routes.duration,routes.distanceMeters")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(RouteResponse.class)
-                    .block();
-
-            // 응답에서 duration 추출
-            if (response != null && response.getRoutes() != null && !response.getRoutes().isEmpty()) {
-                String duration = response.getRoutes().get(0).getDuration();
-                Integer minutes = parseDurationToMinutes(duration);
-                return minutes;
-            }
-
-            return 0;
-
-        } catch (Exception e) {
-            log.error("Google Routes API 호출 실패: {}", e.getMessage());
-            return 0;
-        }
+        // Google Routes API 호출 후 응답에서 duration 추출
+        return googleRoutesWebClient.post()
+                .uri("/directions/v2:computeRoutes")
+                .header("X-Goog-FieldMask", "routes.duration,routes.distanceMeters")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(RouteResponse.class)
+                .filter(response -> response.getRoutes() != null && !response.getRoutes().isEmpty())
+                .map(response -> parseDurationToMinutes(response.getRoutes().get(0).getDuration()));
     }
 
     /**
-     * ISO 8601 duration 문자열을 분 단위로 변환합니다.
-     * 예: "PT30M" -> 30, "PT1H30M" -> 90, "PT45S" -> 0
+     * Routes API duration 문자열을 분 단위로 변환합니다.
+     * Routes API는 초 단위 문자열("1800s")을 반환하며, ISO 8601 형식도 함께 지원합니다.
+     * 예: "1800s" -> 30, "PT30M" -> 30, "PT1H30M" -> 90, "PT45S" -> 0
      *
-     * @param isoDuration ISO 8601 duration 문자열
+     * @param isoDuration duration 문자열
      * @return 분 단위 시간
      */
-    private Integer parseDurationToMinutes(String isoDuration) {
+    static Integer parseDurationToMinutes(String isoDuration) {
         if (isoDuration == null || isoDuration.isEmpty()) {
             return 0;
         }
 
         try {
-            java.time.Duration duration = java.time.Duration.parse(isoDuration);
+            Duration duration = isoDuration.startsWith("P")
+                    ? Duration.parse(isoDuration)
+                    : Duration.ofMillis(Math.round(Double.parseDouble(isoDuration.replace("s", "")) * 1000));
             return (int) duration.toMinutes();
         } catch (Exception e) {
             log.error("Failed to parse duration: {}", isoDuration, e);
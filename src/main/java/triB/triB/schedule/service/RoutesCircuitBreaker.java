@@ -0,0 +1,100 @@
+package triB.triB.schedule.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Google Routes API 서킷 브레이커
+ *
+ * <p>연속 실패(또는 지연 임계값을 넘는 느린 응답)가 임계 횟수에 도달하면 OPEN 상태가 되어
+ * 일정 시간 동안 Routes API 호출을 막고 로컬 추정치를 사용하게 합니다.
+ * 대기 시간이 지나면 HALF_OPEN 상태에서 한 건의 시험 요청만 허용하고,
+ * 성공하면 CLOSED, 실패하면 다시 OPEN으로 전환합니다.
+ *
+ * <p>{@code google.routes.circuit-breaker.force-open=true}이면 항상 로컬 추정치를 사용합니다
+ * (네트워크 없는 테스트, 부하 테스트용).
+ */
+@Slf4j
+@Component
+public class RoutesCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final long slowCallMillis;
+    private final boolean forceOpen;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtMillis;
+
+    public RoutesCircuitBreaker(
+            @Value("${google.routes.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${google.routes.circuit-breaker.open-seconds:30}") long openSeconds,
+            @Value("${google.routes.circuit-breaker.slow-call-millis:3000}") long slowCallMillis,
+            @Value("${google.routes.circuit-breaker.force-open:false}") boolean forceOpen) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openSeconds * 1000;
+        this.slowCallMillis = slowCallMillis;
+        this.forceOpen = forceOpen;
+    }
+
+    /**
+     * Routes API 호출 허용 여부
+     */
+    public boolean allowRequest() {
+        if (forceOpen) {
+            return false;
+        }
+
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAtMillis >= openDurationMillis) {
+            // 대기 시간이 지나면 시험 요청 한 건만 통과
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    /**
+     * 호출 성공 기록. 응답이 느린 경우 실패로 취급합니다.
+     *
+     * @param elapsedMillis 호출 소요 시간
+     */
+    public void recordSuccess(long elapsedMillis) {
+        if (elapsedMillis >= slowCallMillis) {
+            log.warn("Google Routes API slow call. elapsedMillis={}", elapsedMillis);
+            recordFailure();
+            return;
+        }
+
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("Google Routes API circuit closed");
+        }
+    }
+
+    /**
+     * 호출 실패 기록
+     */
+    public void recordFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= failureThreshold) {
+            openedAtMillis = System.currentTimeMillis();
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("Google Routes API circuit opened. consecutiveFailures={}", failures);
+            }
+        }
+    }
+
+    State getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,157 @@
+package triB.triB.schedule.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import triB.triB.global.exception.CustomException;
+import triB.triB.global.exception.ErrorCode;
+import triB.triB.global.infra.RedisClient;
+import triB.triB.room.event.RoomDatesChangedEvent;
+import triB.triB.schedule.repository.TripRepository;
+
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여행 단위 일정 수정 직렬화
+ *
+ * <p>같은 여행의 일정을 여러 참여자가 동시에 수정하면 visitOrder 목록을 읽고-고치고-쓰는 과정이 섞여
+ * 순서가 깨질 수 있습니다. 일정 수정 트랜잭션은 시작 시 {@link #begin(Long)}을 호출해
+ * <ol>
+ *     <li>인스턴스 내 여행별 스트라이프 락 (같은 인스턴스가 수정 중이면 대기하지 않고 즉시 실패)</li>
+ *     <li>Redis 락 (다른 인스턴스가 수정 중이면 즉시 실패)</li>
+ *     <li>trips.schedule_version CAS 증가 (락을 우회했거나 오래된 스냅샷으로 읽은 경우 실패)</li>
+ * </ol>
+ * 를 거치며, 락은 트랜잭션이 끝난 뒤(커밋/롤백) 해제됩니다.
+ * 충돌 시 {@link ErrorCode#SCHEDULE_EDIT_CONFLICT}(409)를 던지며 클라이언트는 다시 시도하면 됩니다.
+ * 클라이언트가 수정 기준 버전(If-Match)을 보내면 CAS를 그 버전으로 수행하고, 그 사이 다른 수정이 있었으면
+ * {@link ErrorCode#SCHEDULE_VERSION_MISMATCH}(412)를 던집니다. 이 경우 최신 일정을 다시 불러와야 합니다.
+ * 잠금은 여행 단위이므로 서로 다른 여행의 수정은 병렬로 처리됩니다.
+ */
+@Slf4j
+@Component
+public class ScheduleEditGuard {
+
+    private static final String REDIS_PREFIX = "trip:edit:lock";
+    private static final int STRIPES = 256;
+
+    private final TripRepository tripRepository;
+    private final RedisClient redisClient;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final long redisLockSeconds;
+
+    public ScheduleEditGuard(
+            TripRepository tripRepository,
+            RedisClient redisClient,
+            @Value("${schedule.edit-lock.redis-ttl-seconds:30}") long redisLockSeconds) {
+        this.tripRepository = tripRepository;
+        this.redisClient = redisClient;
+        this.redisLockSeconds = redisLockSeconds;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 일정 수정 시작: 여행 락 획득 후 일정 버전을 CAS로 1 증가시킵니다.
+     * 같은 트랜잭션에서 다시 호출하면 락은 재사용하고 버전만 증가합니다.
+     *
+     * @throws CustomException 다른 수정과 충돌한 경우 (SCHEDULE_EDIT_CONFLICT)
+     */
+    public void begin(Long tripId) {
+        begin(tripId, null);
+    }
+
+    /**
+     * 클라이언트가 보고 있던 일정 버전을 기준으로 일정 수정 시작
+     *
+     * @param expectedVersion 클라이언트의 수정 기준 버전 (null이면 현재 버전 기준)
+     * @throws CustomException 다른 수정과 충돌한 경우 (SCHEDULE_EDIT_CONFLICT),
+     *                         기준 버전 이후 다른 수정이 있었던 경우 (SCHEDULE_VERSION_MISMATCH)
+     */
+    public void begin(Long tripId, Long expectedVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("일정 수정은 트랜잭션 안에서만 시작할 수 있습니다.");
+        }
+
+        String resourceKey = REDIS_PREFIX + ":" + tripId;
+        boolean reentrant = TransactionSynchronizationManager.hasResource(resourceKey);
+        if (!reentrant) {
+            EditLock lock = acquire(tripId);
+            TransactionSynchronizationManager.bindResource(resourceKey, lock);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                    release(lock);
+                }
+            });
+        }
+
+        // 같은 트랜잭션의 재호출은 이미 이 트랜잭션이 버전을 올렸으므로 클라이언트 기준 버전을 보지 않음
+        boolean clientVersion = expectedVersion != null && !reentrant;
+        Long version = clientVersion
+                ? expectedVersion
+                : tripRepository.findScheduleVersionByTripId(tripId)
+                        .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+        if (tripRepository.compareAndIncrementScheduleVersion(tripId, version) == 0) {
+            log.info("Schedule edit version conflict. tripId={}, expectedVersion={}", tripId, version);
+            throw new CustomException(clientVersion ? ErrorCode.SCHEDULE_VERSION_MISMATCH : ErrorCode.SCHEDULE_EDIT_CONFLICT);
+        }
+    }
+
+    /**
+     * 채팅방 날짜가 바뀌면 전체 일정 응답의 날짜도 바뀌므로 해당 방 여행들의 일정 버전을 올립니다.
+     * 날짜 변경과 함께 커밋되도록 커밋 직전에 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRoomDatesChanged(RoomDatesChangedEvent e) {
+        tripRepository.incrementScheduleVersionByRoomId(e.roomId());
+    }
+
+    private EditLock acquire(Long tripId) {
+        // 요청 스레드를 붙잡지 않도록 대기 없이 시도 (같은 스트라이프의 다른 여행과 겹쳐도 409 후 재시도)
+        ReentrantLock local = stripes[Math.floorMod(Long.hashCode(tripId), STRIPES)];
+        if (!local.tryLock()) {
+            log.info("Schedule edit lock held on this instance. tripId={}", tripId);
+            throw new CustomException(ErrorCode.SCHEDULE_EDIT_CONFLICT);
+        }
+
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = redisClient.setIfAbsent(REDIS_PREFIX, String.valueOf(tripId), token, redisLockSeconds);
+        } catch (Exception e) {
+            // Redis 장애 시 로컬 락 + 버전 CAS로만 보호
+            log.warn("Schedule edit redis lock failed. tripId={}, message={}", tripId, e.getMessage());
+            return new EditLock(tripId, local, null);
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            local.unlock();
+            log.info("Schedule edit lock held by another instance. tripId={}", tripId);
+            throw new CustomException(ErrorCode.SCHEDULE_EDIT_CONFLICT);
+        }
+        return new EditLock(tripId, local, token);
+    }
+
+    private void release(EditLock lock) {
+        try {
+            if (lock.token() != null) {
+                redisClient.deleteIfValueMatches(REDIS_PREFIX, String.valueOf(lock.tripId()), lock.token());
+            }
+        } catch (Exception e) {
+            // 해제 실패 시 TTL 만료로 풀림
+            log.warn("Schedule edit redis unlock failed. tripId={}, message={}", lock.tripId(), e.getMessage());
+        } finally {
+            lock.local().unlock();
+        }
+    }
+
+    private record EditLock(Long tripId, ReentrantLock local, String token) {
+    }
+}
@@ -3,26 +3,31 @@ package triB.triB.schedule.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import triB.triB.auth.entity.User;
 import triB.triB.auth.repository.UserRepository;
 import triB.triB.room.entity.Room;
+import triB.triB.schedule.event.AccommodationChangedEvent;
 import triB.triB.schedule.event.ScheduleBatchUpdatedEvent;
-import triB.triB.room.entity.UserRoomId;
 import triB.triB.room.repository.RoomRepository;
-import triB.triB.room.repository.UserRoomRepository;
 import triB.triB.chat.entity.PlaceTag;
 import triB.triB.schedule.dto.AccommodationCostResponse;
 import triB.triB.schedule.dto.AddScheduleRequest;
+import triB.triB.schedule.dto.DayScheduleResponse;
 import triB.triB.schedule.dto.BatchUpdateScheduleRequest;
 import triB.triB.schedule.dto.DeleteScheduleResponse;
 import triB.triB.schedule.dto.ModificationType;
 import triB.triB.schedule.dto.PreviewScheduleRequest;
 import triB.triB.schedule.dto.ReorderScheduleRequest;
+import triB.triB.schedule.dto.RouteRequest;
 import triB.triB.schedule.dto.ScheduleCostResponse;
 import triB.triB.schedule.dto.ScheduleItemResponse;
 import triB.triB.schedule.dto.ScheduleItemWithLocationResponse;
 import triB.triB.schedule.dto.ScheduleModificationItem;
+import triB.triB.schedule.dto.ScheduleRecalculatedMessage;
+import triB.triB.schedule.dto.TripItineraryResponse;
 import triB.triB.schedule.dto.TripScheduleResponse;
 import triB.triB.schedule.dto.TripScheduleWithLocationResponse;
 import triB.triB.schedule.dto.UpdateAccommodationRequest;
@@ -39,8 +44,14 @@ import triB.triB.schedule.repository.TripRepository;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -50,27 +61,108 @@ public class ScheduleService {
 
     private final TripRepository tripRepository;
     private final ScheduleRepository scheduleRepository;
-    private final UserRoomRepository userRoomRepository;
     private final RoomRepository roomRepository;
     private final RoutesApiService routesApiService;
+    private final DistanceMatrixService distanceMatrixService;
+    private final TravelTimeEstimator travelTimeEstimator;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final TripAccessService tripAccessService;
+    private final ScheduleEditGuard scheduleEditGuard;
+    private final AccommodationCascadeStore accommodationCascadeStore;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 일괄 수정 시 변경 타입 적용 순서 */
+    private static final List<ModificationType> MODIFICATION_ORDER = List.of(
+            ModificationType.DELETE,
+            ModificationType.ADD,
+            ModificationType.REORDER,
+            ModificationType.UPDATE_ACCOMMODATION,
+            ModificationType.UPDATE_VISIT_TIME,
+            ModificationType.UPDATE_STAY_DURATION,
+            ModificationType.UPDATE_TRAVEL_TIME
+    );
 
     /**
-     * 사용자가 해당 여행에 접근 권한이 있는지 검증
+     * 사용자가 해당 여행에 접근 권한이 있는지 검증 (TripAccessService 캐시 사용)
      */
     private void validateUserInTrip(Long tripId, Long userId) {
-        // Trip 존재 확인
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+        if (!tripAccessService.isParticipant(tripId, userId)) {
+            throw new IllegalArgumentException("해당 여행에 접근 권한이 없습니다.");
+        }
+    }
 
-        // UserRoom 존재 확인 (권한 검증)
-        Long roomId = trip.getRoomId();
-        UserRoomId userRoomId = new UserRoomId(userId, roomId);
+    /**
+     * 여행의 현재 일정 버전 조회 (조건부 조회용)
+     */
+    public Long getScheduleVersion(Long tripId, Long userId) {
+        validateUserInTrip(tripId, userId);
+
+        return tripRepository.findScheduleVersionByTripId(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+    }
 
-        if (!userRoomRepository.existsById(userRoomId)) {
+    /**
+     * 여행의 전체 일정 조회 (모든 일차, 위경도 포함)
+     *
+     * <p>여행+채팅방 fetch join 1회, 일정 1회(trip_id, day_number, visit_order 인덱스 순서)로 조회하며
+     * 일정이 없는 날도 빈 목록으로 포함합니다.
+     */
+    public TripItineraryResponse getTripItinerary(Long tripId, Long userId) {
+        // Trip + Room 조회 및 권한 검증
+        Trip trip = tripRepository.findWithRoomByTripId(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+        if (!tripAccessService.isMember(userId, trip.getRoomId())) {
             throw new IllegalArgumentException("해당 여행에 접근 권한이 없습니다.");
         }
+        Room room = trip.getRoom();
+
+        // 전체 일정 조회 (일차, 방문 순서 정렬)
+        List<Schedule> schedules = scheduleRepository.findByTripIdOrderByDayNumberAscVisitOrderAsc(tripId);
+        TreeMap<Integer, List<Schedule>> schedulesByDay = schedules.stream()
+                .collect(Collectors.groupingBy(Schedule::getDayNumber, TreeMap::new, Collectors.toList()));
+
+        int dayCount = (int) ChronoUnit.DAYS.between(room.getStartDate(), room.getEndDate()) + 1;
+        if (!schedulesByDay.isEmpty()) {
+            dayCount = Math.max(dayCount, schedulesByDay.lastKey());
+        }
+
+        List<DayScheduleResponse> days = new ArrayList<>(dayCount);
+        for (int dayNumber = 1; dayNumber <= dayCount; dayNumber++) {
+            days.add(toDayScheduleResponse(dayNumber, room.getStartDate().plusDays(dayNumber - 1),
+                    schedulesByDay.getOrDefault(dayNumber, List.of())));
+        }
+
+        return TripItineraryResponse.builder()
+                .tripId(trip.getTripId())
+                .destination(trip.getDestination())
+                .startDate(room.getStartDate())
+                .endDate(room.getEndDate())
+                .travelMode(trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE)
+                .budget(trip.getBudget())
+                .scheduleVersion(trip.getScheduleVersion())
+                .days(days)
+                .build();
+    }
+
+    /**
+     * 하루치 일정(visitOrder 순)을 DayScheduleResponse로 매핑 (총 이동시간은 메모리에서 합산)
+     */
+    private DayScheduleResponse toDayScheduleResponse(Integer dayNumber, LocalDate date, List<Schedule> daySchedules) {
+        int totalTravelMinutes = daySchedules.stream()
+                .map(Schedule::getTravelMinutes)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sum();
+
+        return DayScheduleResponse.builder()
+                .dayNumber(dayNumber)
+                .date(date)
+                .totalTravelMinutes(totalTravelMinutes)
+                .schedules(daySchedules.stream()
+                        .map(this::mapToScheduleItemWithLocationResponse)
+                        .collect(Collectors.toList()))
+                .build();
     }
 
     /**
@@ -103,6 +195,9 @@ public class ScheduleService {
         // TravelMode 설정 (null이면 기본값 DRIVE)
         TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
 
+        // 해당 날짜의 총 이동시간 (DB 집계)
+        Long totalTravelMinutes = scheduleRepository.sumTravelMinutesByTripIdAndDayNumber(tripId, targetDayNumber);
+
         // TripScheduleResponse 생성 및 반환
         return TripScheduleResponse.builder()
                 .tripId(trip.getTripId())
@@ -112,7 +207,9 @@ public class ScheduleService {
                 .currentDay(targetDayNumber)
                 .schedules(scheduleItems)
                 .travelMode(travelMode)
+                .totalTravelMinutes(totalTravelMinutes != null ? totalTravelMinutes.intValue() : 0)
                 .budget(trip.getBudget())
+                .recalculationFailed(accommodationCascadeStore.isStale(tripId, targetDayNumber))
                 .build();
     }
 
@@ -146,6 +243,9 @@ public class ScheduleService {
         // TravelMode 설정 (null이면 기본값 DRIVE)
         TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
 
+        // 해당 날짜의 총 이동시간 (DB 집계)
+        Long totalTravelMinutes = scheduleRepository.sumTravelMinutesByTripIdAndDayNumber(tripId, targetDayNumber);
+
         // TripScheduleWithLocationResponse 생성 및 반환
         return TripScheduleWithLocationResponse.builder()
                 .tripId(trip.getTripId())
@@ -155,6 +255,7 @@ public class ScheduleService {
                 .currentDay(targetDayNumber)
                 .schedules(scheduleItems)
                 .travelMode(travelMode)
+                .totalTravelMinutes(totalTravelMinutes != null ? totalTravelMinutes.intValue() : 0)
                 .budget(trip.getBudget())
                 .build();
     }
@@ -187,6 +288,9 @@ public class ScheduleService {
         // TravelMode 설정 (null이면 기본값 DRIVE)
         TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
 
+        // 해당 날짜의 총 이동시간 (DB 집계)
+        Long totalTravelMinutes = scheduleRepository.sumTravelMinutesByTripIdAndDayNumber(tripId, targetDayNumber);
+
         // TripScheduleResponse 생성 및 반환
         return TripScheduleResponse.builder()
                 .tripId(trip.getTripId())
@@ -196,6 +300,7 @@ public class ScheduleService {
                 .currentDay(targetDayNumber)
                 .schedules(scheduleItems)
                 .travelMode(travelMode)
+                .totalTravelMinutes(totalTravelMinutes != null ? totalTravelMinutes.intValue() : 0)
                 .budget(trip.getBudget())
                 .build();
     }
@@ -204,10 +309,13 @@ public class ScheduleService {
      * 일정의 방문 완료 상태 변경
      */
     @Transactional
-    public VisitStatusUpdateResponse updateVisitStatus(Long tripId, Long scheduleId, VisitStatusUpdateRequest request, Long userId) {
+    public VisitStatusUpdateResponse updateVisitStatus(Long tripId, Long scheduleId, VisitStatusUpdateRequest request, Long userId, Long expectedVersion) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId, expectedVersion);
+
         // Schedule 조회
         Schedule schedule = scheduleRepository.findByScheduleIdAndTripId(scheduleId, tripId)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
@@ -284,7 +392,7 @@ public class ScheduleService {
      * 일정 방문 순서 변경
      */
     @Transactional
-    public TripScheduleResponse reorderSchedule(Long tripId, Long scheduleId, ReorderScheduleRequest request, Long userId) {
+    public TripScheduleResponse reorderSchedule(Long tripId, Long scheduleId, ReorderScheduleRequest request, Long userId, Long expectedVersion) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
@@ -301,6 +409,9 @@ public class ScheduleService {
             return getTripSchedules(tripId, dayNumber, userId);
         }
 
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId, expectedVersion);
+
         // 해당 날짜의 모든 일정 조회 (visitOrder 순으로 정렬)
         List<Schedule> daySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, dayNumber)
                 .stream()
@@ -334,14 +445,102 @@ public class ScheduleService {
         return getTripSchedules(tripId, dayNumber, userId);
     }
 
+    /**
+     * 특정 날짜의 방문 순서 자동 최적화 (총 이동시간 최소화)
+     *
+     * <p>AI 서버로 여행 전체를 재생성하지 않고, 캐시된 이동시간 행렬로 순서만 다시 계산합니다.
+     * 숙소(HOME)와 방문 완료한 일정은 현재 위치에 고정되며, 결과는 일괄 수정과 같은 경로로 저장됩니다.
+     * 순서가 바뀌지 않으면 잠금/버전 증가 없이 현재 일정을 그대로 반환합니다.
+     *
+     * <p>행렬 조회(Routes API)가 DB 커넥션을 붙잡지 않도록 계산은 트랜잭션 밖에서 하고, 저장만 트랜잭션으로 묶습니다.
+     * 일정 버전은 일정 조회보다 먼저 읽어 수정 기준으로 사용하므로, 조회 이후 다른 수정이 커밋됐으면
+     * 격리 수준과 관계없이 버전 CAS가 실패합니다 (SCHEDULE_VERSION_MISMATCH).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TripScheduleResponse optimizeDayOrder(Long tripId, Integer dayNumber, Long userId, Long expectedVersion) {
+        // 권한 검증
+        validateUserInTrip(tripId, userId);
+
+        // 수정 기준 버전 (클라이언트가 보낸 버전이 없으면 일정 조회 전 현재 버전)
+        Long baseVersion = expectedVersion != null
+                ? expectedVersion
+                : tripRepository.findScheduleVersionByTripId(tripId)
+                        .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+
+        Trip trip = tripRepository.findById(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+        TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
+
+        // 해당 날짜의 일정 조회 (visitOrder 순으로 정렬)
+        List<Schedule> daySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, dayNumber)
+                .stream()
+                .sorted(Comparator.comparing(Schedule::getVisitOrder))
+                .collect(Collectors.toList());
+        if (daySchedules.size() > DayRouteOptimizer.MAX_STOPS) {
+            throw new IllegalArgumentException("방문 순서 최적화는 하루 최대 " + DayRouteOptimizer.MAX_STOPS + "개 장소까지 가능합니다.");
+        }
+
+        // 숙소, 방문 완료 일정은 고정
+        boolean[] fixed = new boolean[daySchedules.size()];
+        for (int i = 0; i < daySchedules.size(); i++) {
+            Schedule schedule = daySchedules.get(i);
+            fixed[i] = schedule.getPlaceTag() == PlaceTag.HOME || Boolean.TRUE.equals(schedule.getIsVisit());
+        }
+
+        List<RouteRequest.LatLng> waypoints = daySchedules.stream()
+                .map(this::toWaypoint)
+                .collect(Collectors.toList());
+        int[] order = DayRouteOptimizer.optimize(
+                distanceMatrixService.getCompleteDurations(tripId, dayNumber, travelMode, waypoints), fixed);
+
+        // 순서가 그대로면 저장하지 않음 (일정 버전도 올리지 않음)
+        boolean changed = false;
+        for (int i = 0; i < order.length; i++) {
+            changed |= order[i] != i;
+        }
+        if (!changed) {
+            return getTripSchedules(tripId, dayNumber, userId);
+        }
+
+        // 앞에서부터 한 자리씩 REORDER (이미 제자리인 항목은 DayPlan에서 무시)
+        List<ScheduleModificationItem> modifications = new ArrayList<>();
+        for (int position = 0; position < order.length; position++) {
+            modifications.add(ScheduleModificationItem.builder()
+                    .modificationType(ModificationType.REORDER)
+                    .scheduleId(daySchedules.get(order[position]).getScheduleId())
+                    .newVisitOrder(position + 1)
+                    .build());
+        }
+        // 첫 일정이 바뀌면 하루 시작 시간은 기존 첫 일정의 도착 시간을 유지
+        if (order[0] != 0) {
+            modifications.add(ScheduleModificationItem.builder()
+                    .modificationType(ModificationType.UPDATE_VISIT_TIME)
+                    .scheduleId(daySchedules.get(order[0]).getScheduleId())
+                    .newArrivalTime(daySchedules.get(0).getArrival().toLocalTime())
+                    .build());
+        }
+
+        return transactionTemplate.execute(status -> {
+            // 여행 단위 수정 잠금 및 일정 버전 증가 (기준 버전 이후 다른 수정이 커밋됐으면 412)
+            scheduleEditGuard.begin(tripId, baseVersion);
+
+            TripScheduleResponse response = applyModifications(tripId, dayNumber, modifications, userId);
+            publishBatchUpdated(tripId, dayNumber, userId);
+            return response;
+        });
+    }
+
     /**
      * 일정의 체류시간 수정
      */
     @Transactional
-    public ScheduleItemResponse updateStayDuration(Long tripId, Long scheduleId, UpdateStayDurationRequest request, Long userId) {
+    public ScheduleItemResponse updateStayDuration(Long tripId, Long scheduleId, UpdateStayDurationRequest request, Long userId, Long expectedVersion) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId, expectedVersion);
+
         // Schedule 조회
         Schedule schedule = scheduleRepository.findByScheduleIdAndTripId(scheduleId, tripId)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
@@ -367,10 +566,13 @@ public class ScheduleService {
      * 일정의 방문(arrival) 시간 수정
      */
     @Transactional
-    public ScheduleItemResponse updateVisitTime(Long tripId, Long scheduleId, UpdateVisitTimeRequest request, Long userId) {
+    public ScheduleItemResponse updateVisitTime(Long tripId, Long scheduleId, UpdateVisitTimeRequest request, Long userId, Long expectedVersion) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId, expectedVersion);
+
         // Schedule 조회
         Schedule schedule = scheduleRepository.findByScheduleIdAndTripId(scheduleId, tripId)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
@@ -404,10 +606,13 @@ public class ScheduleService {
      * 특정 날짜의 마지막 일정으로 새로운 장소 추가 (숙소 전)
      */
     @Transactional
-    public ScheduleItemResponse addScheduleToDay(Long tripId, AddScheduleRequest request, Long userId) {
+    public ScheduleItemResponse addScheduleToDay(Long tripId, AddScheduleRequest request, Long userId, Long expectedVersion) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId, expectedVersion);
+
         // Trip 조회
         Trip trip = tripRepository.findById(tripId)
                 .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
@@ -449,26 +654,44 @@ public class ScheduleService {
             }
         }
 
+        // 새 일정 뒤에 오게 될 숙소 확인 (visitOrder 증가 전 기준)
+        Schedule accommodationSchedule = null;
+        for (Schedule schedule : daySchedules) {
+            if (schedule.getPlaceTag() == PlaceTag.HOME && schedule.getVisitOrder() >= newVisitOrder) {
+                accommodationSchedule = schedule;
+                break;
+            }
+        }
+
+        // 이전 일정 → 새 일정 → 숙소 구간의 이동시간을 한 번에 계산
+        TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
+        RouteRequest.LatLng newWaypoint = RouteRequest.LatLng.builder()
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .build();
+
+        List<RouteRequest.LatLng> waypoints = new ArrayList<>();
+        if (lastNonAccommodationSchedule != null) {
+            waypoints.add(toWaypoint(lastNonAccommodationSchedule));
+        }
+        waypoints.add(newWaypoint);
+        if (accommodationSchedule != null) {
+            waypoints.add(toWaypoint(accommodationSchedule));
+        }
+        List<TravelTimeEstimate> legs = travelTimeEstimator.calculateLegTravelTimes(waypoints, travelMode);
+        int legIndex = 0;
+
         // 이전 일정과의 travelTime 계산 및 arrival/departure 시간 설정
         LocalDateTime newArrival;
         LocalDateTime newDeparture;
 
         if (lastNonAccommodationSchedule != null) {
             // 이전 일정이 있는 경우: 이전 departure + travelTime
-            TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
-
-            // Routes API로 이동시간 계산 (분 단위)
-            Integer travelMinutes = routesApiService.calculateTravelTime(
-                    lastNonAccommodationSchedule.getLatitude(),
-                    lastNonAccommodationSchedule.getLongitude(),
-                    request.getLatitude(),
-                    request.getLongitude(),
-                    travelMode
-            );
+            TravelTimeEstimate leg = legs.get(legIndex++);
+            int travelMinutes = leg.minutes();
 
             // 이전 일정의 travelTime 업데이트
-            String travelTimeText = routesApiService.formatMinutesToReadable(travelMinutes);
-            lastNonAccommodationSchedule.setTravelTime(travelTimeText);
+            applyTravelTime(lastNonAccommodationSchedule, leg);
 
             // 새 일정의 arrival = 이전 departure + travelTime
             newArrival = lastNonAccommodationSchedule.getDeparture().plusMinutes(travelMinutes);
@@ -492,7 +715,7 @@ public class ScheduleService {
                 .isVisit(false)
                 .arrival(newArrival)
                 .departure(newDeparture)
-                .travelTime(null) // 초기에는 null, 이후 계산
+                .travelMinutes(null) // 초기에는 null, 이후 계산
                 .build();
 
         // 새 일정 저장
@@ -505,29 +728,12 @@ public class ScheduleService {
             }
         }
 
-        // 숙소가 있다면 새 일정과 숙소 간 travelTime 계산
-        Schedule accommodationSchedule = null;
-        for (Schedule schedule : daySchedules) {
-            if (schedule.getPlaceTag() == PlaceTag.HOME && schedule.getVisitOrder() > newVisitOrder) {
-                accommodationSchedule = schedule;
-                break;
-            }
-        }
-
+        // 숙소가 있다면 새 일정과 숙소 간 travelTime 반영
         if (accommodationSchedule != null) {
-            TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
+            TravelTimeEstimate leg = legs.get(legIndex);
+            int travelMinutes = leg.minutes();
 
-            // 새 일정에서 숙소까지 이동시간 계산
-            Integer travelMinutes = routesApiService.calculateTravelTime(
-                    savedSchedule.getLatitude(),
-                    savedSchedule.getLongitude(),
-                    accommodationSchedule.getLatitude(),
-                    accommodationSchedule.getLongitude(),
-                    travelMode
-            );
-
-            String travelTimeText = routesApiService.formatMinutesToReadable(travelMinutes);
-            savedSchedule.setTravelTime(travelTimeText);
+            applyTravelTime(savedSchedule, leg);
 
             // 숙소의 arrival 시간 업데이트
             LocalDateTime accommodationArrival = savedSchedule.getDeparture().plusMinutes(travelMinutes);
@@ -547,10 +753,13 @@ public class ScheduleService {
      * 일정 삭제
      */
     @Transactional
-    public DeleteScheduleResponse deleteSchedule(Long tripId, Long scheduleId, Long userId) {
+    public DeleteScheduleResponse deleteSchedule(Long tripId, Long scheduleId, Long userId, Long expectedVersion) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId, expectedVersion);
+
         // Schedule 조회
         Schedule schedule = scheduleRepository.findByScheduleIdAndTripId(scheduleId, tripId)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
@@ -592,110 +801,45 @@ public class ScheduleService {
     /**
      * 특정 날짜(dayNumber)의 숙소를 변경합니다 (레거시 메서드).
      *
-     * <p>해당 날짜에서 PlaceTag.HOME인 일정을 찾아 위치 정보를 업데이트하고,
-     * 이전/다음 일정과의 이동시간을 재계산합니다.
+     * <p>해당 날짜에서 PlaceTag.HOME인 일정을 찾아 위치 정보만 변경하고 바로 반환합니다.
+     * 이전/다음 일정과의 이동시간 및 도착/출발 시간 연쇄 재계산은 커밋 후 백그라운드에서
+     * {@link #recalculateAfterAccommodationChange(Long, Integer)}로 처리되며,
+     * 결과는 채팅방 구독자에게 STOMP(/sub/chat/{roomId})로 전송됩니다.
      *
      * <p><strong>새로운 방식:</strong> scheduleId 기반 숙소 변경은
-     * {@link #updateAccommodationByScheduleId(Long, String, Double, Double)} 메서드를 사용하세요.
-     * 일괄 수정 API를 통해 다른 변경사항과 함께 적용할 수 있습니다.
+     * {@link #batchUpdateSchedule(Long, BatchUpdateScheduleRequest, Long)}의 UPDATE_ACCOMMODATION을 사용하세요.
+     * 다른 변경사항과 함께 적용할 수 있습니다.
      *
      * @param tripId 여행 ID
      * @param request 숙소 변경 요청 (dayNumber, placeName, latitude, longitude)
      * @param userId 사용자 ID
-     * @return 변경된 숙소 정보
+     * @param expectedVersion 클라이언트의 수정 기준 일정 버전 (If-Match, 없으면 null)
+     * @return 변경된 숙소 정보 (시간은 재계산 전 값)
      * @throws IllegalArgumentException 숙소를 찾을 수 없는 경우
-     * @see #updateAccommodationByScheduleId(Long, String, Double, Double)
      * @see #batchUpdateSchedule(Long, BatchUpdateScheduleRequest, Long)
      */
     @Transactional
-    public ScheduleItemResponse updateAccommodation(Long tripId, UpdateAccommodationRequest request, Long userId) {
+    public ScheduleItemResponse updateAccommodation(Long tripId, UpdateAccommodationRequest request, Long userId, Long expectedVersion) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId, expectedVersion);
+
         // 숙소 Schedule 조회
         Schedule accommodation = findAccommodationSchedule(tripId, request.getDayNumber());
         if (accommodation == null) {
             throw new IllegalArgumentException("해당 날짜에 숙소를 찾을 수 없습니다.");
         }
 
-        // 기존 체류시간 저장 (arrival과 departure 간격)
-        Duration existingStayDuration = Duration.between(accommodation.getArrival(), accommodation.getDeparture());
-
         // 숙소 정보 업데이트
         accommodation.setPlaceName(request.getPlaceName());
         accommodation.setLatitude(request.getLatitude());
         accommodation.setLongitude(request.getLongitude());
 
-        // Trip의 travelMode 조회
-        Trip trip = tripRepository.findById(tripId)
-                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
-        TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
-
-        // 해당 날짜의 모든 일정 조회 (visitOrder 순)
-        List<Schedule> daySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, request.getDayNumber())
-                .stream()
-                .sorted(Comparator.comparing(Schedule::getVisitOrder))
-                .collect(Collectors.toList());
-
-        // 숙소로 도착하는 이동시간 재계산 (이전 일정 → 숙소)
-        Schedule previousSchedule = null;
-        for (int i = 0; i < daySchedules.size(); i++) {
-            if (daySchedules.get(i).getScheduleId().equals(accommodation.getScheduleId())) {
-                if (i > 0) {
-                    previousSchedule = daySchedules.get(i - 1);
-                }
-                break;
-            }
-        }
-
-        if (previousSchedule != null && previousSchedule.getPlaceTag() != PlaceTag.HOME) {
-            // 이전 일정에서 숙소까지의 이동시간 계산
-            Integer travelTimeMinutes = routesApiService.calculateTravelTime(
-                    previousSchedule.getLatitude(),
-                    previousSchedule.getLongitude(),
-                    accommodation.getLatitude(),
-                    accommodation.getLongitude(),
-                    travelMode
-            );
-            String travelTimeText = routesApiService.formatMinutesToReadable(travelTimeMinutes);
-            previousSchedule.setTravelTime(travelTimeText);
-
-            // 숙소 arrival 시간 재계산
-            LocalDateTime newArrival = previousSchedule.getDeparture().plusMinutes(travelTimeMinutes);
-            accommodation.setArrival(newArrival);
-            accommodation.setDeparture(newArrival.plus(existingStayDuration));
-        }
-
-        // 다음날 첫 일정 확인 및 이동시간 재계산 (숙소 → 다음날 첫 일정)
-        List<Schedule> nextDaySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, request.getDayNumber() + 1)
-                .stream()
-                .sorted(Comparator.comparing(Schedule::getVisitOrder))
-                .collect(Collectors.toList());
-
-        if (!nextDaySchedules.isEmpty()) {
-            Schedule firstScheduleNextDay = nextDaySchedules.get(0);
-
-            // 숙소에서 다음날 첫 일정까지의 이동시간 계산
-            Integer travelTimeMinutes = routesApiService.calculateTravelTime(
-                    accommodation.getLatitude(),
-                    accommodation.getLongitude(),
-                    firstScheduleNextDay.getLatitude(),
-                    firstScheduleNextDay.getLongitude(),
-                    travelMode
-            );
-            String travelTimeText = routesApiService.formatMinutesToReadable(travelTimeMinutes);
-            accommodation.setTravelTime(travelTimeText);
-
-            // 다음날 첫 일정의 arrival 시간 재계산
-            LocalDateTime nextDayArrival = accommodation.getDeparture().plusMinutes(travelTimeMinutes);
-            firstScheduleNextDay.setArrival(nextDayArrival);
-
-            // 다음날 전체 일정의 departure 시간 재계산
-            recalculateDepartureTimes(tripId, request.getDayNumber() + 1);
-        }
-
-        // 현재 날짜의 departure 시간 재계산
-        recalculateDepartureTimes(tripId, request.getDayNumber());
+        // 이동시간/시간 연쇄 재계산은 커밋 후 백그라운드에서 처리
+        eventPublisher.publishEvent(new AccommodationChangedEvent(
+                tripId, tripAccessService.getRoomId(tripId), request.getDayNumber()));
 
         // JPA dirty checking으로 자동 업데이트
 
@@ -704,43 +848,32 @@ public class ScheduleService {
     }
 
     /**
-     * scheduleId로 기존 숙소를 새로운 위치의 숙소로 변경
+     * 숙소 변경 후 이동시간 및 도착/출발 시간 연쇄 재계산 (백그라운드 작업용)
      *
-     * <p>일괄 수정 및 미리보기 API에서 사용되는 내부 메서드입니다.
-     * PlaceTag.HOME인 일정만 변경할 수 있으며, 일반 일정을 숙소로 변경할 수 없습니다.
+     * <p>이전 일정 → 숙소 → 다음날 첫 일정 구간의 이동시간을 다시 구하고,
+     * 해당 날짜와 다음날의 도착/출발 시간을 연쇄 계산합니다.
+     * 다른 수정과 같은 잠금을 사용하므로 충돌 시 SCHEDULE_EDIT_CONFLICT가 발생합니다.
      *
-     * @param scheduleId 변경할 숙소 일정의 ID
-     * @param placeName 새로운 숙소 이름
-     * @param latitude 새로운 숙소 위도
-     * @param longitude 새로운 숙소 경도
-     * @throws IllegalArgumentException 해당 scheduleId가 존재하지 않거나 PlaceTag.HOME이 아닌 경우
+     * @param tripId 여행 ID
+     * @param dayNumber 숙소가 변경된 날짜 (일차)
+     * @return 재계산된 일차의 일정 (STOMP 전송용)
+     * @throws IllegalArgumentException 숙소를 찾을 수 없는 경우 (재계산 전에 삭제된 경우 등)
      */
-    private void updateAccommodationByScheduleId(
-            Long scheduleId,
-            String placeName,
-            Double latitude,
-            Double longitude
-    ) {
-        // Schedule 조회 및 PlaceTag.HOME 검증
-        Schedule accommodation = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 일정을 찾을 수 없습니다."));
+    @Transactional
+    public ScheduleRecalculatedMessage recalculateAfterAccommodationChange(Long tripId, Integer dayNumber) {
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId);
 
-        if (accommodation.getPlaceTag() != PlaceTag.HOME) {
-            throw new IllegalArgumentException("숙소(PlaceTag.HOME)만 변경할 수 있습니다.");
+        // 숙소 Schedule 조회
+        Schedule accommodation = findAccommodationSchedule(tripId, dayNumber);
+        if (accommodation == null) {
+            throw new IllegalArgumentException("해당 날짜에 숙소를 찾을 수 없습니다.");
         }
 
         // 기존 체류시간 저장 (arrival과 departure 간격)
         Duration existingStayDuration = Duration.between(accommodation.getArrival(), accommodation.getDeparture());
 
-        // 숙소 정보 업데이트
-        accommodation.setPlaceName(placeName);
-        accommodation.setLatitude(latitude);
-        accommodation.setLongitude(longitude);
-        // PlaceTag는 이미 HOME이므로 변경 불필요
-
         // Trip의 travelMode 조회
-        Long tripId = accommodation.getTrip().getTripId();
-        Integer dayNumber = accommodation.getDayNumber();
         Trip trip = tripRepository.findById(tripId)
                 .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
         TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
@@ -751,7 +884,7 @@ public class ScheduleService {
                 .sorted(Comparator.comparing(Schedule::getVisitOrder))
                 .collect(Collectors.toList());
 
-        // 이전 일정 → 숙소 이동시간 재계산
+        // 숙소로 도착하는 이동시간 재계산 (이전 일정 → 숙소)
         Schedule previousSchedule = null;
         for (int i = 0; i < daySchedules.size(); i++) {
             if (daySchedules.get(i).getScheduleId().equals(accommodation.getScheduleId())) {
@@ -762,17 +895,32 @@ public class ScheduleService {
             }
         }
 
-        if (previousSchedule != null && previousSchedule.getPlaceTag() != PlaceTag.HOME) {
-            // 이전 일정에서 숙소까지의 이동시간 계산
-            Integer travelTimeMinutes = routesApiService.calculateTravelTime(
-                    previousSchedule.getLatitude(),
-                    previousSchedule.getLongitude(),
-                    accommodation.getLatitude(),
-                    accommodation.getLongitude(),
-                    travelMode
-            );
-            String travelTimeText = routesApiService.formatMinutesToReadable(travelTimeMinutes);
-            previousSchedule.setTravelTime(travelTimeText);
+        boolean hasPreviousLeg = previousSchedule != null && previousSchedule.getPlaceTag() != PlaceTag.HOME;
+
+        // 다음날 첫 일정 확인 (숙소 → 다음날 첫 일정)
+        List<Schedule> nextDaySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, dayNumber + 1)
+                .stream()
+                .sorted(Comparator.comparing(Schedule::getVisitOrder))
+                .collect(Collectors.toList());
+        Schedule firstScheduleNextDay = nextDaySchedules.isEmpty() ? null : nextDaySchedules.get(0);
+
+        // 이전 일정 → 숙소 → 다음날 첫 일정 구간의 이동시간을 한 번에 계산
+        List<RouteRequest.LatLng> waypoints = new ArrayList<>();
+        if (hasPreviousLeg) {
+            waypoints.add(toWaypoint(previousSchedule));
+        }
+        waypoints.add(toWaypoint(accommodation));
+        if (firstScheduleNextDay != null) {
+            waypoints.add(toWaypoint(firstScheduleNextDay));
+        }
+        List<TravelTimeEstimate> legs = travelTimeEstimator.calculateLegTravelTimes(waypoints, travelMode);
+        int legIndex = 0;
+
+        if (hasPreviousLeg) {
+            // 이전 일정에서 숙소까지의 이동시간
+            TravelTimeEstimate leg = legs.get(legIndex++);
+            int travelTimeMinutes = leg.minutes();
+            applyTravelTime(previousSchedule, leg);
 
             // 숙소 arrival 시간 재계산
             LocalDateTime newArrival = previousSchedule.getDeparture().plusMinutes(travelTimeMinutes);
@@ -780,58 +928,40 @@ public class ScheduleService {
             accommodation.setDeparture(newArrival.plus(existingStayDuration));
         }
 
-        // 숙소 → 다음 일정 이동시간 재계산
-        // 다음 일정은 같은 날짜의 다음 일정 또는 다음날 첫 일정일 수 있음
-        Schedule nextSchedule = null;
-
-        // 같은 날짜의 다음 일정 찾기
-        for (int i = 0; i < daySchedules.size(); i++) {
-            if (daySchedules.get(i).getScheduleId().equals(accommodation.getScheduleId())) {
-                if (i < daySchedules.size() - 1) {
-                    nextSchedule = daySchedules.get(i + 1);
-                }
-                break;
-            }
-        }
-
-        // 같은 날짜에 다음 일정이 없으면 다음날 첫 일정 조회
-        if (nextSchedule == null) {
-            List<Schedule> nextDaySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, dayNumber + 1)
-                    .stream()
-                    .sorted(Comparator.comparing(Schedule::getVisitOrder))
-                    .collect(Collectors.toList());
+        if (firstScheduleNextDay != null) {
+            // 숙소에서 다음날 첫 일정까지의 이동시간
+            TravelTimeEstimate leg = legs.get(legIndex);
+            int travelTimeMinutes = leg.minutes();
+            applyTravelTime(accommodation, leg);
 
-            if (!nextDaySchedules.isEmpty()) {
-                nextSchedule = nextDaySchedules.get(0);
-            }
-        }
+            // 다음날 첫 일정의 arrival 시간 재계산
+            LocalDateTime nextDayArrival = accommodation.getDeparture().plusMinutes(travelTimeMinutes);
+            firstScheduleNextDay.setArrival(nextDayArrival);
 
-        if (nextSchedule != null) {
-            // 숙소에서 다음 일정까지의 이동시간 계산
-            Integer travelTimeMinutes = routesApiService.calculateTravelTime(
-                    accommodation.getLatitude(),
-                    accommodation.getLongitude(),
-                    nextSchedule.getLatitude(),
-                    nextSchedule.getLongitude(),
-                    travelMode
-            );
-            String travelTimeText = routesApiService.formatMinutesToReadable(travelTimeMinutes);
-            accommodation.setTravelTime(travelTimeText);
-
-            // 다음 일정의 arrival 시간 재계산
-            LocalDateTime nextArrival = accommodation.getDeparture().plusMinutes(travelTimeMinutes);
-            nextSchedule.setArrival(nextArrival);
-
-            // 다음 일정이 다음날이면 다음날 전체 departure 재계산
-            if (!nextSchedule.getDayNumber().equals(dayNumber)) {
-                recalculateDepartureTimes(tripId, nextSchedule.getDayNumber());
-            }
+            // 다음날 전체 일정의 departure 시간 재계산
+            recalculateDepartureTimes(tripId, dayNumber + 1);
         }
 
         // 현재 날짜의 departure 시간 재계산
         recalculateDepartureTimes(tripId, dayNumber);
 
         // JPA dirty checking으로 자동 업데이트
+
+        // 재계산된 일차 응답 생성 (다음날은 일정이 있을 때만)
+        Room room = roomRepository.findById(trip.getRoomId())
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        List<DayScheduleResponse> days = new ArrayList<>();
+        days.add(toDayScheduleResponse(dayNumber, room.getStartDate().plusDays(dayNumber - 1), daySchedules));
+        if (!nextDaySchedules.isEmpty()) {
+            days.add(toDayScheduleResponse(dayNumber + 1, room.getStartDate().plusDays(dayNumber), nextDaySchedules));
+        }
+
+        return ScheduleRecalculatedMessage.builder()
+                .tripId(tripId)
+                .scheduleVersion(tripRepository.findScheduleVersionByTripId(tripId)
+                        .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다.")))
+                .days(days)
+                .build();
     }
 
     /**
@@ -854,29 +984,23 @@ public class ScheduleService {
                 .sorted(Comparator.comparing(Schedule::getVisitOrder))
                 .collect(Collectors.toList());
 
-        // 각 일정의 다음 일정까지 이동시간 계산
+        // 하루치 이동시간 행렬에서 모든 구간의 이동시간 조회 (분 단위)
+        List<RouteRequest.LatLng> waypoints = daySchedules.stream()
+                .map(this::toWaypoint)
+                .collect(Collectors.toList());
+        List<TravelTimeEstimate> legs = distanceMatrixService.calculateLegTravelTimes(tripId, dayNumber, travelMode, waypoints);
+
+        // 각 일정의 다음 일정까지 이동시간 반영
         for (int i = 0; i < daySchedules.size(); i++) {
             Schedule currentSchedule = daySchedules.get(i);
 
-            // 다음 일정이 있으면 이동시간 계산
+            // 다음 일정이 있으면 이동시간 설정
             if (i < daySchedules.size() - 1) {
-                Schedule nextSchedule = daySchedules.get(i + 1);
-
-                // Routes API로 이동시간 계산 (분 단위)
-                Integer travelMinutes = routesApiService.calculateTravelTime(
-                        currentSchedule.getLatitude(),
-                        currentSchedule.getLongitude(),
-                        nextSchedule.getLatitude(),
-                        nextSchedule.getLongitude(),
-                        travelMode
-                );
-
-                // 한국어 형식으로 변환 ("30분", "1시간 30분" 등)
-                String travelTimeText = routesApiService.formatMinutesToReadable(travelMinutes);
-                currentSchedule.setTravelTime(travelTimeText);
+                applyTravelTime(currentSchedule, legs.get(i));
             } else {
                 // 마지막 일정은 travelTime null
-                currentSchedule.setTravelTime(null);
+                currentSchedule.setTravelMinutes(null);
+                currentSchedule.setTravelTimeEstimated(null);
             }
         }
 
@@ -913,13 +1037,10 @@ public class ScheduleService {
                 // 나머지 일정: 이전 일정의 departure + travelTime = 현재 arrival
                 Schedule previousSchedule = daySchedules.get(i - 1);
                 LocalDateTime previousDeparture = previousSchedule.getDeparture();
-                String travelTimeText = previousSchedule.getTravelTime();
-
-                // travelTime을 분 단위로 파싱
-                Integer travelMinutes = parseTravelTimeToMinutes(travelTimeText);
+                Integer travelMinutes = previousSchedule.getTravelMinutes();
 
                 // 현재 일정의 arrival = 이전 departure + travelTime
-                LocalDateTime newArrival = previousDeparture.plusMinutes(travelMinutes);
+                LocalDateTime newArrival = previousDeparture.plusMinutes(travelMinutes != null ? travelMinutes : 0);
 
                 // 체류시간 = 기존 (departure - arrival)
                 LocalDateTime originalArrival = currentSchedule.getArrival();
@@ -937,69 +1058,6 @@ public class ScheduleService {
         // JPA dirty checking으로 자동 업데이트
     }
 
-    /**
-     * travelTime 문자열을 분 단위로 파싱
-     * 예: "30분" -> 30, "1시간 30분" -> 90, "2시간" -> 120, "30" -> 30 (백워드 호환)
-     */
-    private Integer parseTravelTimeToMinutes(String travelTimeText) {
-        if (travelTimeText == null || travelTimeText.isEmpty()) {
-            return 0;
-        }
-
-        try {
-            int totalMinutes = 0;
-
-            // "시간" 파싱
-            if (travelTimeText.contains("시간")) {
-                String[] parts = travelTimeText.split("시간");
-                String hourPart = parts[0].trim();
-                totalMinutes += Integer.parseInt(hourPart) * 60;
-
-                // "분" 파싱 (시간 뒤에 분이 있는 경우)
-                if (parts.length > 1 && parts[1].contains("분")) {
-                    String minutePart = parts[1].replace("분", "").trim();
-                    if (!minutePart.isEmpty()) {
-                        totalMinutes += Integer.parseInt(minutePart);
-                    }
-                }
-            } else if (travelTimeText.contains("분")) {
-                // "분"만 있는 경우
-                String minutePart = travelTimeText.replace("분", "").trim();
-                totalMinutes = Integer.parseInt(minutePart);
-            } else {
-                // 숫자만 있는 경우 (백워드 호환성을 위해 분 단위로 간주)
-                totalMinutes = Integer.parseInt(travelTimeText.trim());
-            }
-
-            return totalMinutes;
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-
-    /**
-     * 분 단위 숫자를 한국어 형식 문자열로 변환
-     * 예: 30 -> "30분", 90 -> "1시간 30분", 120 -> "2시간"
-     */
-    private String convertMinutesToKoreanFormat(Integer minutes) {
-        if (minutes == null || minutes == 0) {
-            return "0분";
-        }
-
-        if (minutes < 60) {
-            return minutes + "분";
-        }
-
-        int hours = minutes / 60;
-        int remainingMinutes = minutes % 60;
-
-        if (remainingMinutes == 0) {
-            return hours + "시간";
-        }
-
-        return hours + "시간 " + remainingMinutes + "분";
-    }
-
     /**
      * 특정 날짜의 숙소 일정 조회
      * @param tripId 여행 ID
@@ -1017,6 +1075,31 @@ public class ScheduleService {
                 .orElse(null);
     }
 
+    /**
+     * Schedule 엔티티의 위경도를 Routes API 경유지로 변환
+     */
+    private RouteRequest.LatLng toWaypoint(Schedule schedule) {
+        return RouteRequest.LatLng.builder()
+                .latitude(schedule.getLatitude())
+                .longitude(schedule.getLongitude())
+                .build();
+    }
+
+    /**
+     * 구간 이동시간(분)을 저장하고, 로컬 추정치 여부를 함께 기록
+     */
+    private void applyTravelTime(Schedule schedule, TravelTimeEstimate leg) {
+        schedule.setTravelMinutes(leg.minutes());
+        schedule.setTravelTimeEstimated(leg.estimated());
+    }
+
+    /**
+     * 이동시간(분)을 화면 표시용 한국어 문자열로 변환. 다음 장소가 없으면 null
+     */
+    private String formatTravelTime(Integer travelMinutes) {
+        return travelMinutes != null ? routesApiService.formatMinutesToReadable(travelMinutes) : null;
+    }
+
     /**
      * Schedule 엔티티를 ScheduleItemResponse로 매핑
      */
@@ -1027,12 +1110,32 @@ public class ScheduleService {
                 .arrival(schedule.getArrival())
                 .departure(schedule.getDeparture())
                 .placeTag(schedule.getPlaceTag())
-                .travelTime(parseTravelTimeToMinutes(schedule.getTravelTime()))
+                .travelTime(schedule.getTravelMinutes())
+                .travelTimeText(formatTravelTime(schedule.getTravelMinutes()))
+                .isTravelTimeEstimated(Boolean.TRUE.equals(schedule.getTravelTimeEstimated()))
                 .visitOrder(schedule.getVisitOrder())
                 .isVisit(schedule.getIsVisit())
                 .build();
     }
 
+    /**
+     * 미리보기용 PlanItem을 ScheduleItemResponse로 매핑 (새 일정은 scheduleId가 null)
+     */
+    private ScheduleItemResponse mapToScheduleItemResponse(PlanItem item, int visitOrder) {
+        return ScheduleItemResponse.builder()
+                .scheduleId(item.getScheduleId())
+                .displayName(item.getPlaceName())
+                .arrival(item.getArrival())
+                .departure(item.getDeparture())
+                .placeTag(item.getPlaceTag())
+                .travelTime(item.getTravelMinutes())
+                .travelTimeText(formatTravelTime(item.getTravelMinutes()))
+                .isTravelTimeEstimated(Boolean.TRUE.equals(item.getTravelTimeEstimated()))
+                .visitOrder(visitOrder)
+                .isVisit(item.getIsVisit())
+                .build();
+    }
+
     /**
      * Schedule 엔티티를 ScheduleItemWithLocationResponse로 매핑 (위경도 포함)
      */
@@ -1043,7 +1146,9 @@ public class ScheduleService {
                 .arrival(schedule.getArrival())
                 .departure(schedule.getDeparture())
                 .placeTag(schedule.getPlaceTag())
-                .travelTime(parseTravelTimeToMinutes(schedule.getTravelTime()))
+                .travelTime(schedule.getTravelMinutes())
+                .travelTimeText(formatTravelTime(schedule.getTravelMinutes()))
+                .isTravelTimeEstimated(Boolean.TRUE.equals(schedule.getTravelTimeEstimated()))
                 .visitOrder(schedule.getVisitOrder())
                 .isVisit(schedule.getIsVisit())
                 .latitude(schedule.getLatitude())
@@ -1053,22 +1158,67 @@ public class ScheduleService {
 
     /**
      * 일정 변경사항 미리보기
-     * 변경사항을 적용하되 DB에는 저장하지 않고 계산된 결과만 반환합니다.
+     *
+     * <p>하루치 일정을 한 번 조회해 엔티티와 분리된 {@link DayPlan}에 변경사항을 적용하고,
+     * 이동시간은 행렬/캐시 계층에서 조회하여 메모리에서 결과를 만듭니다.
+     * 엔티티를 수정하거나 저장하지 않으므로 DB 쓰기, 행 잠금, ID 소비가 없습니다.
+     * 숙소가 바뀐 경우 숙소의 이동시간은 다음날 첫 일정까지의 구간입니다.
      */
-    @Transactional
     public TripScheduleResponse previewScheduleChanges(Long tripId, PreviewScheduleRequest request, Long userId) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
-        // 변경사항을 적용하되, 마지막에 롤백할 것임
-        TripScheduleResponse result = applyModifications(tripId, request.getDayNumber(), request.getModifications(), userId);
+        Integer dayNumber = request.getDayNumber();
+        Trip trip = tripRepository.findById(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+        Room room = roomRepository.findById(trip.getRoomId())
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
 
-        // 트랜잭션을 롤백 상태로 설정 (DB에 저장되지 않음)
-        org.springframework.transaction.interceptor.TransactionAspectSupport
-                .currentTransactionStatus()
-                .setRollbackOnly();
+        // 해당 날짜 일정을 메모리 모델로 복사한 뒤 변경사항 적용 (엔티티는 변경하지 않음)
+        List<Schedule> daySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, dayNumber);
+        LocalDate scheduleDate = daySchedules.isEmpty()
+                ? room.getStartDate().plusDays(dayNumber - 1)
+                : daySchedules.get(0).getDate();
+        DayPlan plan = DayPlan.of(dayNumber, scheduleDate, daySchedules);
+
+        applyToPlan(plan, request.getModifications());
+        recalculatePlan(tripId, plan, travelMode);
+
+        // 숙소가 바뀌었으면 커밋 후 재계산될 "숙소 → 다음날 첫 일정" 구간도 미리 계산
+        if (plan.needsNextDayLeg()) {
+            scheduleRepository.findByTripIdAndDayNumber(tripId, dayNumber + 1).stream()
+                    .min(Comparator.comparing(Schedule::getVisitOrder))
+                    .ifPresent(firstNextDay -> {
+                        List<RouteRequest.LatLng> waypoints = plan.waypoints();
+                        plan.applyNextDayLeg(travelTimeEstimator.calculateLegTravelTimes(
+                                List.of(waypoints.get(waypoints.size() - 1), toWaypoint(firstNextDay)), travelMode).get(0));
+                    });
+        }
 
-        return result;
+        // 메모리 결과로 응답 생성
+        List<PlanItem> items = plan.getItems();
+        List<ScheduleItemResponse> scheduleItems = new ArrayList<>(items.size());
+        int totalTravelMinutes = 0;
+        for (int i = 0; i < items.size(); i++) {
+            PlanItem item = items.get(i);
+            scheduleItems.add(mapToScheduleItemResponse(item, i + 1));
+            if (item.getTravelMinutes() != null) {
+                totalTravelMinutes += item.getTravelMinutes();
+            }
+        }
+
+        return TripScheduleResponse.builder()
+                .tripId(trip.getTripId())
+                .destination(trip.getDestination())
+                .startDate(room.getStartDate())
+                .endDate(room.getEndDate())
+                .currentDay(dayNumber)
+                .schedules(scheduleItems)
+                .travelMode(travelMode)
+                .totalTravelMinutes(totalTravelMinutes)
+                .budget(trip.getBudget())
+                .build();
     }
 
     /**
@@ -1076,14 +1226,26 @@ public class ScheduleService {
      * 변경사항을 순차적으로 적용하고 DB에 저장합니다.
      */
     @Transactional
-    public TripScheduleResponse batchUpdateSchedule(Long tripId, BatchUpdateScheduleRequest request, Long userId) {
+    public TripScheduleResponse batchUpdateSchedule(Long tripId, BatchUpdateScheduleRequest request, Long userId, Long expectedVersion) {
         // 권한 검증
         validateUserInTrip(tripId, userId);
 
+        // 여행 단위 수정 잠금 및 일정 버전 증가 (동시 수정 충돌 시 409)
+        scheduleEditGuard.begin(tripId, expectedVersion);
+
         // 변경사항 적용 및 저장
         TripScheduleResponse response = applyModifications(tripId, request.getDayNumber(), request.getModifications(), userId);
 
         // 푸시 알림 이벤트 발행
+        publishBatchUpdated(tripId, request.getDayNumber(), userId);
+
+        return response;
+    }
+
+    /**
+     * 일괄 수정 푸시 알림 이벤트 발행
+     */
+    private void publishBatchUpdated(Long tripId, Integer dayNumber, Long userId) {
         Trip trip = tripRepository.findById(tripId)
                 .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
         User user = userRepository.findById(userId)
@@ -1094,14 +1256,16 @@ public class ScheduleService {
                 trip.getRoomId(),
                 userId,
                 user.getNickname(),
-                request.getDayNumber()
+                dayNumber
         ));
-
-        return response;
     }
 
     /**
-     * 변경사항을 순차적으로 적용하는 내부 메서드
+     * 변경사항을 일괄 적용하는 내부 메서드
+     *
+     * <p>하루치 일정을 한 번만 조회해 {@link DayPlan}에 모든 변경사항을 먼저 적용하고,
+     * 양 끝 장소가 바뀐 구간만 이동시간을 다시 계산한 뒤 처음 바뀐 위치부터 시간을 연쇄 계산합니다.
+     * 비용은 변경 건수 × 하루 일정 수가 아니라 바뀐 구간 수에 비례합니다.
      */
     private TripScheduleResponse applyModifications(
             Long tripId,
@@ -1109,188 +1273,134 @@ public class ScheduleService {
             List<ScheduleModificationItem> modifications,
             Long userId
     ) {
-        // 변경사항을 타입별로 순서대로 적용
-        // 순서: DELETE → ADD → REORDER → UPDATE_ACCOMMODATION → UPDATE_VISIT_TIME → UPDATE_STAY_DURATION
-
-        // 1. DELETE 적용
-        modifications.stream()
-                .filter(m -> m.getModificationType() == ModificationType.DELETE)
-                .forEach(m -> {
-                    deleteSchedule(tripId, m.getScheduleId(), userId);
-                });
-
-        // 2. ADD 적용 (batch-update용: routes API 호출 없이 기본 일정만 생성)
-        modifications.stream()
-                .filter(m -> m.getModificationType() == ModificationType.ADD)
-                .forEach(m -> {
-                    // Trip 조회
-                    Trip trip = tripRepository.findById(tripId)
-                            .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
-
-                    // Room 조회 (날짜 계산용)
-                    Room room = roomRepository.findById(trip.getRoomId())
-                            .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
-
-                    // 날짜 계산: startDate + (dayNumber - 1)
-                    LocalDate scheduleDate = room.getStartDate().plusDays(m.getDayNumber() - 1);
-
-                    // 해당 날짜의 기존 일정 조회
-                    List<Schedule> daySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, m.getDayNumber())
-                            .stream()
-                            .sorted(Comparator.comparing(Schedule::getVisitOrder))
-                            .collect(Collectors.toList());
-
-                    // 마지막 visitOrder 확인 (숙소 제외)
-                    Integer newVisitOrder;
-                    Schedule lastNonAccommodationSchedule = null;
-
-                    if (daySchedules.isEmpty()) {
-                        newVisitOrder = 1;
-                    } else {
-                        for (int i = daySchedules.size() - 1; i >= 0; i--) {
-                            if (daySchedules.get(i).getPlaceTag() != PlaceTag.HOME) {
-                                lastNonAccommodationSchedule = daySchedules.get(i);
-                                break;
-                            }
-                        }
+        Trip trip = tripRepository.findById(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+        TravelMode travelMode = trip.getTravelMode() != null ? trip.getTravelMode() : TravelMode.DRIVE;
 
-                        if (lastNonAccommodationSchedule != null) {
-                            newVisitOrder = lastNonAccommodationSchedule.getVisitOrder() + 1;
-                        } else {
-                            newVisitOrder = daySchedules.size() + 1;
-                        }
-                    }
+        // 1. 해당 날짜의 일정을 한 번만 조회하여 메모리 모델 생성
+        List<Schedule> daySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, dayNumber);
+        DayPlan plan = DayPlan.of(dayNumber, resolveScheduleDate(trip, dayNumber, daySchedules), daySchedules);
 
-                    // arrival/departure 시간 설정
-                    LocalDateTime newArrival;
-                    LocalDateTime newDeparture;
-
-                    if (lastNonAccommodationSchedule != null) {
-                        // 이전 일정의 departure를 사용 (travelTime은 UPDATE_TRAVEL_TIME으로 설정 예정)
-                        newArrival = lastNonAccommodationSchedule.getDeparture();
-                        newDeparture = newArrival.plusMinutes(m.getStayMinutes());
-                    } else {
-                        // 첫 번째 일정인 경우: 기본 시작 시간 설정 (오전 9시)
-                        newArrival = scheduleDate.atTime(9, 0);
-                        newDeparture = newArrival.plusMinutes(m.getStayMinutes());
-                    }
+        // 2. 모든 변경사항을 메모리에서 적용
+        applyToPlan(plan, modifications);
 
-                    // 새로운 Schedule 엔티티 생성
-                    Schedule newSchedule = Schedule.builder()
-                            .tripId(tripId)
-                            .dayNumber(m.getDayNumber())
-                            .date(scheduleDate)
-                            .visitOrder(newVisitOrder)
-                            .placeName(m.getPlaceName())
-                            .placeTag(m.getPlaceTag())
-                            .latitude(m.getLatitude())
-                            .longitude(m.getLongitude())
-                            .isVisit(false)
-                            .arrival(newArrival)
-                            .departure(newDeparture)
-                            .travelTime(null) // routes API 호출하지 않음, UPDATE_TRAVEL_TIME으로 설정 예정
-                            .build();
-
-                    // 새 일정 저장
-                    scheduleRepository.save(newSchedule);
-
-                    // 새 일정의 visitOrder보다 크거나 같은 기존 일정들의 visitOrder를 +1 증가
-                    for (Schedule schedule : daySchedules) {
-                        if (schedule.getVisitOrder() >= newVisitOrder) {
-                            schedule.setVisitOrder(schedule.getVisitOrder() + 1);
-                        }
-                    }
-                });
-
-        // 3. REORDER 적용 (batch-update용: routes API 호출 없이 순서만 변경)
-        modifications.stream()
-                .filter(m -> m.getModificationType() == ModificationType.REORDER)
-                .forEach(m -> {
-                    // Schedule 조회
-                    Schedule targetSchedule = scheduleRepository.findByScheduleIdAndTripId(m.getScheduleId(), tripId)
-                            .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
-
-                    Integer currentOrder = targetSchedule.getVisitOrder();
-                    Integer newOrder = m.getNewVisitOrder();
-
-                    // 같은 순서면 스킵
-                    if (currentOrder.equals(newOrder)) {
-                        return;
-                    }
+        // 3. 바뀐 구간만 이동시간 재계산 후 departure/arrival 연쇄 계산
+        recalculatePlan(tripId, plan, travelMode);
 
-                    // 해당 날짜의 모든 일정 조회 (visitOrder 순으로 정렬)
-                    List<Schedule> daySchedules = scheduleRepository.findByTripIdAndDayNumber(tripId, dayNumber)
-                            .stream()
-                            .sorted(Comparator.comparing(Schedule::getVisitOrder))
-                            .collect(Collectors.toList());
+        // 4. 결과를 DB에 반영
+        writeBack(tripId, plan, daySchedules);
 
-                    // 새로운 순서가 유효한지 검증
-                    if (newOrder < 1 || newOrder > daySchedules.size()) {
-                        throw new IllegalArgumentException("유효하지 않은 방문 순서입니다. (1-" + daySchedules.size() + " 사이여야 합니다)");
-                    }
+        // 5. 숙소가 바뀌었으면 숙소 → 다음날 첫 일정 구간과 다음날 시간은 커밋 후 백그라운드에서 재계산
+        boolean accommodationChanged = modifications.stream()
+                .anyMatch(m -> m.getModificationType() == ModificationType.UPDATE_ACCOMMODATION);
+        if (accommodationChanged) {
+            eventPublisher.publishEvent(new AccommodationChangedEvent(
+                    tripId, tripAccessService.getRoomId(tripId), dayNumber));
+        }
 
-                    // 순서 변경 로직
-                    daySchedules.removeIf(s -> s.getScheduleId().equals(m.getScheduleId()));
-                    daySchedules.add(newOrder - 1, targetSchedule);
+        // 최종 결과 조회 및 반환
+        return getTripSchedules(tripId, dayNumber, userId);
+    }
 
-                    // 모든 일정의 visitOrder 재정렬
-                    for (int i = 0; i < daySchedules.size(); i++) {
-                        daySchedules.get(i).setVisitOrder(i + 1);
-                    }
-                    // 주의: recalculateDayTravelTimes 호출하지 않음 (routes API 호출 방지)
-                });
-
-        // 4. UPDATE_ACCOMMODATION 적용 (batch-update용: routes API 호출 없이 위치만 변경)
-        modifications.stream()
-                .filter(m -> m.getModificationType() == ModificationType.UPDATE_ACCOMMODATION)
-                .forEach(m -> {
-                    // Schedule 조회 및 PlaceTag.HOME 검증
-                    Schedule accommodation = scheduleRepository.findById(m.getScheduleId())
-                            .orElseThrow(() -> new IllegalArgumentException("해당 일정을 찾을 수 없습니다."));
-
-                    if (accommodation.getPlaceTag() != PlaceTag.HOME) {
-                        throw new IllegalArgumentException("숙소(PlaceTag.HOME)만 변경할 수 있습니다.");
+    /**
+     * 일정 날짜 계산. 기존 일정이 있으면 그 날짜를, 없으면 startDate + (dayNumber - 1)
+     */
+    private LocalDate resolveScheduleDate(Trip trip, Integer dayNumber, List<Schedule> daySchedules) {
+        if (!daySchedules.isEmpty()) {
+            return daySchedules.get(0).getDate();
+        }
+        Room room = roomRepository.findById(trip.getRoomId())
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        return room.getStartDate().plusDays(dayNumber - 1);
+    }
+
+    /**
+     * 변경사항을 타입별로 순서대로 메모리 모델에 적용
+     * 순서: DELETE → ADD → REORDER → UPDATE_ACCOMMODATION → UPDATE_VISIT_TIME → UPDATE_STAY_DURATION → UPDATE_TRAVEL_TIME
+     */
+    private void applyToPlan(DayPlan plan, List<ScheduleModificationItem> modifications) {
+        for (ModificationType type : MODIFICATION_ORDER) {
+            for (ScheduleModificationItem m : modifications) {
+                if (m.getModificationType() != type) {
+                    continue;
+                }
+
+                switch (type) {
+                    case DELETE -> plan.delete(m.getScheduleId());
+                    case ADD -> {
+                        if (m.getDayNumber() != null && !m.getDayNumber().equals(plan.getDayNumber())) {
+                            throw new IllegalArgumentException("수정 중인 날짜에만 일정을 추가할 수 있습니다.");
+                        }
+                        plan.add(m.getPlaceName(), m.getPlaceTag(), m.getLatitude(), m.getLongitude(), m.getStayMinutes());
                     }
+                    case REORDER -> plan.reorder(m.getScheduleId(), m.getNewVisitOrder());
+                    case UPDATE_ACCOMMODATION -> plan.updateAccommodation(m.getScheduleId(), m.getPlaceName(), m.getLatitude(), m.getLongitude());
+                    case UPDATE_VISIT_TIME -> plan.updateVisitTime(m.getScheduleId(), m.getNewArrivalTime());
+                    case UPDATE_STAY_DURATION -> plan.updateStayDuration(m.getScheduleId(), m.getStayMinutes());
+                    // 프론트엔드에서 전달받은 분 단위 이동시간을 그대로 사용 (재계산 대상에서 제외)
+                    case UPDATE_TRAVEL_TIME -> plan.updateTravelTime(m.getScheduleId(), m.getTravelTime());
+                }
+            }
+        }
+    }
 
-                    // 숙소 정보 업데이트 (위치만 변경, travelTime은 UPDATE_TRAVEL_TIME으로 처리)
-                    accommodation.setPlaceName(m.getPlaceName());
-                    accommodation.setLatitude(m.getLatitude());
-                    accommodation.setLongitude(m.getLongitude());
-                    // 주의: routes API 호출하지 않음
-                });
-
-        // 5. UPDATE_VISIT_TIME 적용
-        modifications.stream()
-                .filter(m -> m.getModificationType() == ModificationType.UPDATE_VISIT_TIME)
-                .forEach(m -> {
-                    UpdateVisitTimeRequest updateTimeRequest = new UpdateVisitTimeRequest(m.getNewArrivalTime());
-                    updateVisitTime(tripId, m.getScheduleId(), updateTimeRequest, userId);
-                });
-
-        // 6. UPDATE_STAY_DURATION 적용
-        modifications.stream()
-                .filter(m -> m.getModificationType() == ModificationType.UPDATE_STAY_DURATION)
-                .forEach(m -> {
-                    UpdateStayDurationRequest updateDurationRequest = new UpdateStayDurationRequest(m.getStayMinutes());
-                    updateStayDuration(tripId, m.getScheduleId(), updateDurationRequest, userId);
-                });
-
-        // 7. UPDATE_TRAVEL_TIME 적용
-        modifications.stream()
-                .filter(m -> m.getModificationType() == ModificationType.UPDATE_TRAVEL_TIME)
-                .forEach(m -> {
-                    Schedule schedule = scheduleRepository.findByScheduleIdAndTripId(m.getScheduleId(), tripId)
-                            .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다."));
-
-                    // 프론트엔드에서 전달받은 분 단위 이동시간을 한국어 형식으로 변환하여 업데이트
-                    String travelTimeKorean = convertMinutesToKoreanFormat(m.getTravelTime());
-                    schedule.setTravelTime(travelTimeKorean);
-                });
-
-        // 8. 모든 변경사항 적용 후 departure/arrival 시간 재계산
-        recalculateDepartureTimes(tripId, dayNumber);
+    /**
+     * 양 끝 장소가 바뀐 구간만 이동시간 행렬/캐시에서 다시 조회하고, 처음 바뀐 위치부터 시간 연쇄 계산
+     */
+    private void recalculatePlan(Long tripId, DayPlan plan, TravelMode travelMode) {
+        List<Integer> dirtyLegs = plan.dirtyLegs();
+        if (!dirtyLegs.isEmpty()) {
+            plan.applyLegTravelTimes(distanceMatrixService.calculateLegTravelTimes(
+                    tripId, plan.getDayNumber(), travelMode, plan.waypoints(), dirtyLegs));
+        }
+        plan.cascade();
+    }
 
-        // 최종 결과 조회 및 반환
-        return getTripSchedules(tripId, dayNumber, userId);
+    /**
+     * 메모리 모델의 결과를 일정 엔티티에 반영 (삭제 → 신규 저장 → 기존 일정은 dirty checking)
+     */
+    private void writeBack(Long tripId, DayPlan plan, List<Schedule> daySchedules) {
+        Map<Long, Schedule> schedulesById = daySchedules.stream()
+                .collect(Collectors.toMap(Schedule::getScheduleId, Function.identity()));
+
+        List<Schedule> deleted = plan.getDeletedScheduleIds().stream()
+                .map(schedulesById::get)
+                .toList();
+        if (!deleted.isEmpty()) {
+            scheduleRepository.deleteAll(deleted);
+        }
+
+        List<Schedule> added = new ArrayList<>();
+        List<PlanItem> items = plan.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            PlanItem item = items.get(i);
+            Schedule schedule = item.isNew()
+                    ? Schedule.builder()
+                            .tripId(tripId)
+                            .dayNumber(plan.getDayNumber())
+                            .date(plan.getDate())
+                            .placeTag(item.getPlaceTag())
+                            .isVisit(false)
+                            .build()
+                    : schedulesById.get(item.getScheduleId());
+
+            schedule.setVisitOrder(i + 1);
+            schedule.setPlaceName(item.getPlaceName());
+            schedule.setLatitude(item.getLatitude());
+            schedule.setLongitude(item.getLongitude());
+            schedule.setArrival(item.getArrival());
+            schedule.setDeparture(item.getDeparture());
+            schedule.setTravelMinutes(item.getTravelMinutes());
+            schedule.setTravelTimeEstimated(item.getTravelTimeEstimated());
+
+            if (item.isNew()) {
+                added.add(schedule);
+            }
+        }
+        if (!added.isEmpty()) {
+            scheduleRepository.saveAll(added);
+        }
+
+        // 기존 일정은 JPA dirty checking으로 자동 업데이트
     }
 }
@@ -0,0 +1,116 @@
+package triB.triB.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import triB.triB.global.infra.RedisClient;
+import triB.triB.schedule.entity.TravelMode;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 두 지점 간 이동시간(분) 캐시
+ *
+ * <p>1차 캐시는 인스턴스 로컬 Caffeine, 2차 캐시는 Redis를 사용합니다.
+ * 키는 위경도를 소수점 4자리(약 11m)로 반올림한 값과 이동 수단으로 구성됩니다.
+ * Routes API 호출에 실패한 결과(0분 대체값)는 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TravelTimeCache {
+
+    private static final String REDIS_PREFIX = "travel-time";
+    private static final String METRIC_NAME = "routes.travel_time.cache";
+
+    private final RedisClient redisClient;
+    private final Cache<String, Integer> localCache;
+    private final long redisTtlSeconds;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public TravelTimeCache(
+            RedisClient redisClient,
+            MeterRegistry meterRegistry,
+            @Value("${google.routes.cache.local-max-size:20000}") long localMaxSize,
+            @Value("${google.routes.cache.local-ttl-minutes:360}") long localTtlMinutes,
+            @Value("${google.routes.cache.redis-ttl-hours:168}") long redisTtlHours) {
+        this.redisClient = redisClient;
+        this.redisTtlSeconds = Duration.ofHours(redisTtlHours).toSeconds();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "travelTimeLocal");
+        this.localHitCounter = Counter.builder(METRIC_NAME).tag("result", "local_hit").register(meterRegistry);
+        this.redisHitCounter = Counter.builder(METRIC_NAME).tag("result", "redis_hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 생성. 좌표 중 하나라도 null이면 null을 반환합니다 (캐시 우회).
+     */
+    public static String key(Double fromLat, Double fromLng, Double toLat, Double toLng, TravelMode travelMode) {
+        if (fromLat == null || fromLng == null || toLat == null || toLng == null) {
+            return null;
+        }
+        TravelMode mode = travelMode != null ? travelMode : TravelMode.DRIVE;
+        return String.format(Locale.ROOT, "%s:%.4f,%.4f:%.4f,%.4f", mode.name(), fromLat, fromLng, toLat, toLng);
+    }
+
+    /**
+     * 캐시된 이동시간 조회 (로컬 → Redis 순). 없으면 null
+     */
+    public Integer get(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        Integer local = localCache.getIfPresent(key);
+        if (local != null) {
+            localHitCounter.increment();
+            return local;
+        }
+
+        try {
+            String shared = redisClient.getData(REDIS_PREFIX, key);
+            if (shared != null) {
+                Integer minutes = Integer.valueOf(shared);
+                localCache.put(key, minutes);
+                redisHitCounter.increment();
+                return minutes;
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 캐시 미스로 취급하고 Routes API로 진행
+            log.warn("Travel time cache redis lookup failed. key={}, message={}", key, e.getMessage());
+        }
+
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * 이동시간을 로컬/Redis 캐시에 저장
+     */
+    public void put(String key, Integer minutes) {
+        if (key == null || minutes == null) {
+            return;
+        }
+
+        localCache.put(key, minutes);
+        try {
+            redisClient.setData(REDIS_PREFIX, key, String.valueOf(minutes), redisTtlSeconds);
+        } catch (Exception e) {
+            log.warn("Travel time cache redis write failed. key={}, message={}", key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package triB.triB.schedule.service;
+
+/**
+ * 구간 이동시간 계산 결과
+ *
+ * @param minutes 이동시간 (분 단위)
+ * @param estimated Routes API 결과가 아닌 로컬 추정치인지 여부
+ */
+public record TravelTimeEstimate(
+        int minutes,
+        boolean estimated
+) {
+    public static TravelTimeEstimate ofRoute(int minutes) {
+        return new TravelTimeEstimate(minutes, false);
+    }
+
+    public static TravelTimeEstimate ofEstimate(int minutes) {
+        return new TravelTimeEstimate(minutes, true);
+    }
+}
@@ -0,0 +1,39 @@
+package triB.triB.schedule.service;
+
+import triB.triB.schedule.dto.RouteRequest;
+import triB.triB.schedule.entity.TravelMode;
+
+import java.util.List;
+
+/**
+ * 경유지 간 이동시간 계산기
+ *
+ * <p>구현체
+ * <ul>
+ *   <li>{@link RoutesApiService}: Google Routes API 기반 (장애 시 로컬 추정치로 대체), 기본 주입 대상</li>
+ *   <li>{@link HaversineTravelTimeEstimator}: 네트워크 없이 대권거리와 이동 수단별 속도로 추정</li>
+ * </ul>
+ */
+public interface TravelTimeEstimator {
+
+    /**
+     * 연속된 경유지 사이의 모든 구간 이동시간을 계산합니다.
+     *
+     * @param waypoints 방문 순서대로 정렬된 경유지 목록
+     * @param travelMode 이동 수단
+     * @return i번째 원소가 waypoints[i] → waypoints[i+1] 구간 결과인 목록
+     */
+    List<TravelTimeEstimate> calculateLegTravelTimes(List<RouteRequest.LatLng> waypoints, TravelMode travelMode);
+
+    /**
+     * 서로 연속하지 않은 출발지/목적지 쌍들의 이동시간을 계산합니다.
+     *
+     * @param origins 출발지 목록
+     * @param destinations origins와 같은 길이의 목적지 목록
+     * @param travelMode 이동 수단
+     * @return i번째 원소가 origins[i] → destinations[i] 구간 결과인 목록
+     */
+    List<TravelTimeEstimate> calculatePairTravelTimes(List<RouteRequest.LatLng> origins,
+                                                      List<RouteRequest.LatLng> destinations,
+                                                      TravelMode travelMode);
+}
@@ -0,0 +1,180 @@
+package triB.triB.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import triB.triB.global.infra.RedisClient;
+import triB.triB.room.entity.UserRoomId;
+import triB.triB.room.event.RoomMembershipChangedEvent;
+import triB.triB.room.repository.UserRoomRepository;
+import triB.triB.schedule.entity.Trip;
+import triB.triB.schedule.repository.TripRepository;
+import triB.triB.user.event.UserDeletedEvent;
+
+import java.time.Duration;
+
+/**
+ * 여행 참여자 권한 검증 (일정/경비/예산 공용)
+ *
+ * <p>여행 단위 API마다 반복되던 Trip 조회 + UserRoom 존재 확인을
+ * (tripId → roomId), (userId, roomId) 참여 여부 캐시로 대체합니다.
+ * 1차 캐시는 인스턴스 로컬 Caffeine, 2차 캐시는 Redis를 사용합니다.
+ * <ul>
+ *     <li>tripId → roomId는 바뀌지 않으므로 TTL로만 만료됩니다.</li>
+ *     <li>참여 여부는 참여자인 경우만 캐시하고, 채팅방 나가기/초대와 회원 탈퇴 시 커밋 후 무효화합니다.</li>
+ * </ul>
+ * 다른 인스턴스의 로컬 캐시는 무효화 이벤트를 받지 못하므로 로컬 TTL을 짧게 유지합니다.
+ */
+@Slf4j
+@Service
+public class TripAccessService {
+
+    private static final String TRIP_ROOM_PREFIX = "trip-room";
+    private static final String MEMBER_PREFIX = "room-member";
+
+    private final TripRepository tripRepository;
+    private final UserRoomRepository userRoomRepository;
+    private final RedisClient redisClient;
+    private final Cache<Long, Long> tripRoomCache;
+    private final Cache<String, Boolean> memberCache;
+    private final long redisTtlSeconds;
+
+    public TripAccessService(
+            TripRepository tripRepository,
+            UserRoomRepository userRoomRepository,
+            RedisClient redisClient,
+            MeterRegistry meterRegistry,
+            @Value("${trip.access.cache.local-max-size:50000}") long localMaxSize,
+            @Value("${trip.access.cache.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${trip.access.cache.redis-ttl-minutes:30}") long redisTtlMinutes) {
+        this.tripRepository = tripRepository;
+        this.userRoomRepository = userRoomRepository;
+        this.redisClient = redisClient;
+        this.redisTtlSeconds = Duration.ofMinutes(redisTtlMinutes).toSeconds();
+        this.tripRoomCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        this.memberCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tripRoomCache, "tripRoomLocal");
+        CaffeineCacheMetrics.monitor(meterRegistry, memberCache, "roomMemberLocal");
+    }
+
+    /**
+     * 사용자가 해당 여행(의 채팅방) 참여자인지 확인
+     *
+     * @throws IllegalArgumentException 여행이 존재하지 않는 경우
+     */
+    public boolean isParticipant(Long tripId, Long userId) {
+        return isMember(userId, getRoomId(tripId));
+    }
+
+    /**
+     * 여행이 속한 채팅방 ID 조회 (로컬 → Redis → DB 순)
+     *
+     * @throws IllegalArgumentException 여행이 존재하지 않는 경우
+     */
+    public Long getRoomId(Long tripId) {
+        Long roomId = tripRoomCache.getIfPresent(tripId);
+        if (roomId != null) {
+            return roomId;
+        }
+
+        String shared = readRedis(TRIP_ROOM_PREFIX, String.valueOf(tripId));
+        if (shared != null) {
+            roomId = Long.valueOf(shared);
+            tripRoomCache.put(tripId, roomId);
+            return roomId;
+        }
+
+        // 엔티티로 조회해 같은 트랜잭션의 이후 findById가 영속성 컨텍스트에서 처리되도록 함
+        roomId = tripRepository.findById(tripId)
+                .map(Trip::getRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("여행을 찾을 수 없습니다."));
+        tripRoomCache.put(tripId, roomId);
+        writeRedis(TRIP_ROOM_PREFIX, String.valueOf(tripId), String.valueOf(roomId));
+        return roomId;
+    }
+
+    /**
+     * 사용자가 채팅방 참여자인지 확인 (로컬 → Redis → DB 순)
+     */
+    public boolean isMember(Long userId, Long roomId) {
+        String key = memberKey(userId, roomId);
+        if (memberCache.getIfPresent(key) != null) {
+            return true;
+        }
+
+        if (readRedis(MEMBER_PREFIX, key) != null) {
+            memberCache.put(key, Boolean.TRUE);
+            return true;
+        }
+
+        boolean member = userRoomRepository.existsById(new UserRoomId(userId, roomId));
+        if (member) {
+            memberCache.put(key, Boolean.TRUE);
+            writeRedis(MEMBER_PREFIX, key, "1");
+        }
+        return member;
+    }
+
+    /**
+     * 참여 여부 캐시 무효화
+     */
+    public void evictMember(Long userId, Long roomId) {
+        String key = memberKey(userId, roomId);
+        memberCache.invalidate(key);
+        try {
+            redisClient.deleteData(MEMBER_PREFIX, key);
+        } catch (Exception e) {
+            log.warn("Trip access cache redis evict failed. key={}, message={}", key, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomMembershipChanged(RoomMembershipChangedEvent e) {
+        e.userIds().forEach(userId -> evictMember(userId, e.roomId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent e) {
+        String userPrefix = e.userId() + ":";
+        memberCache.asMap().keySet().removeIf(key -> key.startsWith(userPrefix));
+        userRoomRepository.findRoomIdsByUserId(e.userId())
+                .forEach(roomId -> evictMember(e.userId(), roomId));
+    }
+
+    private static String memberKey(Long userId, Long roomId) {
+        return userId + ":" + roomId;
+    }
+
+    private String readRedis(String prefix, String key) {
+        try {
+            return redisClient.getData(prefix, key);
+        } catch (Exception e) {
+            // Redis 장애 시 캐시 미스로 취급하고 DB로 진행
+            log.warn("Trip access cache redis lookup failed. key={}, message={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String prefix, String key, String value) {
+        try {
+            redisClient.setData(prefix, key, value, redisTtlSeconds);
+        } catch (Exception e) {
+            log.warn("Trip access cache redis write failed. key={}, message={}", key, e.getMessage());
+        }
+    }
+}
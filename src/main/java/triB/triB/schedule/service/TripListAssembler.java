@@ -0,0 +1,76 @@
+package triB.triB.schedule.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import triB.triB.auth.entity.UserStatus;
+import triB.triB.budget.entity.TripUserBudget;
+import triB.triB.budget.repository.TripUserBudgetRepository;
+import triB.triB.room.dto.RoomParticipantRow;
+import triB.triB.room.entity.Room;
+import triB.triB.room.repository.UserRoomRepository;
+import triB.triB.schedule.dto.TripListResponse;
+import triB.triB.schedule.dto.TripParticipantResponse;
+import triB.triB.schedule.entity.Trip;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 여행 목록 응답 조립
+ *
+ * <p>여행(채팅방 fetch join)을 받아 참여자와 사용자 예산을 각각 한 번에 조회한 뒤 메모리에서 합칩니다.
+ * 여행 수와 관계없이 쿼리는 최대 2번입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TripListAssembler {
+
+    private final UserRoomRepository userRoomRepository;
+    private final TripUserBudgetRepository tripUserBudgetRepository;
+
+    /**
+     * @param trips  채팅방이 함께 조회된 여행 목록 (순서 유지)
+     * @param userId 예산을 조회할 사용자 ID
+     */
+    public List<TripListResponse> assemble(List<Trip> trips, Long userId) {
+        if (trips.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> roomIds = trips.stream().map(Trip::getRoomId).collect(Collectors.toSet());
+        Set<Long> tripIds = trips.stream().map(Trip::getTripId).collect(Collectors.toSet());
+
+        // 참여자 목록 (닉네임순)
+        Map<Long, List<TripParticipantResponse>> participantsByRoom = userRoomRepository
+                .findParticipantsByRoomIds(roomIds, UserStatus.ACTIVE).stream()
+                .collect(Collectors.groupingBy(RoomParticipantRow::getRoomId,
+                        Collectors.mapping(row -> TripParticipantResponse.builder()
+                                .userId(row.getUserId())
+                                .nickname(row.getNickname())
+                                .photoUrl(row.getPhotoUrl())
+                                .build(), Collectors.toList())));
+
+        // 사용자 설정 예산
+        Map<Long, BigDecimal> budgetByTrip = tripUserBudgetRepository.findByUserIdAndTripIdIn(userId, tripIds).stream()
+                .collect(Collectors.toMap(TripUserBudget::getTripId, TripUserBudget::getAmount, (a, b) -> a));
+
+        return trips.stream()
+                .map(trip -> {
+                    Room room = trip.getRoom();
+                    return TripListResponse.builder()
+                            .tripId(trip.getTripId())
+                            .destination(room.getDestination())
+                            .roomName(room.getRoomName())
+                            .startDate(room.getStartDate())
+                            .endDate(room.getEndDate())
+                            .participants(participantsByRoom.getOrDefault(room.getRoomId(), List.of()))
+                            .budget(trip.getBudget())  // AI 추정 예산
+                            .userBudget(budgetByTrip.get(trip.getTripId()))    // 사용자 설정 예산
+                            .build();
+                })
+                .toList();
+    }
+}
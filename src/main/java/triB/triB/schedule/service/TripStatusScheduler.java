@@ -2,22 +2,33 @@ package triB.triB.schedule.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import triB.triB.schedule.entity.Trip;
-import triB.triB.schedule.entity.TripStatus;
+import triB.triB.global.batch.BatchJobResult;
+import triB.triB.global.batch.BatchJobRunner;
+import triB.triB.global.batch.ChunkResult;
+import triB.triB.global.batch.ChunkedJob;
 import triB.triB.schedule.repository.TripRepository;
 
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * 종료일이 지난 READY 여행을 ACCEPTED로 변경하는 배치
+ *
+ * <p>대상 여행 ID를 청크 단위로 조회해 UPDATE 한 번으로 변경합니다 (엔티티 로딩 없음).
+ * runId는 기준 날짜이므로 같은 날 다시 실행하면 중단된 지점부터 이어서 처리합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class TripStatusScheduler {
+public class TripStatusScheduler implements ChunkedJob {
+
+    private static final String JOB_NAME = "trip-status";
 
     private final TripRepository tripRepository;
+    private final BatchJobRunner batchJobRunner;
 
     /**
      * 매일 새벽 2시에 과거 여행 상태를 자동으로 업데이트
@@ -25,30 +36,12 @@ public class TripStatusScheduler {
      * cron = "초 분 시 일 월 요일"
      */
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
     public void updatePastTripStatuses() {
         log.info("과거 여행 상태 업데이트 시작");
 
         try {
-            LocalDate today = LocalDate.now();
-            List<Trip> pastTrips = tripRepository.findReadyTripsBeforeEndDate(today);
-
-            if (pastTrips.isEmpty()) {
-                log.info("업데이트할 과거 여행이 없습니다.");
-                return;
-            }
-
-            // READY -> ACCEPTED 상태 변경
-            pastTrips.forEach(trip -> {
-                trip.setTripStatus(TripStatus.ACCEPTED);
-                log.debug("여행 상태 업데이트: tripId={}, destination={}, endDate={}",
-                         trip.getTripId(),
-                         trip.getDestination(),
-                         trip.getRoom().getEndDate());
-            });
-
-            log.info("과거 여행 상태 업데이트 완료: {}개의 여행이 ACCEPTED로 변경되었습니다.", pastTrips.size());
-
+            BatchJobResult result = batchJobRunner.run(this, LocalDate.now().toString());
+            log.info("과거 여행 상태 업데이트 완료: {}개의 여행이 ACCEPTED로 변경되었습니다.", result.updated());
         } catch (Exception e) {
             log.error("과거 여행 상태 업데이트 중 오류 발생", e);
         }
@@ -59,30 +52,29 @@ public class TripStatusScheduler {
      * API 엔드포인트에서 호출용
      * @return 업데이트된 여행 수
      */
-    @Transactional
     public int updatePastTripStatusesManually() {
         log.info("수동 과거 여행 상태 업데이트 시작");
 
-        LocalDate today = LocalDate.now();
-        List<Trip> pastTrips = tripRepository.findReadyTripsBeforeEndDate(today);
+        BatchJobResult result = batchJobRunner.run(this, LocalDate.now().toString());
 
-        if (pastTrips.isEmpty()) {
-            log.info("업데이트할 과거 여행이 없습니다.");
-            return 0;
-        }
+        log.info("수동 과거 여행 상태 업데이트 완료: {}개의 여행이 ACCEPTED로 변경되었습니다.", result.updated());
+        return (int) result.updated();
+    }
 
-        // READY -> ACCEPTED 상태 변경
-        pastTrips.forEach(trip -> {
-            trip.setTripStatus(TripStatus.ACCEPTED);
-            log.debug("여행 상태 업데이트: tripId={}, destination={}, endDate={}",
-                     trip.getTripId(),
-                     trip.getDestination(),
-                     trip.getRoom().getEndDate());
-        });
+    @Override
+    public String getName() {
+        return JOB_NAME;
+    }
 
-        int updatedCount = pastTrips.size();
-        log.info("수동 과거 여행 상태 업데이트 완료: {}개의 여행이 ACCEPTED로 변경되었습니다.", updatedCount);
+    @Override
+    public ChunkResult processChunk(String runId, long afterId, int chunkSize) {
+        LocalDate today = LocalDate.parse(runId);
+        List<Long> tripIds = tripRepository.findReadyTripIdsBeforeEndDate(afterId, today, Limit.of(chunkSize));
+        if (tripIds.isEmpty()) {
+            return null;
+        }
 
-        return updatedCount;
+        int updated = tripRepository.acceptReadyTrips(tripIds);
+        return new ChunkResult(tripIds.get(tripIds.size() - 1), tripIds.size(), updated);
     }
 }
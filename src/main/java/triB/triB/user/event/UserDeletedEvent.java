@@ -0,0 +1,6 @@
+package triB.triB.user.event;
+
+public record UserDeletedEvent(
+        Long userId
+) {
+}
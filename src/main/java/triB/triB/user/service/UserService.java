@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.coyote.BadRequestException;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -26,6 +27,8 @@ import triB.triB.global.infra.RedisClient;
 import triB.triB.global.utils.CheckBadWordsUtil;
 import triB.triB.user.dto.MyProfile;
 import triB.triB.user.dto.UpdateProfileRequest;
+import triB.triB.user.event.UserDeletedEvent;
+import triB.triB.user.event.UserProfileUpdatedEvent;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -46,6 +49,7 @@ public class UserService {
     private final OauthAccountRepository oauthAccountRepository;
     private final AppleClientSecretGenerator clientSecretGenerator;
     private final CheckBadWordsUtil checkBadWordsUtil;
+    private final ApplicationEventPublisher publisher;
     private final @Qualifier("kakaoWebClient") WebClient kakaoWebClient;
     private final @Qualifier("appleWebClient") WebClient appleWebClient;
 
@@ -91,6 +95,7 @@ public class UserService {
             user.setPhotoUrl(newPhoto);
         }
         userRepository.save(user);
+        publisher.publishEvent(new UserProfileUpdatedEvent(userId));
     }
 
     @Transactional
@@ -172,6 +177,7 @@ public class UserService {
         user.setPhotoUrl(null);
         userRepository.save(user);
         log.info("user 상태변경 완료");
+        publisher.publishEvent(new UserDeletedEvent(userId));
 
         log.info("userId = {} 인 유저가 탈퇴했습니다.", userId);
     }
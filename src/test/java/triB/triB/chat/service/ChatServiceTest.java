@@ -0,0 +1,208 @@
+package triB.triB.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import triB.triB.auth.entity.User;
+import triB.triB.chat.dto.MessageResponse;
+import triB.triB.chat.dto.RoomChatResponse;
+import triB.triB.chat.entity.Message;
+import triB.triB.chat.entity.MessageType;
+import triB.triB.chat.repository.MessageBookmarkRepository;
+import triB.triB.chat.repository.MessagePlaceDetailRepository;
+import triB.triB.chat.repository.MessagePlaceRepository;
+import triB.triB.chat.repository.MessageRepository;
+import triB.triB.room.entity.Room;
+import triB.triB.room.repository.RoomRepository;
+import triB.triB.room.repository.UserRoomRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 채팅 내역 최신 페이지 조회 (최근 메세지 창 ↔ DB 전환) 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatService 단위 테스트")
+class ChatServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ROOM_ID = 10L;
+    private static final int CAPACITY = 4;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserRoomRepository userRoomRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageBookmarkRepository messageBookmarkRepository;
+
+    @Mock
+    private MessagePlaceRepository messagePlaceRepository;
+
+    @Mock
+    private MessagePlaceDetailRepository messagePlaceDetailRepository;
+
+    @Mock
+    private SharedPostLoader sharedPostLoader;
+
+    @Mock
+    private HotMessageCache hotMessageCache;
+
+    private ChatService chatService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        chatService = new ChatService(roomRepository, userRoomRepository, messageRepository, messageBookmarkRepository,
+                messagePlaceRepository, messagePlaceDetailRepository, null, null, null, null, null, null, null,
+                null, sharedPostLoader, hotMessageCache);
+
+        testUser = User.builder()
+                .userId(USER_ID)
+                .nickname("tester")
+                .build();
+        Room room = Room.builder()
+                .roomId(ROOM_ID)
+                .roomName("Test Room")
+                .build();
+
+        when(roomRepository.findById(ROOM_ID)).thenReturn(Optional.of(room));
+        when(userRoomRepository.existsByUser_UserIdAndRoom_RoomId(USER_ID, ROOM_ID)).thenReturn(true);
+        when(hotMessageCache.getCapacity()).thenReturn(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("최신 페이지 - 전체 내역 창이면 DB 조회 없이 창에서 응답")
+    void getLatestPage_FullWindow() {
+        // given: 채팅방 메세지가 3개뿐
+        when(hotMessageCache.read(ROOM_ID)).thenReturn(
+                new HotMessageCache.Window("1", true, HotMessageCacheTest.messages(1L, 2L, 3L)));
+
+        // when
+        RoomChatResponse response = chatService.getRoomMessages(USER_ID, ROOM_ID, null, null, 2);
+
+        // then
+        assertThat(response.getMessages()).extracting(m -> m.getMessage().getMessageId()).containsExactly(2L, 3L);
+        assertThat(response.getHasPrevious()).isTrue();
+        assertThat(response.getHasNext()).isFalse();
+        verifyNoInteractions(messageRepository);
+        verify(hotMessageCache, never()).fill(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("최신 페이지 - 전체 내역 창보다 많이 요청해도 창에서 응답하고 이전 메세지 없음")
+    void getLatestPage_FullWindowSmallerThanSize() {
+        when(hotMessageCache.read(ROOM_ID)).thenReturn(
+                new HotMessageCache.Window("1", true, HotMessageCacheTest.messages(1L, 2L, 3L)));
+
+        RoomChatResponse response = chatService.getRoomMessages(USER_ID, ROOM_ID, null, null, CAPACITY);
+
+        assertThat(response.getMessages()).hasSize(3);
+        assertThat(response.getHasPrevious()).isFalse();
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    @DisplayName("최신 페이지 - 일부 내역 창이 요청 개수 이상이면 창에서 응답")
+    void getLatestPage_TailWindowCovers() {
+        when(hotMessageCache.read(ROOM_ID)).thenReturn(
+                new HotMessageCache.Window("1", false, HotMessageCacheTest.messages(5L, 6L, 7L)));
+
+        RoomChatResponse response = chatService.getRoomMessages(USER_ID, ROOM_ID, null, null, 3);
+
+        assertThat(response.getMessages()).extracting(m -> m.getMessage().getMessageId()).containsExactly(5L, 6L, 7L);
+        assertThat(response.getHasPrevious()).isTrue();
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    @DisplayName("최신 페이지 - 일부 내역 창이 부족하면 DB에서 창 크기만큼 읽어 채운 뒤 응답")
+    void getLatestPage_TailWindowTooSmall_FillsFromDb() {
+        // given: 창에는 2개뿐, DB에는 창 크기보다 많은 메세지
+        when(hotMessageCache.read(ROOM_ID)).thenReturn(
+                new HotMessageCache.Window("5", false, HotMessageCacheTest.messages(6L, 7L)));
+        when(messageRepository.findPageBefore(eq(ROOM_ID), eq(Long.MAX_VALUE), any(Limit.class)))
+                .thenReturn(messagesDesc(7, 3));
+
+        // when
+        RoomChatResponse response = chatService.getRoomMessages(USER_ID, ROOM_ID, null, null, 3);
+
+        // then: 창 크기 + 1개를 조회해 이전 메세지 여부 판단
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(messageRepository).findPageBefore(eq(ROOM_ID), eq(Long.MAX_VALUE), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(CAPACITY + 1);
+
+        // 조회 시점의 gen으로 최신 4개를 일부 내역으로 채움
+        ArgumentCaptor<List<MessageResponse>> filled = ArgumentCaptor.forClass(List.class);
+        verify(hotMessageCache).fill(eq(ROOM_ID), eq("5"), filled.capture(), eq(false));
+        assertThat(filled.getValue()).extracting(m -> m.getMessage().getMessageId()).containsExactly(4L, 5L, 6L, 7L);
+
+        assertThat(response.getMessages()).extracting(m -> m.getMessage().getMessageId()).containsExactly(5L, 6L, 7L);
+        assertThat(response.getHasPrevious()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최신 페이지 - DB 메세지가 창 크기 이하면 전체 내역으로 채움")
+    void getLatestPage_EmptyWindow_FillsComplete() {
+        when(hotMessageCache.read(ROOM_ID)).thenReturn(new HotMessageCache.Window("0", null, List.of()));
+        when(messageRepository.findPageBefore(eq(ROOM_ID), eq(Long.MAX_VALUE), any(Limit.class)))
+                .thenReturn(messagesDesc(2, 1));
+
+        RoomChatResponse response = chatService.getRoomMessages(USER_ID, ROOM_ID, null, null, 3);
+
+        verify(hotMessageCache).fill(eq(ROOM_ID), eq("0"), anyList(), eq(true));
+        assertThat(response.getMessages()).extracting(m -> m.getMessage().getMessageId()).containsExactly(1L, 2L);
+        assertThat(response.getHasPrevious()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최신 페이지 - 요청 개수가 창 크기보다 크면 창을 거치지 않고 DB에서 조회")
+    void getLatestPage_SizeOverCapacity_ReadsDb() {
+        // given
+        when(messageRepository.findPageBefore(eq(ROOM_ID), eq(Long.MAX_VALUE), any(Limit.class)))
+                .thenReturn(messagesDesc(11, 1));
+
+        // when
+        RoomChatResponse response = chatService.getRoomMessages(USER_ID, ROOM_ID, null, null, 10);
+
+        // then
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(messageRepository).findPageBefore(eq(ROOM_ID), eq(Long.MAX_VALUE), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(11);
+        assertThat(response.getMessages()).hasSize(10);
+        assertThat(response.getMessages().get(0).getMessage().getMessageId()).isEqualTo(2L);
+        assertThat(response.getHasPrevious()).isTrue();
+        verify(hotMessageCache, never()).read(any());
+        verify(hotMessageCache, never()).fill(any(), any(), any(), anyBoolean());
+    }
+
+    // findPageBefore 결과와 같은 최신순 메세지 목록 (from → to)
+    private List<Message> messagesDesc(long from, long to) {
+        return LongStream.rangeClosed(to, from)
+                .map(i -> from + to - i)
+                .mapToObj(id -> Message.builder()
+                        .messageId(id)
+                        .user(testUser)
+                        .messageType(MessageType.TEXT)
+                        .content("message " + id)
+                        .build())
+                .toList();
+    }
+}
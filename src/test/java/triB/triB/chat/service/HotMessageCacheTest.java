@@ -0,0 +1,245 @@
+package triB.triB.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import triB.triB.chat.dto.ActionType;
+import triB.triB.chat.dto.MessageDto;
+import triB.triB.chat.dto.MessageResponse;
+import triB.triB.chat.entity.MessageType;
+import triB.triB.chat.repository.MessageRepository;
+import triB.triB.friendship.dto.UserResponse;
+import triB.triB.global.infra.RedisClient;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotMessageCache 단위 테스트")
+class HotMessageCacheTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final String KEY = "chat:hot:10";
+    private static final int CAPACITY = 3;
+    private static final long TTL_SECONDS = 3600;
+
+    @Mock
+    private RedisClient redisClient;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private HotMessageCache hotMessageCache;
+
+    @BeforeEach
+    void setUp() {
+        hotMessageCache = new HotMessageCache(redisClient, objectMapper, messageRepository, CAPACITY, TTL_SECONDS);
+    }
+
+    @Test
+    @DisplayName("창 - 전체 내역이면 메세지 수와 관계없이 응답 가능")
+    void window_FullCoversAnySize() {
+        HotMessageCache.Window window = new HotMessageCache.Window("1", true, messages(1L, 2L, 3L));
+
+        assertThat(window.covers(2)).isTrue();
+        assertThat(window.covers(50)).isTrue();
+        assertThat(window.latest(2)).extracting(m -> m.getMessage().getMessageId()).containsExactly(2L, 3L);
+        assertThat(window.latest(50)).extracting(m -> m.getMessage().getMessageId()).containsExactly(1L, 2L, 3L);
+        // 창보다 적게 요청했을 때만 이전 메세지 있음
+        assertThat(window.hasPrevious(2)).isTrue();
+        assertThat(window.hasPrevious(3)).isFalse();
+        assertThat(window.hasPrevious(50)).isFalse();
+    }
+
+    @Test
+    @DisplayName("창 - 일부 내역이면 창 크기 이하만 응답 가능하고 항상 이전 메세지 있음")
+    void window_TailCoversUpToItsSize() {
+        HotMessageCache.Window window = new HotMessageCache.Window("1", false, messages(4L, 5L, 6L));
+
+        assertThat(window.covers(3)).isTrue();
+        assertThat(window.covers(4)).isFalse();
+        assertThat(window.hasPrevious(3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("창 - 채워지지 않은 창은 응답 불가")
+    void window_NotFilled() {
+        HotMessageCache.Window window = new HotMessageCache.Window("1", null, List.of());
+
+        assertThat(window.covers(1)).isFalse();
+        assertThat(window.hasPrevious(1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("조회 - messageId 숫자 순으로 정렬하고 gen/state는 메세지에서 제외")
+    void read_OrdersByMessageId() throws Exception {
+        // given: 문자열 순이면 10이 9보다 앞
+        Map<String, String> hash = new HashMap<>();
+        hash.put("state", "tail");
+        hash.put("gen", "4");
+        hash.put("10", objectMapper.writeValueAsString(message(10L)));
+        hash.put("9", objectMapper.writeValueAsString(message(9L)));
+        when(redisClient.getHash(KEY)).thenReturn(hash);
+
+        // when
+        HotMessageCache.Window window = hotMessageCache.read(ROOM_ID);
+
+        // then
+        assertThat(window.generation()).isEqualTo("4");
+        assertThat(window.complete()).isFalse();
+        assertThat(window.messages()).extracting(m -> m.getMessage().getMessageId()).containsExactly(9L, 10L);
+    }
+
+    @Test
+    @DisplayName("조회 - state가 없으면 gen만 가진 빈 창 (채우기 전)")
+    void read_NotFilledKeepsGeneration() {
+        when(redisClient.getHash(KEY)).thenReturn(Map.of("gen", "7"));
+
+        HotMessageCache.Window window = hotMessageCache.read(ROOM_ID);
+
+        assertThat(window.generation()).isEqualTo("7");
+        assertThat(window.complete()).isNull();
+        assertThat(window.messages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("채우기 - 조회 시점의 gen을 조건으로 넘김")
+    void fill_PassesReadGeneration() {
+        // when
+        hotMessageCache.fill(ROOM_ID, "7", messages(1L, 2L), false);
+
+        // then: gen, state, ttl, (messageId, json)...
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisClient).execute(any(RedisScript.class), eq(List.of(KEY)), args.capture());
+        assertThat(args.getValue()).hasSize(7);
+        assertThat(args.getValue()[0]).isEqualTo("7");
+        assertThat(args.getValue()[1]).isEqualTo("tail");
+        assertThat(args.getValue()[2]).isEqualTo("3600");
+        assertThat(args.getValue()[3]).isEqualTo("1");
+        assertThat(args.getValue()[5]).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("채우기 - 조회에 실패해 gen을 모르면 채우지 않음")
+    void fill_SkippedWithoutGeneration() {
+        // given
+        when(redisClient.getHash(KEY)).thenThrow(new RuntimeException("connection refused"));
+        HotMessageCache.Window window = hotMessageCache.read(ROOM_ID);
+
+        // when
+        hotMessageCache.fill(ROOM_ID, window.generation(), messages(1L), true);
+
+        // then
+        assertThat(window.generation()).isNull();
+        verify(redisClient, never()).execute(any(RedisScript.class), anyList(), any(String[].class));
+    }
+
+    @Test
+    @DisplayName("수정 - 창에 없는 메세지여도 gen을 올리는 스크립트를 실행해 진행 중인 채우기를 막음")
+    void patch_BumpsGenerationEvenWhenMessageAbsent() throws Exception {
+        // given
+        when(redisClient.getHash(KEY)).thenReturn(Map.of(
+                "gen", "3",
+                "state", "full",
+                "1", objectMapper.writeValueAsString(message(1L))));
+
+        // when
+        hotMessageCache.updateBookmark(ROOM_ID, 99L, true);
+
+        // then: 바꿀 항목 없이 ttl만 전달
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisClient).execute(any(RedisScript.class), eq(List.of(KEY)), args.capture());
+        assertThat(args.getValue()).containsExactly("3600");
+    }
+
+    @Test
+    @DisplayName("수정 - 바뀐 항목의 기존 값과 새 값을 함께 넘겨 그 사이 수정이 있었는지 확인")
+    void patch_PassesExpectedAndNewValue() throws Exception {
+        // given
+        String before = objectMapper.writeValueAsString(message(1L));
+        when(redisClient.getHash(KEY)).thenReturn(Map.of("gen", "3", "state", "full", "1", before));
+
+        // when
+        hotMessageCache.updateBookmark(ROOM_ID, 1L, true);
+
+        // then
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisClient).execute(any(RedisScript.class), eq(List.of(KEY)), args.capture());
+        assertThat(args.getValue()).hasSize(4);
+        assertThat(args.getValue()[1]).isEqualTo("1");
+        assertThat(args.getValue()[2]).isEqualTo(before);
+        MessageResponse after = objectMapper.readValue(args.getValue()[3], MessageResponse.class);
+        assertThat(after.getMessage().getIsBookmarked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가 - 커밋 후 창 크기와 함께 전달해 초과분을 잘라내고 actionType은 제외")
+    void append_AfterCommitWithCapacity() throws Exception {
+        // given
+        MessageResponse sent = message(5L);
+        sent.setActionType(ActionType.NEW_MESSAGE);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            hotMessageCache.append(ROOM_ID, sent);
+
+            // then: 커밋 전에는 실행하지 않음
+            verifyNoInteractions(redisClient);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<String[]> args = ArgumentCaptor.forClass(String[].class);
+        verify(redisClient).execute(any(RedisScript.class), eq(List.of(KEY)), args.capture());
+        assertThat(args.getValue()).hasSize(4);
+        assertThat(args.getValue()[0]).isEqualTo("5");
+        assertThat(objectMapper.readValue(args.getValue()[1], MessageResponse.class).getActionType()).isNull();
+        assertThat(args.getValue()[2]).isEqualTo(String.valueOf(CAPACITY));
+        assertThat(args.getValue()[3]).isEqualTo("3600");
+    }
+
+    @Test
+    @DisplayName("추가 - Redis 오류는 전송을 실패시키지 않음")
+    void append_RedisFailureIgnored() {
+        when(redisClient.execute(any(RedisScript.class), anyList(), any(String[].class)))
+                .thenThrow(new RuntimeException("connection refused"));
+
+        hotMessageCache.append(ROOM_ID, message(5L));
+
+        verify(redisClient).execute(any(RedisScript.class), anyList(), any(String[].class));
+    }
+
+    static MessageResponse message(Long messageId) {
+        return MessageResponse.builder()
+                .user(new UserResponse(1L, "tester", null))
+                .message(MessageDto.builder()
+                        .messageId(messageId)
+                        .content("message " + messageId)
+                        .messageType(MessageType.TEXT)
+                        .isBookmarked(false)
+                        .build())
+                .build();
+    }
+
+    static List<MessageResponse> messages(Long... messageIds) {
+        return Arrays.stream(messageIds).map(HotMessageCacheTest::message).toList();
+    }
+}
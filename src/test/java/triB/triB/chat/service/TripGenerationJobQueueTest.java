@@ -0,0 +1,325 @@
+package triB.triB.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.publisher.Mono;
+import triB.triB.chat.dto.TripCreateStatus;
+import triB.triB.chat.dto.TripCreateStatusResponse;
+import triB.triB.chat.event.TripErrorEvent;
+import triB.triB.global.exception.CustomException;
+import triB.triB.global.exception.ErrorCode;
+import triB.triB.global.infra.RedisClient;
+import triB.triB.room.repository.UserRoomRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일정 생성 작업 큐 단위 테스트
+ *
+ * <p>RedisClient는 mock이지만 문자열 키(getData/setData 등)와 Lua 스크립트(취소 요청/전환 확정)는
+ * 메모리 맵으로 흉내 내어 {@link TripGenerationJobStore}의 실제 상태 전이를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripGenerationJobQueue 단위 테스트")
+class TripGenerationJobQueueTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ROOM_ID = 10L;
+    private static final String JOB = "10";
+    private static final String QUEUE_KEY = "trip:gen:queue";
+    private static final String PROCESSING_KEY = "trip:gen:processing";
+    private static final String DELAYED_KEY = "trip:gen:delayed";
+
+    @Mock
+    private RedisClient redisClient;
+
+    @Mock
+    private ChatService chatService;
+
+    @Mock
+    private UserRoomRepository userRoomRepository;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private ThreadPoolTaskExecutor executor;
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private TripGenerationJobStore jobStore;
+    private TripGenerationJobQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisClient.getData(anyString(), anyString()))
+                .thenAnswer(i -> values.get(key(i)));
+        lenient().doAnswer(i -> values.put(key(i), i.getArgument(2)))
+                .when(redisClient).setData(anyString(), anyString(), anyString(), anyLong());
+        lenient().doAnswer(i -> values.remove(key(i)))
+                .when(redisClient).deleteData(anyString(), anyString());
+        lenient().when(redisClient.setIfAbsent(anyString(), anyString(), anyString(), anyLong()))
+                .thenAnswer(i -> values.putIfAbsent(key(i), i.getArgument(2)) == null);
+        lenient().doAnswer(this::runScript)
+                .when(redisClient).execute(any(), anyList(), any(String[].class));
+        lenient().when(userRoomRepository.existsByUser_UserIdAndRoom_RoomId(USER_ID, ROOM_ID)).thenReturn(true);
+
+        jobStore = new TripGenerationJobStore(redisClient, 3600, 600, 168);
+        // 임대 3초 → 1초마다 임대 갱신 및 취소/종료 확인
+        queue = new TripGenerationJobQueue(chatService, jobStore, redisClient, userRoomRepository, publisher,
+                executor, 1, 3, 10, 3, 1);
+        // 워커 스레드는 띄우지 않고 실행 상태만 켬 (process를 테스트에서 직접 호출)
+        queue.startWorkers();
+    }
+
+    @Test
+    @DisplayName("작업 등록 - 이전에 남은 같은 채팅방 작업을 지운 뒤 대기열에 추가")
+    void submit_RemovesStaleEntriesBeforePush() {
+        // when
+        TripCreateStatusResponse response = queue.submit(USER_ID, ROOM_ID);
+
+        // then
+        assertThat(response.getTripCreateStatus()).isEqualTo(TripCreateStatus.WAITING);
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.WAITING);
+
+        InOrder inOrder = inOrder(redisClient);
+        inOrder.verify(redisClient).removeFromList(QUEUE_KEY, JOB);
+        inOrder.verify(redisClient).removeFromSortedSet(DELAYED_KEY, JOB);
+        inOrder.verify(redisClient).leftPush(QUEUE_KEY, JOB);
+    }
+
+    @Test
+    @DisplayName("작업 등록 - 진행 중인 작업이 있으면 거절")
+    void submit_AlreadyInProgress() {
+        queue.submit(USER_ID, ROOM_ID);
+
+        assertThatThrownBy(() -> queue.submit(USER_ID, ROOM_ID))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.TRIP_CREATING_IN_PROGRESS);
+        verify(redisClient, times(1)).leftPush(QUEUE_KEY, JOB);
+    }
+
+    @Test
+    @DisplayName("취소 - 대기 중이면 대기열에서 빼고 바로 취소")
+    void cancel_Waiting() {
+        // given
+        queue.submit(USER_ID, ROOM_ID);
+        when(redisClient.removeFromList(QUEUE_KEY, JOB)).thenReturn(1L);
+
+        // when
+        TripCreateStatusResponse response = queue.cancel(USER_ID, ROOM_ID);
+
+        // then
+        assertThat(response.getTripCreateStatus()).isEqualTo(TripCreateStatus.CANCELLED);
+        assertThat(jobStore.isActive(ROOM_ID)).isFalse();
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.CANCELLED);
+        assertThat(jobStore.isCancelRequested(ROOM_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("취소 - 실행 중이면 취소 요청을 남기고 워커가 중단")
+    void cancel_Running_StopsWorker() {
+        // given: 모델 응답을 기다리는 중에 취소
+        queue.submit(USER_ID, ROOM_ID);
+        when(chatService.makeTrip(ROOM_ID)).thenReturn(Mono.defer(() -> {
+            TripCreateStatusResponse response = queue.cancel(USER_ID, ROOM_ID);
+            assertThat(response.getTripCreateStatus()).isEqualTo(TripCreateStatus.RUNNING);
+            return Mono.never();
+        }));
+
+        // when
+        queue.process(JOB);
+
+        // then
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.CANCELLED);
+        assertThat(jobStore.isActive(ROOM_ID)).isFalse();
+        verify(redisClient).removeFromList(PROCESSING_KEY, JOB);
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("취소 - 전환 확정 전 취소되면 새 여행으로 전환하지 않음")
+    void cancel_BeforeActivationClaim_PreventsActivation() {
+        // given: 모든 일차 저장 후 전환 직전에 취소 (ChatService.completeTrip과 같은 순서)
+        queue.submit(USER_ID, ROOM_ID);
+        when(chatService.makeTrip(ROOM_ID)).thenReturn(Mono.defer(() -> {
+            queue.cancel(USER_ID, ROOM_ID);
+            return Mono.fromCallable(() -> jobStore.claimActivation(ROOM_ID) ? 99L : null);
+        }));
+
+        // when
+        queue.process(JOB);
+
+        // then
+        assertThat(jobStore.isActivationClaimed(ROOM_ID)).isFalse();
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("취소 - 전환 확정 후 들어온 취소는 무시하고 완료 처리")
+    void cancel_AfterActivationClaim_Ignored() {
+        // given
+        queue.submit(USER_ID, ROOM_ID);
+        when(chatService.makeTrip(ROOM_ID)).thenReturn(Mono.defer(() -> {
+            assertThat(jobStore.claimActivation(ROOM_ID)).isTrue();
+            TripCreateStatusResponse response = queue.cancel(USER_ID, ROOM_ID);
+            assertThat(response.getTripCreateStatus()).isEqualTo(TripCreateStatus.RUNNING);
+            assertThat(jobStore.isCancelRequested(ROOM_ID)).isFalse();
+            return Mono.just(99L);
+        }));
+
+        // when
+        queue.process(JOB);
+
+        // then: 성공은 결과를 남기지 않음
+        assertThat(jobStore.getStatus(ROOM_ID)).isNull();
+        assertThat(jobStore.isActive(ROOM_ID)).isFalse();
+        verify(publisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("재시도 - 모델 서버 연결 실패는 지연 재시도 후 최대 횟수를 넘으면 실패")
+    void process_RetryExhausted() {
+        // given
+        queue.submit(USER_ID, ROOM_ID);
+        when(chatService.makeTrip(ROOM_ID))
+                .thenReturn(Mono.error(new CustomException(ErrorCode.MODEL_CONNECTION_FAIL)));
+
+        // when & then: 1, 2회차는 지연 재시도
+        queue.process(JOB);
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.WAITING);
+        queue.process(JOB);
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.WAITING);
+        verify(redisClient, times(2)).addToSortedSet(eq(DELAYED_KEY), eq(JOB), anyDouble());
+
+        // 3회차는 실패 처리
+        queue.process(JOB);
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.FAILED);
+        assertThat(jobStore.isActive(ROOM_ID)).isFalse();
+        verify(redisClient, times(2)).addToSortedSet(eq(DELAYED_KEY), eq(JOB), anyDouble());
+        verify(publisher).publishEvent(new TripErrorEvent(ROOM_ID));
+    }
+
+    @Test
+    @DisplayName("대기 중 만료 - 락과 결과가 모두 없으면 실패로 기록")
+    void process_WaitingLockExpired_Fails() {
+        // given: 등록 기록 없이 큐에만 남은 작업
+
+        // when
+        queue.process(JOB);
+
+        // then
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.FAILED);
+        verify(publisher).publishEvent(new TripErrorEvent(ROOM_ID));
+        verifyNoInteractions(chatService);
+    }
+
+    @Test
+    @DisplayName("대기 중 취소된 작업 - 결과를 유지하고 실행하지 않음")
+    void process_CancelledWhileWaiting_Skipped() {
+        // given
+        queue.submit(USER_ID, ROOM_ID);
+        when(redisClient.removeFromList(QUEUE_KEY, JOB)).thenReturn(1L);
+        queue.cancel(USER_ID, ROOM_ID);
+
+        // when
+        queue.process(JOB);
+
+        // then
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.CANCELLED);
+        verify(publisher, never()).publishEvent(any());
+        verifyNoInteractions(chatService);
+    }
+
+    @Test
+    @DisplayName("종료 중 중단 - 작업을 대기열로 되돌림")
+    void process_Shutdown_Requeues() {
+        // given
+        queue.submit(USER_ID, ROOM_ID);
+        when(chatService.makeTrip(ROOM_ID)).thenReturn(Mono.defer(() -> {
+            queue.stopWorkers();
+            return Mono.never();
+        }));
+
+        // when
+        queue.process(JOB);
+
+        // then
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.WAITING);
+        verify(redisClient, times(2)).leftPush(QUEUE_KEY, JOB);
+    }
+
+    @Test
+    @DisplayName("고아 작업 복구 - 임대 없는 실행 중 작업은 두 번 연속 확인된 뒤 대기열로")
+    void maintain_RecoversOrphanAfterSecondPass() {
+        // given: 실행 중 워커가 죽어 임대가 만료된 작업
+        queue.submit(USER_ID, ROOM_ID);
+        jobStore.markRunning(ROOM_ID);
+        when(redisClient.getList(PROCESSING_KEY)).thenReturn(List.of(JOB));
+        when(redisClient.removeFromList(PROCESSING_KEY, JOB)).thenReturn(1L);
+
+        // when & then: 첫 확인은 방금 꺼낸 작업일 수 있어 보류
+        queue.maintain();
+        verify(redisClient, never()).removeFromList(PROCESSING_KEY, JOB);
+
+        queue.maintain();
+        verify(redisClient).removeFromList(PROCESSING_KEY, JOB);
+        verify(redisClient, times(2)).leftPush(QUEUE_KEY, JOB);
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("고아 작업 복구 - 임대가 살아 있으면 복구하지 않음")
+    void maintain_LeasedJobNotRecovered() {
+        // given
+        queue.submit(USER_ID, ROOM_ID);
+        jobStore.markRunning(ROOM_ID);
+        jobStore.renewLease(ROOM_ID, 60);
+        when(redisClient.getList(PROCESSING_KEY)).thenReturn(List.of(JOB));
+
+        // when
+        queue.maintain();
+        queue.maintain();
+
+        // then
+        verify(redisClient, never()).removeFromList(PROCESSING_KEY, JOB);
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.RUNNING);
+    }
+
+    private static String key(InvocationOnMock invocation) {
+        return invocation.getArgument(0) + ":" + invocation.getArgument(1);
+    }
+
+    // TripGenerationJobStore의 Lua 스크립트 동작 (전환 확정: lock/cancel/commit, 취소 요청: commit/cancel)
+    private Object runScript(InvocationOnMock invocation) {
+        List<String> keys = invocation.getArgument(1);
+        if (keys.get(0).startsWith("trip:create:lock")) {
+            if (!values.containsKey(keys.get(0)) || values.containsKey(keys.get(1))) {
+                return 0L;
+            }
+            values.put(keys.get(2), "1");
+            return 1L;
+        }
+        if (values.containsKey(keys.get(0))) {
+            return 0L;
+        }
+        values.put(keys.get(1), "1");
+        return 1L;
+    }
+}
@@ -0,0 +1,127 @@
+package triB.triB.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import triB.triB.chat.dto.TripCreateStatus;
+import triB.triB.global.infra.RedisClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripGenerationJobStore 단위 테스트")
+class TripGenerationJobStoreTest {
+
+    private static final Long ROOM_ID = 10L;
+
+    @Mock
+    private RedisClient redisClient;
+
+    private TripGenerationJobStore jobStore;
+
+    @BeforeEach
+    void setUp() {
+        jobStore = new TripGenerationJobStore(redisClient, 3600, 600, 168);
+    }
+
+    @Test
+    @DisplayName("등록 - 락을 잡으면 이전 작업 기록 초기화")
+    void register_ClearsPreviousRecords() {
+        // given
+        when(redisClient.setIfAbsent("trip:create:lock", "10", "WAITING", 3600)).thenReturn(true);
+
+        // when & then
+        assertThat(jobStore.register(ROOM_ID)).isTrue();
+        verify(redisClient).deleteData("trip:create:result", "10");
+        verify(redisClient).deleteData("trip:create:cancel", "10");
+        verify(redisClient).deleteData("trip:create:commit", "10");
+    }
+
+    @Test
+    @DisplayName("등록 - 이미 진행 중이면 false")
+    void register_AlreadyActive() {
+        when(redisClient.setIfAbsent("trip:create:lock", "10", "WAITING", 3600)).thenReturn(false);
+
+        assertThat(jobStore.register(ROOM_ID)).isFalse();
+        verify(redisClient, never()).deleteData(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("상태 조회 - 진행 중이 아니면 마지막 결과")
+    void getStatus_FallsBackToResult() {
+        when(redisClient.getData("trip:create:lock", "10")).thenReturn(null);
+        when(redisClient.getData("trip:create:result", "10")).thenReturn("CANCELLED");
+
+        assertThat(jobStore.getStatus(ROOM_ID)).isEqualTo(TripCreateStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("종료 - 성공은 결과를 남기지 않음")
+    void finish_SuccessLeavesNoResult() {
+        jobStore.finish(ROOM_ID, TripCreateStatus.SUCCESS);
+
+        verify(redisClient).deleteData("trip:create:lock", "10");
+        verify(redisClient).deleteData("trip:create:commit", "10");
+        verify(redisClient, never()).setData(eq("trip:create:result"), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("종료 - 실패/취소는 결과를 잠시 보관")
+    void finish_FailureKeepsResult() {
+        jobStore.finish(ROOM_ID, TripCreateStatus.FAILED);
+
+        verify(redisClient).setData("trip:create:result", "10", "FAILED", 600);
+    }
+
+    @Test
+    @DisplayName("취소 요청 - 전환 확정 키와 취소 키로 스크립트 실행")
+    void requestCancel_UsesCommitAndCancelKeys() {
+        // given
+        when(redisClient.execute(any(), eq(List.of("trip:create:commit:10", "trip:create:cancel:10")), eq("3600")))
+                .thenReturn(1L);
+
+        // when & then
+        assertThat(jobStore.requestCancel(ROOM_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소 요청 - 이미 전환이 확정됐으면 false")
+    void requestCancel_AfterActivationClaim() {
+        when(redisClient.execute(any(), anyList(), any(String[].class))).thenReturn(0L);
+
+        assertThat(jobStore.requestCancel(ROOM_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("전환 확정 - 락/취소/확정 키로 스크립트 실행")
+    void claimActivation_UsesLockCancelCommitKeys() {
+        when(redisClient.execute(any(),
+                eq(List.of("trip:create:lock:10", "trip:create:cancel:10", "trip:create:commit:10")), eq("3600")))
+                .thenReturn(1L);
+
+        assertThat(jobStore.claimActivation(ROOM_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("전환 확정 - 취소 요청이 있거나 만료됐으면 false")
+    void claimActivation_Rejected() {
+        when(redisClient.execute(any(), anyList(), any(String[].class))).thenReturn(0L);
+
+        assertThat(jobStore.claimActivation(ROOM_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성 중 여행 기록 삭제 - 같은 여행일 때만 삭제")
+    void clearPendingTrip_DeletesOnlyMatchingTrip() {
+        jobStore.clearPendingTrip(ROOM_ID, 99L);
+
+        verify(redisClient).deleteIfValueMatches("trip:create:pending", "10", "99");
+    }
+}
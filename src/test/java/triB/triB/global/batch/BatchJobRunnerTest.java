@@ -0,0 +1,172 @@
+package triB.triB.global.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import triB.triB.global.infra.RedisClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchJobRunner 단위 테스트")
+class BatchJobRunnerTest {
+
+    private static final String JOB_NAME = "fake-job";
+    private static final String TODAY = "2025-10-01";
+    private static final long LOCK_TTL_SECONDS = 1800;
+
+    @Mock
+    private RedisClient redisClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchJobRunner batchJobRunner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchJobRunner = new BatchJobRunner(redisClient, transactionManager, meterRegistry, 2, 48, 30);
+    }
+
+    @Test
+    @DisplayName("같은 runId의 체크포인트가 있으면 이어서 실행")
+    void run_SameRunId_ResumesFromCheckpoint() {
+        // given: 3번까지 처리하고 중단된 오늘 실행
+        FakeJob job = new FakeJob(5);
+        acquireLock();
+        when(redisClient.getData("batch:checkpoint", JOB_NAME)).thenReturn(TODAY + ":3");
+
+        // when
+        BatchJobResult result = batchJobRunner.run(job, TODAY);
+
+        // then
+        assertThat(job.afterIds).containsExactly(3L, 5L);
+        assertThat(result.resumedFrom()).isEqualTo(3);
+        assertThat(result.scanned()).isEqualTo(2);
+        assertThat(result.skipped()).isFalse();
+        verify(redisClient).setData("batch:checkpoint", JOB_NAME, TODAY + ":5", 48 * 3600);
+        verify(redisClient).deleteData("batch:checkpoint", JOB_NAME);
+    }
+
+    @Test
+    @DisplayName("다른 runId(이전 날짜)의 체크포인트는 무시하고 처음부터 실행")
+    void run_DifferentRunId_Restarts() {
+        // given
+        FakeJob job = new FakeJob(3);
+        acquireLock();
+        when(redisClient.getData("batch:checkpoint", JOB_NAME)).thenReturn("2025-09-30:3");
+
+        // when
+        BatchJobResult result = batchJobRunner.run(job, TODAY);
+
+        // then
+        assertThat(job.afterIds.get(0)).isZero();
+        assertThat(result.resumedFrom()).isZero();
+        assertThat(result.scanned()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 건너뜀")
+    void run_LockHeld_Skipped() {
+        // given
+        FakeJob job = new FakeJob(3);
+        when(redisClient.setIfAbsent(eq("batch:lock"), eq(JOB_NAME), anyString(), eq(LOCK_TTL_SECONDS))).thenReturn(false);
+
+        // when
+        BatchJobResult result = batchJobRunner.run(job, TODAY);
+
+        // then
+        assertThat(result.skipped()).isTrue();
+        assertThat(job.afterIds).isEmpty();
+        verify(redisClient, never()).deleteIfValueMatches(anyString(), anyString(), anyString());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("청크 크기보다 적게 읽은 청크가 나오면 종료 (빈 청크 조회 없음)")
+    void run_ShortFinalChunk_StopsLoop() {
+        // given: 5건, 청크 크기 2 → 2, 2, 1
+        FakeJob job = new FakeJob(5);
+        acquireLock();
+
+        // when
+        BatchJobResult result = batchJobRunner.run(job, TODAY);
+
+        // then
+        assertThat(job.afterIds).containsExactly(0L, 2L, 4L);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.scanned()).isEqualTo(5);
+        assertThat(result.updated()).isEqualTo(5);
+        // 청크마다 별도 트랜잭션
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(meterRegistry.counter("batch.job.rows", "job", JOB_NAME, "type", "updated").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("실행 중 실패하면 체크포인트를 남기고 락은 해제")
+    void run_Failure_KeepsCheckpointAndReleasesLock() {
+        // given: 두 번째 청크에서 실패
+        FakeJob job = new FakeJob(5);
+        job.failAfter = 2;
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(redisClient.setIfAbsent(eq("batch:lock"), eq(JOB_NAME), token.capture(), eq(LOCK_TTL_SECONDS))).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> batchJobRunner.run(job, TODAY))
+                .isInstanceOf(IllegalStateException.class);
+        verify(redisClient).setData("batch:checkpoint", JOB_NAME, TODAY + ":2", 48 * 3600);
+        verify(redisClient, never()).deleteData("batch:checkpoint", JOB_NAME);
+        verify(redisClient).deleteIfValueMatches("batch:lock", JOB_NAME, token.getValue());
+    }
+
+    private void acquireLock() {
+        when(redisClient.setIfAbsent(eq("batch:lock"), eq(JOB_NAME), anyString(), eq(LOCK_TTL_SECONDS))).thenReturn(true);
+    }
+
+    /**
+     * id 1..total을 순서대로 처리하는 작업 (모두 변경된 것으로 계산)
+     */
+    private static class FakeJob implements ChunkedJob {
+
+        private final List<Long> ids;
+        private final List<Long> afterIds = new ArrayList<>();
+        private long failAfter = Long.MAX_VALUE;
+
+        FakeJob(long total) {
+            this.ids = LongStream.rangeClosed(1, total).boxed().toList();
+        }
+
+        @Override
+        public String getName() {
+            return JOB_NAME;
+        }
+
+        @Override
+        public ChunkResult processChunk(String runId, long afterId, int chunkSize) {
+            afterIds.add(afterId);
+            if (afterId >= failAfter) {
+                throw new IllegalStateException("chunk failed");
+            }
+            List<Long> chunk = ids.stream().filter(id -> id > afterId).limit(chunkSize).toList();
+            if (chunk.isEmpty()) {
+                return null;
+            }
+            return new ChunkResult(chunk.get(chunk.size() - 1), chunk.size(), chunk.size());
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,8 +27,10 @@ import triB.triB.schedule.service.TripService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -155,7 +158,7 @@ class ScheduleControllerTest {
                 .isVisit(true)
                 .build();
 
-        when(scheduleService.updateVisitStatus(eq(tripId), eq(scheduleId), any(), eq(userId)))
+        when(scheduleService.updateVisitStatus(eq(tripId), eq(scheduleId), any(), eq(userId), isNull()))
                 .thenReturn(response);
 
         // when & then
@@ -175,7 +178,7 @@ class ScheduleControllerTest {
         // given
         ReorderScheduleRequest request = new ReorderScheduleRequest(2);
 
-        when(scheduleService.reorderSchedule(eq(tripId), eq(scheduleId), any(), eq(userId)))
+        when(scheduleService.reorderSchedule(eq(tripId), eq(scheduleId), any(), eq(userId), isNull()))
                 .thenReturn(tripScheduleResponse);
 
         // when & then
@@ -194,7 +197,7 @@ class ScheduleControllerTest {
         // given
         UpdateStayDurationRequest request = new UpdateStayDurationRequest(90);
 
-        when(scheduleService.updateStayDuration(eq(tripId), eq(scheduleId), any(), eq(userId)))
+        when(scheduleService.updateStayDuration(eq(tripId), eq(scheduleId), any(), eq(userId), isNull()))
                 .thenReturn(scheduleItemResponse);
 
         // when & then
@@ -220,7 +223,7 @@ class ScheduleControllerTest {
                 .stayMinutes(60)
                 .build();
 
-        when(scheduleService.addScheduleToDay(eq(tripId), any(), eq(userId)))
+        when(scheduleService.addScheduleToDay(eq(tripId), any(), eq(userId), isNull()))
                 .thenReturn(scheduleItemResponse);
 
         // when & then
@@ -242,7 +245,7 @@ class ScheduleControllerTest {
                 .deletedScheduleId(scheduleId)
                 .build();
 
-        when(scheduleService.deleteSchedule(eq(tripId), eq(scheduleId), eq(userId)))
+        when(scheduleService.deleteSchedule(eq(tripId), eq(scheduleId), eq(userId), isNull()))
                 .thenReturn(response);
 
         // when & then
@@ -254,6 +257,25 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$.data.deletedScheduleId").value(scheduleId));
     }
 
+    @Test
+    @DisplayName("DELETE /api/v1/trips/{tripId}/schedules/{scheduleId} - If-Match의 일정 버전을 수정 기준으로 전달")
+    void deleteSchedule_WithIfMatch() throws Exception {
+        // given
+        DeleteScheduleResponse response = DeleteScheduleResponse.builder()
+                .deletedScheduleId(scheduleId)
+                .build();
+
+        when(scheduleService.deleteSchedule(eq(tripId), eq(scheduleId), eq(userId), eq(7L)))
+                .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(delete("/api/v1/trips/{tripId}/schedules/{scheduleId}", tripId, scheduleId)
+                        .header(HttpHeaders.IF_MATCH, "\"" + tripId + "-7\"")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deletedScheduleId").value(scheduleId));
+    }
+
     @Test
     @DisplayName("POST /api/v1/trips/{tripId}/schedules - Validation 실패 (400)")
     void addSchedule_ValidationFailed() throws Exception {
@@ -328,7 +350,7 @@ class ScheduleControllerTest {
                 .modifications(Arrays.asList(modification))
                 .build();
 
-        when(scheduleService.batchUpdateSchedule(eq(tripId), any(), eq(userId)))
+        when(scheduleService.batchUpdateSchedule(eq(tripId), any(), eq(userId), isNull()))
                 .thenReturn(tripScheduleResponse);
 
         // when & then
@@ -427,7 +449,7 @@ class ScheduleControllerTest {
                 .schedules(Arrays.asList(scheduleItemResponse, accommodationResponse))
                 .build();
 
-        when(scheduleService.batchUpdateSchedule(eq(tripId), any(), eq(userId)))
+        when(scheduleService.batchUpdateSchedule(eq(tripId), any(), eq(userId), isNull()))
                 .thenReturn(mockResponse);
 
         // when & then
@@ -514,7 +536,7 @@ class ScheduleControllerTest {
                 .modifications(Arrays.asList(accommodationUpdate))
                 .build();
 
-        when(scheduleService.batchUpdateSchedule(eq(tripId), any(), eq(userId)))
+        when(scheduleService.batchUpdateSchedule(eq(tripId), any(), eq(userId), isNull()))
                 .thenThrow(new IllegalArgumentException("숙소(PlaceTag.HOME)만 변경할 수 있습니다."));
 
         // when & then
@@ -526,6 +548,60 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$.message").value("숙소(PlaceTag.HOME)만 변경할 수 있습니다."));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/trips/{tripId}/itinerary - 전체 일정 조회 시 \"tripId-버전\" 형식의 ETag 반환")
+    void getTripItinerary_Success_ReturnsETag() throws Exception {
+        // given
+        when(scheduleService.getTripItinerary(eq(tripId), eq(userId))).thenReturn(itineraryResponse(3L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/trips/{tripId}/itinerary", tripId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + tripId + "-3\""))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("전체 일정을 조회했습니다."))
+                .andExpect(jsonPath("$.data.tripId").value(tripId))
+                .andExpect(jsonPath("$.data.scheduleVersion").value(3));
+
+        // If-None-Match가 없으면 버전만 따로 조회하지 않음
+        verify(scheduleService, never()).getScheduleVersion(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/trips/{tripId}/itinerary - If-None-Match가 현재 버전과 같으면 304 (일정 조회 생략)")
+    void getTripItinerary_NotModified() throws Exception {
+        // given
+        when(scheduleService.getScheduleVersion(eq(tripId), eq(userId))).thenReturn(3L);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/trips/{tripId}/itinerary", tripId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + tripId + "-3\"")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + tripId + "-3\""))
+                .andExpect(content().string(""));
+
+        verify(scheduleService, never()).getTripItinerary(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/trips/{tripId}/itinerary - If-None-Match가 이전 버전이면 200과 새 일정 반환")
+    void getTripItinerary_StaleETag_ReturnsBody() throws Exception {
+        // given
+        when(scheduleService.getScheduleVersion(eq(tripId), eq(userId))).thenReturn(3L);
+        when(scheduleService.getTripItinerary(eq(tripId), eq(userId))).thenReturn(itineraryResponse(3L));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/trips/{tripId}/itinerary", tripId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + tripId + "-2\"")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + tripId + "-3\""))
+                .andExpect(jsonPath("$.data.scheduleVersion").value(3))
+                .andExpect(jsonPath("$.data.days").isArray());
+    }
+
     @Test
     @DisplayName("GET /api/v1/trips/{tripId}/accommodation-cost - 숙박 비용 정보 조회 성공")
     void getAccommodationCost_Success() throws Exception {
@@ -565,4 +641,15 @@ class ScheduleControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.accommodationCostInfo").isEmpty());
     }
+
+    private TripItineraryResponse itineraryResponse(Long scheduleVersion) {
+        return TripItineraryResponse.builder()
+                .tripId(tripId)
+                .destination("Seoul")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 1, 3))
+                .scheduleVersion(scheduleVersion)
+                .days(List.of())
+                .build();
+    }
 }
@@ -0,0 +1,35 @@
+package triB.triB.schedule.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TravelMinutesMigration 단위 테스트")
+class TravelMinutesMigrationTest {
+
+    @Test
+    @DisplayName("레거시 이동시간 파싱 - 시간/분 조합")
+    void parseLegacyTravelTime_HoursAndMinutes() {
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime("1시간 30분")).isEqualTo(90);
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime("45분")).isEqualTo(45);
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime("2시간")).isEqualTo(120);
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime(" 1시간30분 ")).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("레거시 이동시간 파싱 - AI 생성 일정의 숫자 문자열")
+    void parseLegacyTravelTime_PlainNumber() {
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime("30")).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("레거시 이동시간 파싱 - 해석할 수 없는 값은 null")
+    void parseLegacyTravelTime_Garbage() {
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime(null)).isNull();
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime("  ")).isNull();
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime("abc")).isNull();
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime("약 30분")).isNull();
+        assertThat(TravelMinutesMigration.parseLegacyTravelTime("1시간 반")).isNull();
+    }
+}
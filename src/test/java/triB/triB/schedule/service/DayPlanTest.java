@@ -0,0 +1,197 @@
+package triB.triB.schedule.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import triB.triB.chat.entity.PlaceTag;
+import triB.triB.schedule.entity.Schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DayPlan 단위 테스트")
+class DayPlanTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 1);
+
+    private DayPlan plan;
+
+    /**
+     * A(10:00-11:00) -30분-> B(11:30-12:30) -20분-> C(12:50-13:50) -40분-> 숙소(14:30), 숙소 → 다음날 35분
+     */
+    @BeforeEach
+    void setUp() {
+        plan = DayPlan.of(1, DATE, List.of(
+                schedule(3L, 3, "C", PlaceTag.CAFE, 37.52, 127.02, "12:50", "13:50", 40),
+                schedule(1L, 1, "A", PlaceTag.TOURIST_SPOT, 37.50, 127.00, "10:00", "11:00", 30),
+                schedule(4L, 4, "숙소", PlaceTag.HOME, 37.53, 127.03, "14:30", "14:30", 35),
+                schedule(2L, 2, "B", PlaceTag.RESTAURANT, 37.51, 127.01, "11:30", "12:30", 20)
+        ));
+    }
+
+    @Test
+    @DisplayName("로드 직후 - 방문 순서로 정렬되고 재계산할 구간 없음")
+    void of_SortsByVisitOrder() {
+        assertThat(plan.getItems()).extracting(PlanItem::getScheduleId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(plan.dirtyLegs()).isEmpty();
+        assertThat(plan.needsNextDayLeg()).isFalse();
+    }
+
+    @Test
+    @DisplayName("순서 변경 - 양 끝이 바뀐 구간만 재계산 후 도착 시간 연쇄 계산")
+    void reorder_RecalculatesChangedLegs() {
+        // when: A → C → B → 숙소
+        plan.reorder(3L, 2);
+
+        // then
+        assertThat(plan.getItems()).extracting(PlanItem::getScheduleId).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(plan.dirtyLegs()).containsExactly(0, 1, 2);
+
+        plan.applyLegTravelTimes(Map.of(
+                0, TravelTimeEstimate.ofRoute(15),
+                1, TravelTimeEstimate.ofRoute(10),
+                2, TravelTimeEstimate.ofEstimate(25)));
+        plan.cascade();
+
+        assertThat(plan.getItems()).extracting(PlanItem::getArrival)
+                .containsExactly(at("10:00"), at("11:15"), at("12:25"), at("13:50"));
+        assertThat(plan.find(2L).getTravelTimeEstimated()).isTrue();
+        assertThat(plan.dirtyLegs()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순서 변경 - 범위를 벗어난 방문 순서는 예외")
+    void reorder_InvalidVisitOrder() {
+        assertThatThrownBy(() -> plan.reorder(1L, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1-4");
+    }
+
+    @Test
+    @DisplayName("삭제 - 앞 일정의 구간만 재계산하고 삭제 ID 기록")
+    void delete_RecalculatesPreviousLeg() {
+        // when: A → C → 숙소
+        plan.delete(2L);
+
+        // then: C → 숙소 구간은 그대로
+        assertThat(plan.getDeletedScheduleIds()).containsExactly(2L);
+        assertThat(plan.dirtyLegs()).containsExactly(0);
+
+        plan.applyLegTravelTimes(Map.of(0, TravelTimeEstimate.ofRoute(45)));
+        plan.cascade();
+
+        assertThat(plan.getItems()).extracting(PlanItem::getArrival)
+                .containsExactly(at("10:00"), at("11:45"), at("13:25"));
+    }
+
+    @Test
+    @DisplayName("삭제 - 마지막이 된 일정의 이동시간은 비움")
+    void delete_ClearsTravelTimeOfNewLastItem() {
+        plan.delete(4L);
+
+        assertThat(plan.dirtyLegs()).isEmpty();
+        assertThat(plan.find(3L).getTravelMinutes()).isNull();
+        assertThat(plan.find(3L).getTravelTimeEstimated()).isNull();
+    }
+
+    @Test
+    @DisplayName("추가 - 숙소 앞에 넣고 새 일정 앞뒤 구간 재계산")
+    void add_InsertsBeforeAccommodation() {
+        // when
+        PlanItem added = plan.add("D", PlaceTag.CAFE, 37.54, 127.04, 30);
+
+        // then: 직전 일정 출발 시간에 도착
+        assertThat(added.isNew()).isTrue();
+        assertThat(added.getArrival()).isEqualTo(at("13:50"));
+        assertThat(plan.getItems()).extracting(PlanItem::getPlaceName).containsExactly("A", "B", "C", "D", "숙소");
+        assertThat(plan.dirtyLegs()).containsExactly(2, 3);
+
+        plan.applyLegTravelTimes(Map.of(
+                2, TravelTimeEstimate.ofRoute(10),
+                3, TravelTimeEstimate.ofRoute(20)));
+        plan.cascade();
+
+        assertThat(added.getArrival()).isEqualTo(at("14:00"));
+        assertThat(added.getDeparture()).isEqualTo(at("14:30"));
+        assertThat(plan.find(4L).getArrival()).isEqualTo(at("14:50"));
+    }
+
+    @Test
+    @DisplayName("체류시간 변경 - 구간 재계산 없이 이후 도착 시간만 연쇄 계산")
+    void updateStayDuration_CascadesFollowingArrivals() {
+        plan.updateStayDuration(1L, 90);
+
+        assertThat(plan.dirtyLegs()).isEmpty();
+
+        plan.cascade();
+
+        assertThat(plan.getItems()).extracting(PlanItem::getArrival)
+                .containsExactly(at("10:00"), at("12:00"), at("13:20"), at("15:00"));
+    }
+
+    @Test
+    @DisplayName("이동시간 직접 지정 - 재계산 대상에서 제외")
+    void updateTravelTime_ExcludedFromRecalculation() {
+        plan.updateTravelTime(1L, 50);
+        plan.reorder(3L, 2);
+
+        // A → C 구간은 지정한 50분 유지
+        assertThat(plan.dirtyLegs()).containsExactly(1, 2);
+        assertThat(plan.find(1L).getTravelMinutes()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("숙소 변경 - 숙소 앞 구간 재계산 + 다음날 구간 비움")
+    void updateAccommodation_ClearsNextDayLeg() {
+        // when
+        plan.updateAccommodation(4L, "새 숙소", 37.60, 127.10);
+
+        // then
+        assertThat(plan.dirtyLegs()).containsExactly(2);
+        assertThat(plan.needsNextDayLeg()).isTrue();
+
+        plan.applyNextDayLeg(TravelTimeEstimate.ofRoute(40));
+
+        assertThat(plan.needsNextDayLeg()).isFalse();
+        assertThat(plan.find(4L).getTravelMinutes()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("숙소 변경 - 숙소가 아닌 일정은 예외")
+    void updateAccommodation_NotHome() {
+        assertThatThrownBy(() -> plan.updateAccommodation(1L, "새 숙소", 37.60, 127.10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("숙소(PlaceTag.HOME)만 변경할 수 있습니다.");
+    }
+
+    private static Schedule schedule(Long scheduleId, int visitOrder, String placeName, PlaceTag placeTag,
+                                     double latitude, double longitude, String arrival, String departure,
+                                     Integer travelMinutes) {
+        return Schedule.builder()
+                .scheduleId(scheduleId)
+                .tripId(100L)
+                .dayNumber(1)
+                .date(DATE)
+                .visitOrder(visitOrder)
+                .placeName(placeName)
+                .placeTag(placeTag)
+                .latitude(latitude)
+                .longitude(longitude)
+                .isVisit(false)
+                .arrival(at(arrival))
+                .departure(at(departure))
+                .travelMinutes(travelMinutes)
+                .travelTimeEstimated(false)
+                .build();
+    }
+
+    private static LocalDateTime at(String time) {
+        return LocalDateTime.of(DATE, LocalTime.parse(time));
+    }
+}
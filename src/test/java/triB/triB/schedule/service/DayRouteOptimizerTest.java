@@ -0,0 +1,86 @@
+package triB.triB.schedule.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DayRouteOptimizer 단위 테스트")
+class DayRouteOptimizerTest {
+
+    /**
+     * 직선 위 좌표로 이동시간 행렬 생성 (|좌표 차이| × 10분)
+     */
+    private static int[][] line(int... positions) {
+        int n = positions.length;
+        int[][] durations = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                durations[i][j] = Math.abs(positions[i] - positions[j]) * 10;
+            }
+        }
+        return durations;
+    }
+
+    @Test
+    @DisplayName("양 끝 고정 - 시작/끝은 그대로 두고 사이 장소만 재배치")
+    void optimize_KeepsFixedStartAndEnd() {
+        // 좌표 0, 3, 1, 2, 4 → 0 → 1 → 2 → 3 → 4 좌표 순이 가장 짧음
+        int[] order = DayRouteOptimizer.optimize(line(0, 3, 1, 2, 4), new boolean[]{true, false, false, false, true});
+
+        assertThat(order).containsExactly(0, 2, 3, 1, 4);
+    }
+
+    @Test
+    @DisplayName("가운데 고정 - 고정 장소를 경계로 앞뒤 구간을 따로 최적화")
+    void optimize_SplitsAtFixedStop() {
+        int[] order = DayRouteOptimizer.optimize(line(0, 3, 1, 2, 4), new boolean[]{false, false, true, false, false});
+
+        assertThat(order).containsExactly(1, 0, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("이동시간이 같으면 기존 인덱스가 작은 장소 우선")
+    void optimize_BreaksTiesByOriginalIndex() {
+        // 0 → 1만 50분, 나머지 구간은 모두 5분
+        int[][] durations = {
+                {0, 50, 5, 5},
+                {50, 0, 5, 5},
+                {5, 5, 0, 5},
+                {5, 5, 5, 0}
+        };
+
+        int[] order = DayRouteOptimizer.optimize(durations, new boolean[]{true, false, false, false});
+
+        assertThat(order).containsExactly(0, 2, 1, 3);
+    }
+
+    @Test
+    @DisplayName("이미 최적인 순서는 그대로 반환")
+    void optimize_AlreadyOptimal_ReturnsUnchanged() {
+        assertThat(DayRouteOptimizer.optimize(line(0, 1, 2, 3, 4), new boolean[]{true, false, false, false, true}))
+                .containsExactly(0, 1, 2, 3, 4);
+        assertThat(DayRouteOptimizer.optimize(line(0, 1, 2, 3, 4), new boolean[5]))
+                .containsExactly(0, 1, 2, 3, 4);
+
+        // 모든 순서의 비용이 같으면 기존 순서 유지
+        int[][] uniform = new int[4][4];
+        for (int[] row : uniform) {
+            Arrays.fill(row, 10);
+        }
+        assertThat(DayRouteOptimizer.optimize(uniform, new boolean[4])).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("장소가 최대 개수를 넘으면 예외")
+    void optimize_TooManyStops() {
+        int n = DayRouteOptimizer.MAX_STOPS + 1;
+
+        assertThatThrownBy(() -> DayRouteOptimizer.optimize(new int[n][n], new boolean[n]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 " + DayRouteOptimizer.MAX_STOPS + "개");
+    }
+}
@@ -1,13 +1,23 @@
 package triB.triB.schedule.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import triB.triB.auth.entity.User;
+import triB.triB.auth.repository.UserRepository;
 import triB.triB.chat.entity.PlaceTag;
+import triB.triB.global.exception.CustomException;
+import triB.triB.global.exception.ErrorCode;
+import triB.triB.global.infra.RedisClient;
 import triB.triB.room.entity.Room;
 import triB.triB.room.entity.UserRoomId;
 import triB.triB.room.repository.RoomRepository;
@@ -16,6 +26,8 @@ import triB.triB.schedule.dto.*;
 import triB.triB.schedule.entity.Schedule;
 import triB.triB.schedule.entity.TravelMode;
 import triB.triB.schedule.entity.Trip;
+import triB.triB.schedule.event.AccommodationChangedEvent;
+import triB.triB.schedule.event.ScheduleBatchUpdatedEvent;
 import triB.triB.schedule.repository.ScheduleRepository;
 import triB.triB.schedule.repository.TripRepository;
 
@@ -23,7 +35,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,9 +66,33 @@ class ScheduleServiceTest {
     @Mock
     private RoutesApiService routesApiService;
 
-    @InjectMocks
+    @Mock
+    private DistanceMatrixService distanceMatrixService;
+
+    @Mock
+    private TravelTimeEstimator travelTimeEstimator;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RedisClient redisClient;
+
+    @Mock
+    private ScheduleEditGuard scheduleEditGuard;
+
+    @Mock
+    private AccommodationCascadeStore accommodationCascadeStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ScheduleService scheduleService;
 
+    private User testUser;
     private Trip testTrip;
     private Room testRoom;
     private Schedule testSchedule1;
@@ -67,6 +107,20 @@ class ScheduleServiceTest {
         tripId = 100L;
         roomId = 10L;
 
+        // 권한 검증 캐시는 실제 구현을 사용 (캐시 미스 시 mock 저장소로 Trip/UserRoom 조회)
+        TripAccessService tripAccessService = new TripAccessService(
+                tripRepository, userRoomRepository, redisClient, new SimpleMeterRegistry(), 1000, 60, 30);
+        scheduleService = new ScheduleService(tripRepository, scheduleRepository, roomRepository,
+                routesApiService, distanceMatrixService, travelTimeEstimator, userRepository, eventPublisher,
+                tripAccessService, scheduleEditGuard, accommodationCascadeStore,
+                new TransactionTemplate(transactionManager));
+
+        // Test User 생성
+        testUser = User.builder()
+                .userId(userId)
+                .nickname("tester")
+                .build();
+
         // Test Room 생성
         testRoom = Room.builder()
                 .roomId(roomId)
@@ -98,7 +152,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 9, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 10, 0))
-                .travelTime("30분")
+                .travelMinutes(30)
                 .build();
 
         testSchedule2 = Schedule.builder()
@@ -114,10 +168,37 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 10, 30))
                 .departure(LocalDateTime.of(2025, 1, 1, 11, 30))
-                .travelTime(null)
+                .travelMinutes(null)
                 .build();
     }
 
+    /**
+     * 요청된 구간 번호(마지막 인자)마다 동일한 이동시간을 반환하는 Answer
+     */
+    private static Answer<Map<Integer, TravelTimeEstimate>> dirtyLegsOf(int minutes) {
+        return invocation -> {
+            Collection<Integer> legIndexes = invocation.getArgument(invocation.getArguments().length - 1);
+            Map<Integer, TravelTimeEstimate> legs = new HashMap<>();
+            legIndexes.forEach(i -> legs.put(i, TravelTimeEstimate.ofRoute(minutes)));
+            return legs;
+        };
+    }
+
+    /**
+     * 경유지 수에 맞춰 모든 구간 이동시간을 동일한 값으로 반환하는 Answer
+     */
+    private static Answer<List<TravelTimeEstimate>> legsOf(int minutes) {
+        return invocation -> {
+            // 인자 중 경유지 목록(List)을 찾아 구간 수 계산
+            List<?> waypoints = Arrays.stream(invocation.getArguments())
+                    .filter(List.class::isInstance)
+                    .map(List.class::cast)
+                    .findFirst()
+                    .orElse(List.of());
+            return Collections.nCopies(Math.max(waypoints.size() - 1, 0), TravelTimeEstimate.ofRoute(minutes));
+        };
+    }
+
     @Test
     @DisplayName("일정 조회 성공")
     void getTripSchedules_Success() {
@@ -141,6 +222,7 @@ class ScheduleServiceTest {
         assertThat(response.getSchedules()).hasSize(2);
         assertThat(response.getStartDate()).isEqualTo(LocalDate.of(2025, 1, 1));
         assertThat(response.getEndDate()).isEqualTo(LocalDate.of(2025, 1, 3));
+        assertThat(response.getRecalculationFailed()).isFalse();
 
         verify(tripRepository, times(2)).findById(tripId);
         verify(scheduleRepository).findByTripIdAndDayNumber(tripId, dayNumber);
@@ -157,12 +239,14 @@ class ScheduleServiceTest {
         when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1)).thenReturn(schedules);
+        when(accommodationCascadeStore.isStale(tripId, 1)).thenReturn(true);
 
         // when
         TripScheduleResponse response = scheduleService.getTripSchedules(tripId, dayNumber, userId);
 
         // then
         assertThat(response.getCurrentDay()).isEqualTo(1);
+        assertThat(response.getRecalculationFailed()).isTrue();
         verify(scheduleRepository).findByTripIdAndDayNumber(tripId, 1);
     }
 
@@ -209,7 +293,7 @@ class ScheduleServiceTest {
                 .thenReturn(Optional.of(testSchedule1));
 
         // when
-        VisitStatusUpdateResponse response = scheduleService.updateVisitStatus(tripId, scheduleId, request, userId);
+        VisitStatusUpdateResponse response = scheduleService.updateVisitStatus(tripId, scheduleId, request, userId, null);
 
         // then
         assertThat(response).isNotNull();
@@ -218,6 +302,55 @@ class ScheduleServiceTest {
         assertThat(testSchedule1.getIsVisit()).isTrue();
 
         verify(scheduleRepository).findByScheduleIdAndTripId(scheduleId, tripId);
+        verify(scheduleEditGuard).begin(tripId, null);
+    }
+
+    @Test
+    @DisplayName("전체 일정 조회 - 한 번의 일정 조회로 모든 일차를 구성")
+    void getTripItinerary_GroupsAllDays() {
+        // given
+        Trip trip = Trip.builder()
+                .tripId(tripId)
+                .roomId(roomId)
+                .room(testRoom)
+                .destination("Seoul")
+                .travelMode(TravelMode.DRIVE)
+                .scheduleVersion(3L)
+                .build();
+        Schedule day3Schedule = Schedule.builder()
+                .scheduleId(3L)
+                .tripId(tripId)
+                .dayNumber(3)
+                .date(LocalDate.of(2025, 1, 3))
+                .visitOrder(1)
+                .placeName("장소3")
+                .placeTag(PlaceTag.TOURIST_SPOT)
+                .latitude(37.58)
+                .longitude(126.99)
+                .isVisit(false)
+                .arrival(LocalDateTime.of(2025, 1, 3, 9, 0))
+                .departure(LocalDateTime.of(2025, 1, 3, 10, 0))
+                .build();
+
+        when(tripRepository.findWithRoomByTripId(tripId)).thenReturn(Optional.of(trip));
+        when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
+        when(scheduleRepository.findByTripIdOrderByDayNumberAscVisitOrderAsc(tripId))
+                .thenReturn(Arrays.asList(testSchedule1, testSchedule2, day3Schedule));
+
+        // when
+        TripItineraryResponse response = scheduleService.getTripItinerary(tripId, userId);
+
+        // then
+        assertThat(response.getScheduleVersion()).isEqualTo(3L);
+        assertThat(response.getDays()).hasSize(3);
+        assertThat(response.getDays().get(0).getSchedules()).hasSize(2);
+        assertThat(response.getDays().get(0).getTotalTravelMinutes()).isEqualTo(30);
+        assertThat(response.getDays().get(1).getSchedules()).isEmpty();
+        assertThat(response.getDays().get(1).getDate()).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(response.getDays().get(2).getSchedules()).hasSize(1);
+
+        verify(scheduleRepository, never()).findByTripIdAndDayNumber(anyLong(), anyInt());
+        verify(roomRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -233,7 +366,7 @@ class ScheduleServiceTest {
                 .thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> scheduleService.updateVisitStatus(tripId, scheduleId, request, userId))
+        assertThatThrownBy(() -> scheduleService.updateVisitStatus(tripId, scheduleId, request, userId, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("일정을 찾을 수 없습니다");
 
@@ -256,12 +389,12 @@ class ScheduleServiceTest {
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
                 .thenReturn(daySchedules);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
-        when(routesApiService.calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
-                .thenReturn(30);
+        when(distanceMatrixService.calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList()))
+                .thenAnswer(legsOf(30));
         when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("30분");
 
         // when
-        TripScheduleResponse response = scheduleService.reorderSchedule(tripId, scheduleId, request, userId);
+        TripScheduleResponse response = scheduleService.reorderSchedule(tripId, scheduleId, request, userId, null);
 
         // then
         assertThat(response).isNotNull();
@@ -269,7 +402,7 @@ class ScheduleServiceTest {
         assertThat(testSchedule2.getVisitOrder()).isEqualTo(1);
 
         verify(scheduleRepository, atLeastOnce()).findByTripIdAndDayNumber(tripId, 1);
-        verify(routesApiService, atLeastOnce()).calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any());
+        verify(distanceMatrixService, atLeastOnce()).calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList());
     }
 
     @Test
@@ -288,15 +421,15 @@ class ScheduleServiceTest {
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
                 .thenReturn(daySchedules);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
-        when(routesApiService.calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
-                .thenReturn(25);
+        when(distanceMatrixService.calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList()))
+                .thenAnswer(legsOf(25));
         when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("25분");
 
         // when
-        scheduleService.reorderSchedule(tripId, scheduleId, request, userId);
+        scheduleService.reorderSchedule(tripId, scheduleId, request, userId, null);
 
         // then
-        verify(routesApiService, atLeastOnce()).calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(TravelMode.DRIVE));
+        verify(distanceMatrixService, atLeastOnce()).calculateLegTravelTimes(eq(tripId), eq(1), eq(TravelMode.DRIVE), anyList());
     }
 
     @Test
@@ -316,7 +449,7 @@ class ScheduleServiceTest {
                 .thenReturn(daySchedules);
 
         // when & then
-        assertThatThrownBy(() -> scheduleService.reorderSchedule(tripId, scheduleId, request, userId))
+        assertThatThrownBy(() -> scheduleService.reorderSchedule(tripId, scheduleId, request, userId, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("유효하지 않은 방문 순서입니다");
     }
@@ -346,20 +479,20 @@ class ScheduleServiceTest {
             schedule.setScheduleId(3L);
             return schedule;
         });
-        when(routesApiService.calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
-                .thenReturn(20);
+        when(travelTimeEstimator.calculateLegTravelTimes(anyList(), any()))
+                .thenAnswer(legsOf(20));
         when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("20분");
 
         // when
-        ScheduleItemResponse response = scheduleService.addScheduleToDay(tripId, request, userId);
+        ScheduleItemResponse response = scheduleService.addScheduleToDay(tripId, request, userId, null);
 
         // then
         assertThat(response).isNotNull();
         assertThat(response.getDisplayName()).isEqualTo("새로운 장소");
-        assertThat(testSchedule2.getTravelTime()).isEqualTo("20분");
+        assertThat(testSchedule2.getTravelMinutes()).isEqualTo(20);
 
         verify(scheduleRepository).save(any(Schedule.class));
-        verify(routesApiService).calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(TravelMode.DRIVE));
+        verify(travelTimeEstimator).calculateLegTravelTimes(anyList(), eq(TravelMode.DRIVE));
     }
 
     @Test
@@ -379,7 +512,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 12, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 13, 0))
-                .travelTime(null)
+                .travelMinutes(null)
                 .build();
 
         List<Schedule> remainingSchedules = Arrays.asList(testSchedule2, schedule3);
@@ -390,12 +523,12 @@ class ScheduleServiceTest {
                 .thenReturn(Optional.of(testSchedule1));
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
                 .thenReturn(remainingSchedules);
-        when(routesApiService.calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
-                .thenReturn(30);
+        when(distanceMatrixService.calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList()))
+                .thenAnswer(legsOf(30));
         when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("30분");
 
         // when
-        DeleteScheduleResponse response = scheduleService.deleteSchedule(tripId, scheduleId, userId);
+        DeleteScheduleResponse response = scheduleService.deleteSchedule(tripId, scheduleId, userId, null);
 
         // then
         assertThat(response).isNotNull();
@@ -425,7 +558,7 @@ class ScheduleServiceTest {
                 .thenReturn(daySchedules);
 
         // when
-        ScheduleItemResponse response = scheduleService.updateStayDuration(tripId, scheduleId, request, userId);
+        ScheduleItemResponse response = scheduleService.updateStayDuration(tripId, scheduleId, request, userId, null);
 
         // then
         assertThat(response).isNotNull();
@@ -451,7 +584,7 @@ class ScheduleServiceTest {
                 .thenReturn(daySchedules);
 
         // when
-        ScheduleItemResponse response = scheduleService.updateVisitTime(tripId, scheduleId, request, userId);
+        ScheduleItemResponse response = scheduleService.updateVisitTime(tripId, scheduleId, request, userId, null);
 
         // then
         assertThat(response).isNotNull();
@@ -476,7 +609,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 18, 0))
                 .departure(LocalDateTime.of(2025, 1, 2, 9, 0))
-                .travelTime(null)
+                .travelMinutes(null)
                 .build();
 
         UpdateAccommodationRequest request = new UpdateAccommodationRequest(1, "새로운 숙소", 37.5650, 126.9750);
@@ -487,14 +620,9 @@ class ScheduleServiceTest {
         when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
                 .thenReturn(daySchedules);
-        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 2))
-                .thenReturn(Arrays.asList());
-        when(routesApiService.calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
-                .thenReturn(15);
-        when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("15분");
 
         // when
-        ScheduleItemResponse response = scheduleService.updateAccommodation(tripId, request, userId);
+        ScheduleItemResponse response = scheduleService.updateAccommodation(tripId, request, userId, null);
 
         // then
         assertThat(response).isNotNull();
@@ -502,7 +630,67 @@ class ScheduleServiceTest {
         assertThat(accommodationSchedule.getLatitude()).isEqualTo(37.5650);
         assertThat(accommodationSchedule.getLongitude()).isEqualTo(126.9750);
 
-        verify(routesApiService, atLeastOnce()).calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(TravelMode.DRIVE));
+        // 이동시간 재계산은 커밋 후 백그라운드에서 처리
+        verify(eventPublisher).publishEvent(new AccommodationChangedEvent(tripId, roomId, 1));
+        verifyNoInteractions(routesApiService, travelTimeEstimator);
+    }
+
+    @Test
+    @DisplayName("숙소 변경 후 연쇄 재계산 - 이전 일정 → 숙소 → 다음날 첫 일정")
+    void recalculateAfterAccommodationChange_CascadesToNextDay() {
+        // given
+        Schedule accommodationSchedule = Schedule.builder()
+                .scheduleId(3L)
+                .tripId(tripId)
+                .dayNumber(1)
+                .visitOrder(3)
+                .placeName("새로운 숙소")
+                .placeTag(PlaceTag.HOME)
+                .latitude(37.5650)
+                .longitude(126.9750)
+                .isVisit(false)
+                .arrival(LocalDateTime.of(2025, 1, 1, 18, 0))
+                .departure(LocalDateTime.of(2025, 1, 2, 9, 0))
+                .build();
+
+        Schedule nextDaySchedule = Schedule.builder()
+                .scheduleId(4L)
+                .tripId(tripId)
+                .dayNumber(2)
+                .visitOrder(1)
+                .placeName("장소3")
+                .placeTag(PlaceTag.TOURIST_SPOT)
+                .latitude(37.5800)
+                .longitude(126.9900)
+                .isVisit(false)
+                .arrival(LocalDateTime.of(2025, 1, 2, 10, 0))
+                .departure(LocalDateTime.of(2025, 1, 2, 11, 0))
+                .build();
+
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
+        when(tripRepository.findScheduleVersionByTripId(tripId)).thenReturn(Optional.of(5L));
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
+        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
+                .thenReturn(Arrays.asList(testSchedule1, testSchedule2, accommodationSchedule));
+        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 2))
+                .thenReturn(List.of(nextDaySchedule));
+        when(travelTimeEstimator.calculateLegTravelTimes(anyList(), any()))
+                .thenAnswer(legsOf(15));
+        when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("15분");
+
+        // when
+        ScheduleRecalculatedMessage result = scheduleService.recalculateAfterAccommodationChange(tripId, 1);
+
+        // then
+        verify(scheduleEditGuard).begin(tripId);
+        assertThat(testSchedule2.getTravelMinutes()).isEqualTo(15);
+        assertThat(accommodationSchedule.getTravelMinutes()).isEqualTo(15);
+        assertThat(accommodationSchedule.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 1, 11, 45));
+        assertThat(nextDaySchedule.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 2, 3, 0));
+
+        assertThat(result.getScheduleVersion()).isEqualTo(5L);
+        assertThat(result.getDays()).extracting(DayScheduleResponse::getDayNumber).containsExactly(1, 2);
+        assertThat(result.getDays().get(0).getTotalTravelMinutes()).isEqualTo(30 + 15 + 15);
     }
 
     @Test
@@ -520,7 +708,7 @@ class ScheduleServiceTest {
                 .thenReturn(daySchedules);
 
         // when & then
-        assertThatThrownBy(() -> scheduleService.updateAccommodation(tripId, request, userId))
+        assertThatThrownBy(() -> scheduleService.updateAccommodation(tripId, request, userId, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("해당 날짜에 숙소를 찾을 수 없습니다");
     }
@@ -542,7 +730,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 10, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 11, 0))
-                .travelTime("1시간")
+                .travelMinutes(60)
                 .build();
 
         Schedule accommodation = Schedule.builder()
@@ -558,7 +746,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 12, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 22, 0))
-                .travelTime("1시간 30분")
+                .travelMinutes(90)
                 .build();
 
         Schedule nextDaySchedule = Schedule.builder()
@@ -574,19 +762,19 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 2, 9, 0))
                 .departure(LocalDateTime.of(2025, 1, 2, 10, 0))
-                .travelTime(null)
+                .travelMinutes(null)
                 .build();
 
         List<Schedule> daySchedules = Arrays.asList(touristSpot, accommodation);
         List<Schedule> nextDaySchedules = Arrays.asList(nextDaySchedule);
 
-        when(scheduleRepository.findById(100L)).thenReturn(Optional.of(accommodation));
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1)).thenReturn(daySchedules);
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 2)).thenReturn(nextDaySchedules);
-        when(routesApiService.calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
-                .thenReturn(50) // 경복궁 → 강남호텔: 50분
-                .thenReturn(40); // 강남호텔 → 남산타워: 40분
+        when(distanceMatrixService.calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList(), anyCollection()))
+                .thenAnswer(dirtyLegsOf(50)); // 경복궁 → 강남호텔: 50분
+        when(travelTimeEstimator.calculateLegTravelTimes(anyList(), any()))
+                .thenReturn(List.of(TravelTimeEstimate.ofRoute(40))); // 강남호텔 → 남산타워: 40분
         when(routesApiService.formatMinutesToReadable(50)).thenReturn("50분");
         when(routesApiService.formatMinutesToReadable(40)).thenReturn("40분");
 
@@ -610,12 +798,30 @@ class ScheduleServiceTest {
 
         // then
         assertThat(response).isNotNull();
-        assertThat(accommodation.getPlaceName()).isEqualTo("강남호텔");
-        assertThat(accommodation.getLatitude()).isEqualTo(37.4979);
-        assertThat(accommodation.getLongitude()).isEqualTo(127.0276);
-        assertThat(accommodation.getPlaceTag()).isEqualTo(PlaceTag.HOME);
-
-        verify(routesApiService, atLeastOnce()).calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(TravelMode.DRIVE));
+        ScheduleItemResponse previewAccommodation = response.getSchedules().get(1);
+        assertThat(previewAccommodation.getScheduleId()).isEqualTo(100L);
+        assertThat(previewAccommodation.getDisplayName()).isEqualTo("강남호텔");
+        assertThat(previewAccommodation.getPlaceTag()).isEqualTo(PlaceTag.HOME);
+        assertThat(previewAccommodation.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 1, 11, 50));
+        assertThat(previewAccommodation.getDeparture()).isEqualTo(LocalDateTime.of(2025, 1, 1, 21, 50));
+        assertThat(response.getSchedules().get(0).getTravelTime()).isEqualTo(50);
+
+        // 숙소 → 다음날 첫 일정(남산타워) 구간: 40분
+        assertThat(previewAccommodation.getTravelTime()).isEqualTo(40);
+        assertThat(response.getTotalTravelMinutes()).isEqualTo(50 + 40);
+        verify(travelTimeEstimator).calculateLegTravelTimes(
+                argThat(waypoints -> waypoints.size() == 2
+                        && waypoints.get(0).getLatitude().equals(37.4979)
+                        && waypoints.get(1).getLatitude().equals(37.5512)),
+                eq(TravelMode.DRIVE));
+
+        // 엔티티는 변경되지 않음
+        assertThat(accommodation.getPlaceName()).isEqualTo("명동호텔");
+        assertThat(accommodation.getLatitude()).isEqualTo(37.5600);
+        assertThat(accommodation.getLongitude()).isEqualTo(126.9700);
+        assertThat(nextDaySchedule.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 2, 9, 0));
+
+        verify(distanceMatrixService).calculateLegTravelTimes(eq(tripId), eq(1), eq(TravelMode.DRIVE), anyList(), eq(List.of(0)));
     }
 
     @Test
@@ -623,9 +829,10 @@ class ScheduleServiceTest {
     void updateAccommodationByScheduleId_NotFound() {
         // given
         Long nonExistentId = 99999L;
-        when(scheduleRepository.findById(nonExistentId)).thenReturn(Optional.empty());
         when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
+        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1)).thenReturn(Arrays.asList(testSchedule1));
 
         // when & then
         PreviewScheduleRequest request = new PreviewScheduleRequest();
@@ -661,12 +868,13 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 10, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 11, 0))
-                .travelTime(null)
+                .travelMinutes(null)
                 .build();
 
-        when(scheduleRepository.findById(1L)).thenReturn(Optional.of(touristSpot));
+        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1)).thenReturn(Arrays.asList(touristSpot));
         when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
 
         // when & then
         PreviewScheduleRequest request = new PreviewScheduleRequest();
@@ -702,7 +910,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 10, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 11, 0))
-                .travelTime("1시간")
+                .travelMinutes(60)
                 .build();
 
         Schedule accommodation = Schedule.builder()
@@ -718,7 +926,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 12, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 22, 0))
-                .travelTime(null)
+                .travelMinutes(null)
                 .build();
 
         Schedule schedule3 = Schedule.builder()
@@ -734,7 +942,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 13, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 14, 0))
-                .travelTime(null)
+                .travelMinutes(null)
                 .build();
 
         List<Schedule> daySchedules = Arrays.asList(schedule1, accommodation, schedule3);
@@ -742,12 +950,10 @@ class ScheduleServiceTest {
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
         when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
-        when(scheduleRepository.findById(2L)).thenReturn(Optional.of(accommodation));
-        when(scheduleRepository.findById(1L)).thenReturn(Optional.of(schedule1));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1)).thenReturn(daySchedules);
-        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 2)).thenReturn(Arrays.asList());
-        when(routesApiService.calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
-                .thenReturn(30);
+        when(distanceMatrixService.calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList(), anyCollection()))
+                .thenAnswer(dirtyLegsOf(30));
         when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("30분");
 
         // when
@@ -776,7 +982,7 @@ class ScheduleServiceTest {
 
         request.setModifications(Arrays.asList(reorder, updateAccommodation, updateDuration));
 
-        TripScheduleResponse response = scheduleService.batchUpdateSchedule(tripId, request, userId);
+        TripScheduleResponse response = scheduleService.batchUpdateSchedule(tripId, request, userId, null);
 
         // then
         assertThat(response).isNotNull();
@@ -784,7 +990,212 @@ class ScheduleServiceTest {
         assertThat(accommodation.getLatitude()).isEqualTo(37.5345);
         assertThat(accommodation.getLongitude()).isEqualTo(126.9949);
 
-        verify(routesApiService, atLeastOnce()).calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(TravelMode.DRIVE));
+        // 숙소(1) → 경복궁(2) → 인사동(3)
+        assertThat(accommodation.getVisitOrder()).isEqualTo(1);
+        assertThat(schedule1.getVisitOrder()).isEqualTo(2);
+        assertThat(schedule3.getVisitOrder()).isEqualTo(3);
+
+        // 숙소 → 경복궁, 경복궁 → 인사동 구간만 재계산 (인사동은 마지막 일정으로 변화 없음)
+        verify(distanceMatrixService, times(1))
+                .calculateLegTravelTimes(eq(tripId), eq(1), eq(TravelMode.DRIVE), anyList(), eq(List.of(0, 1)));
+        assertThat(accommodation.getTravelMinutes()).isEqualTo(30);
+        assertThat(schedule1.getTravelMinutes()).isEqualTo(30);
+
+        // 경복궁 arrival = 숙소 departure(22:00) + 30분, departure = arrival + 90분
+        assertThat(schedule1.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 1, 22, 30));
+        assertThat(schedule1.getDeparture()).isEqualTo(LocalDateTime.of(2025, 1, 2, 0, 0));
+        verify(eventPublisher).publishEvent(any(ScheduleBatchUpdatedEvent.class));
+
+        // 숙소 → 다음날 첫 일정 구간은 커밋 후 연쇄 재계산
+        verify(eventPublisher).publishEvent(new AccommodationChangedEvent(tripId, roomId, 1));
+    }
+
+    @Test
+    @DisplayName("일괄 수정 - 체류시간만 바뀌면 이동시간을 다시 계산하지 않음")
+    void batchUpdate_StayDurationOnly_SkipsTravelTimeRecalculation() {
+        // given
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
+        when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
+                .thenReturn(Arrays.asList(testSchedule1, testSchedule2));
+        when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("30분");
+
+        BatchUpdateScheduleRequest request = new BatchUpdateScheduleRequest();
+        request.setDayNumber(1);
+        request.setModifications(Arrays.asList(ScheduleModificationItem.builder()
+                .modificationType(ModificationType.UPDATE_STAY_DURATION)
+                .scheduleId(1L)
+                .stayMinutes(120)
+                .build()));
+
+        // when
+        scheduleService.batchUpdateSchedule(tripId, request, userId, null);
+
+        // then
+        verify(distanceMatrixService, never())
+                .calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList(), anyCollection());
+        // 장소1 departure = 09:00 + 120분, 장소2 arrival = 11:00 + 30분
+        assertThat(testSchedule1.getDeparture()).isEqualTo(LocalDateTime.of(2025, 1, 1, 11, 0));
+        assertThat(testSchedule2.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 1, 11, 30));
+        assertThat(testSchedule2.getDeparture()).isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 30));
+    }
+
+    @Test
+    @DisplayName("방문 순서 최적화 - 숙소는 고정하고 이동시간이 짧은 순서로 저장")
+    void optimizeDayOrder_KeepsHomeFixed() {
+        // given
+        Schedule schedule3 = Schedule.builder()
+                .scheduleId(3L)
+                .tripId(tripId)
+                .dayNumber(1)
+                .date(LocalDate.of(2025, 1, 1))
+                .visitOrder(3)
+                .placeName("장소3")
+                .placeTag(PlaceTag.TOURIST_SPOT)
+                .latitude(37.5800)
+                .longitude(126.9900)
+                .isVisit(false)
+                .arrival(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .departure(LocalDateTime.of(2025, 1, 1, 13, 0))
+                .travelMinutes(30)
+                .build();
+        Schedule home = Schedule.builder()
+                .scheduleId(4L)
+                .tripId(tripId)
+                .dayNumber(1)
+                .date(LocalDate.of(2025, 1, 1))
+                .visitOrder(4)
+                .placeName("숙소")
+                .placeTag(PlaceTag.HOME)
+                .latitude(37.5600)
+                .longitude(126.9700)
+                .isVisit(false)
+                .arrival(LocalDateTime.of(2025, 1, 1, 14, 0))
+                .departure(LocalDateTime.of(2025, 1, 1, 22, 0))
+                .build();
+        testSchedule2.setTravelMinutes(30);
+
+        // 장소1 → 장소3 → 장소2 → 숙소 순서가 가장 짧음 (30분 vs 기존 150분)
+        int[][] durations = {
+                {0, 50, 10, 60},
+                {50, 0, 50, 10},
+                {10, 10, 0, 50},
+                {60, 10, 50, 0}
+        };
+
+        when(tripRepository.findScheduleVersionByTripId(tripId)).thenReturn(Optional.of(7L));
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
+        when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
+                .thenReturn(Arrays.asList(testSchedule1, testSchedule2, schedule3, home));
+        when(distanceMatrixService.getCompleteDurations(eq(tripId), eq(1), eq(TravelMode.DRIVE), anyList()))
+                .thenReturn(durations);
+        when(distanceMatrixService.calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList(), anyCollection()))
+                .thenAnswer(dirtyLegsOf(10));
+        when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("10분");
+
+        // when
+        scheduleService.optimizeDayOrder(tripId, 1, userId, null);
+
+        // then
+        assertThat(testSchedule1.getVisitOrder()).isEqualTo(1);
+        assertThat(schedule3.getVisitOrder()).isEqualTo(2);
+        assertThat(testSchedule2.getVisitOrder()).isEqualTo(3);
+        assertThat(home.getVisitOrder()).isEqualTo(4);
+
+        // 첫 일정 도착 시간 유지, 이후는 이동시간 10분씩 연쇄 계산
+        assertThat(testSchedule1.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 1, 9, 0));
+        assertThat(schedule3.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 1, 10, 10));
+        assertThat(testSchedule2.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 1, 11, 20));
+        assertThat(home.getArrival()).isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 30));
+
+        // 일정 조회 전에 읽은 버전으로 CAS, 행렬 조회는 트랜잭션 시작 전
+        InOrder inOrder = inOrder(tripRepository, scheduleRepository, distanceMatrixService, transactionManager, scheduleEditGuard);
+        inOrder.verify(tripRepository).findScheduleVersionByTripId(tripId);
+        inOrder.verify(scheduleRepository).findByTripIdAndDayNumber(tripId, 1);
+        inOrder.verify(distanceMatrixService).getCompleteDurations(eq(tripId), eq(1), eq(TravelMode.DRIVE), anyList());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(scheduleEditGuard).begin(tripId, 7L);
+        verify(transactionManager).commit(any());
+        verify(eventPublisher).publishEvent(any(ScheduleBatchUpdatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("방문 순서 최적화 - 조회 후 다른 수정이 커밋됐으면 저장하지 않음")
+    void optimizeDayOrder_ConcurrentEdit_VersionMismatch() {
+        // given
+        int[][] durations = {
+                {0, 50, 10},
+                {50, 0, 50},
+                {10, 50, 0}
+        };
+        Schedule schedule3 = Schedule.builder()
+                .scheduleId(3L)
+                .tripId(tripId)
+                .dayNumber(1)
+                .date(LocalDate.of(2025, 1, 1))
+                .visitOrder(3)
+                .placeName("장소3")
+                .placeTag(PlaceTag.TOURIST_SPOT)
+                .latitude(37.5800)
+                .longitude(126.9900)
+                .isVisit(false)
+                .arrival(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .departure(LocalDateTime.of(2025, 1, 1, 13, 0))
+                .build();
+
+        when(tripRepository.findScheduleVersionByTripId(tripId)).thenReturn(Optional.of(7L));
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
+        when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
+        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
+                .thenReturn(Arrays.asList(testSchedule1, testSchedule2, schedule3));
+        when(distanceMatrixService.getCompleteDurations(eq(tripId), eq(1), eq(TravelMode.DRIVE), anyList()))
+                .thenReturn(durations);
+        doThrow(new CustomException(ErrorCode.SCHEDULE_VERSION_MISMATCH))
+                .when(scheduleEditGuard).begin(tripId, 7L);
+
+        // when & then
+        assertThatThrownBy(() -> scheduleService.optimizeDayOrder(tripId, 1, userId, null))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SCHEDULE_VERSION_MISMATCH);
+
+        verify(transactionManager).rollback(any());
+        verify(scheduleRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(schedule3.getVisitOrder()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("방문 순서 최적화 - 이미 최적이면 저장하지 않고 일정 버전도 그대로")
+    void optimizeDayOrder_AlreadyOptimal_SkipsWrite() {
+        // given
+        int[][] durations = {
+                {0, 10},
+                {10, 0}
+        };
+
+        when(tripRepository.findScheduleVersionByTripId(tripId)).thenReturn(Optional.of(7L));
+        when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
+        when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
+        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1))
+                .thenReturn(Arrays.asList(testSchedule1, testSchedule2));
+        when(distanceMatrixService.getCompleteDurations(eq(tripId), eq(1), eq(TravelMode.DRIVE), anyList()))
+                .thenReturn(durations);
+
+        // when
+        scheduleService.optimizeDayOrder(tripId, 1, userId, null);
+
+        // then
+        assertThat(testSchedule1.getVisitOrder()).isEqualTo(1);
+        assertThat(testSchedule2.getVisitOrder()).isEqualTo(2);
+        verifyNoInteractions(scheduleEditGuard, transactionManager);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -804,7 +1215,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 12, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 22, 0))
-                .travelTime(null)
+                .travelMinutes(null)
                 .build();
 
         String originalPlaceName = accommodation.getPlaceName();
@@ -816,11 +1227,9 @@ class ScheduleServiceTest {
         when(tripRepository.findById(tripId)).thenReturn(Optional.of(testTrip));
         when(userRoomRepository.existsById(any(UserRoomId.class))).thenReturn(true);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(testRoom));
-        when(scheduleRepository.findById(100L)).thenReturn(Optional.of(accommodation));
         when(scheduleRepository.findByTripIdAndDayNumber(tripId, 1)).thenReturn(daySchedules);
-        when(scheduleRepository.findByTripIdAndDayNumber(tripId, 2)).thenReturn(Arrays.asList());
-        when(routesApiService.calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
-                .thenReturn(40);
+        when(distanceMatrixService.calculateLegTravelTimes(anyLong(), anyInt(), any(), anyList(), anyCollection()))
+                .thenAnswer(dirtyLegsOf(40));
         when(routesApiService.formatMinutesToReadable(anyInt())).thenReturn("40분");
 
         // when
@@ -841,12 +1250,18 @@ class ScheduleServiceTest {
 
         // then
         assertThat(response).isNotNull();
-        // 미리보기에서는 값이 변경되었지만 트랜잭션 롤백으로 인해 DB에 저장되지 않음을 확인
-        assertThat(accommodation.getPlaceName()).isEqualTo("신라호텔");
-        assertThat(accommodation.getLatitude()).isEqualTo(37.5555);
-        assertThat(accommodation.getLongitude()).isEqualTo(126.9999);
-
-        verify(routesApiService, atLeastOnce()).calculateTravelTime(anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(TravelMode.DRIVE));
+        assertThat(response.getSchedules()).hasSize(2);
+        assertThat(response.getSchedules().get(1).getDisplayName()).isEqualTo("신라호텔");
+        assertThat(response.getSchedules().get(0).getTravelTime()).isEqualTo(40);
+
+        // 미리보기는 메모리에서만 계산하므로 엔티티와 DB는 그대로
+        assertThat(accommodation.getPlaceName()).isEqualTo(originalPlaceName);
+        assertThat(accommodation.getLatitude()).isEqualTo(originalLatitude);
+        assertThat(accommodation.getLongitude()).isEqualTo(originalLongitude);
+        assertThat(testSchedule1.getTravelMinutes()).isEqualTo(30);
+        verify(scheduleRepository, never()).save(any());
+        verify(scheduleRepository, never()).saveAll(any());
+        verify(scheduleRepository, never()).deleteAll(any());
     }
 
     @Test
@@ -867,7 +1282,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 9, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 10, 0))
-                .travelTime("30분")
+                .travelMinutes(30)
                 .estimatedCost(50000)
                 .costExplanation("입장료 및 식사 비용 포함")
                 .build();
@@ -907,7 +1322,7 @@ class ScheduleServiceTest {
                 .isVisit(false)
                 .arrival(LocalDateTime.of(2025, 1, 1, 9, 0))
                 .departure(LocalDateTime.of(2025, 1, 1, 10, 0))
-                .travelTime("30분")
+                .travelMinutes(30)
                 .estimatedCost(null)
                 .costExplanation(null)
                 .build();
@@ -0,0 +1,82 @@
+package triB.triB.schedule.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import triB.triB.global.batch.BatchJobResult;
+import triB.triB.global.batch.BatchJobRunner;
+import triB.triB.global.batch.ChunkResult;
+import triB.triB.schedule.repository.TripRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TripStatusScheduler 단위 테스트")
+class TripStatusSchedulerTest {
+
+    @Mock
+    private TripRepository tripRepository;
+
+    @Mock
+    private BatchJobRunner batchJobRunner;
+
+    private TripStatusScheduler tripStatusScheduler;
+
+    @BeforeEach
+    void setUp() {
+        tripStatusScheduler = new TripStatusScheduler(tripRepository, batchJobRunner);
+    }
+
+    @Test
+    @DisplayName("청크 처리 - runId 날짜 기준으로 afterId 이후 대상만 조회해 한 번에 변경")
+    void processChunk_AcceptsReadyTrips() {
+        // given
+        LocalDate today = LocalDate.of(2025, 10, 1);
+        when(tripRepository.findReadyTripIdsBeforeEndDate(eq(100L), eq(today), any(Limit.class)))
+                .thenReturn(List.of(101L, 105L, 110L));
+        when(tripRepository.acceptReadyTrips(List.of(101L, 105L, 110L))).thenReturn(2);
+
+        // when
+        ChunkResult result = tripStatusScheduler.processChunk("2025-10-01", 100L, 3);
+
+        // then: 마지막 id가 다음 청크 시작점
+        assertThat(result).isEqualTo(new ChunkResult(110L, 3, 2));
+        ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+        verify(tripRepository).findReadyTripIdsBeforeEndDate(eq(100L), eq(today), limit.capture());
+        assertThat(limit.getValue().max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("청크 처리 - 대상이 없으면 null (변경 쿼리 없음)")
+    void processChunk_NoTargets() {
+        when(tripRepository.findReadyTripIdsBeforeEndDate(anyLong(), any(LocalDate.class), any(Limit.class)))
+                .thenReturn(List.of());
+
+        ChunkResult result = tripStatusScheduler.processChunk("2025-10-01", 0L, 1000);
+
+        assertThat(result).isNull();
+        verify(tripRepository, never()).acceptReadyTrips(anyList());
+    }
+
+    @Test
+    @DisplayName("수동 실행 - 오늘 날짜를 runId로 실행하고 변경 건수 반환")
+    void updatePastTripStatusesManually_UsesTodayAsRunId() {
+        // given
+        when(batchJobRunner.run(tripStatusScheduler, LocalDate.now().toString()))
+                .thenReturn(new BatchJobResult("trip-status", 1, 3, 2, 0, Duration.ZERO, false));
+
+        // when & then
+        assertThat(tripStatusScheduler.updatePastTripStatusesManually()).isEqualTo(2);
+    }
+}